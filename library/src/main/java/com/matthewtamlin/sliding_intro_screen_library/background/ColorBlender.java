@@ -25,6 +25,13 @@ import com.matthewtamlin.android_utilities_library.helpers.ColorHelper;
  * page has a color associated with it, which will be displayed when that page is fully selected.
  * When the scrolling is between pages, the colors are blended together to create a continuous color
  * effect.
+ * <p/>
+ * By default the colors are blended exactly for every scroll update. Alternatively a resolution can
+ * be supplied at construction, in which case the blended colors between each pair of pages are
+ * precomputed into a lookup table and the nearest precomputed color is used. In either case, the
+ * background is only updated when the color differs from the color most recently applied to the
+ * same View. The background of the View should therefore not be changed by other means while the
+ * ColorBlender is in use.
  */
 public class ColorBlender implements BackgroundManager {
 	/**
@@ -33,9 +40,34 @@ public class ColorBlender implements BackgroundManager {
 	private final int[] colors;
 
 	/**
-	 * Constructs a new ColorBlender. The length of the array must match the number of pages in the
-	 * IntroActivity this BackgroundManager is used with. The colors are mapped to the pages using
-	 * the ordering of the array (e.g. page 1 maps to the color at index 0).
+	 * The number of precomputed colors between each pair of adjacent pages, 0 if colors are
+	 * blended exactly.
+	 */
+	private final int resolution;
+
+	/**
+	 * The precomputed colors, null if colors are blended exactly. The colors between page {@code
+	 * i} and page {@code i + 1} begin at index {@code i * resolution}, and the final element is the
+	 * color of the last page.
+	 */
+	private final int[] lookupTable;
+
+	/**
+	 * The View which the background was most recently applied to, null if no background has been
+	 * applied.
+	 */
+	private View lastBackground = null;
+
+	/**
+	 * The color most recently applied to {@code lastBackground}.
+	 */
+	private int lastColor;
+
+	/**
+	 * Constructs a new ColorBlender which blends colors exactly. The length of the array must match
+	 * the number of pages in the IntroActivity this BackgroundManager is used with. The colors are
+	 * mapped to the pages using the ordering of the array (e.g. page 1 maps to the color at index
+	 * 0).
 	 *
 	 * @param colors
 	 * 		the background colors to use, not null
@@ -43,13 +75,47 @@ public class ColorBlender implements BackgroundManager {
 	 * 		if {@code colors} is null or if the length of colors is less than 1
 	 */
 	public ColorBlender(final int[] colors) {
-		if (colors == null) {
-			throw new IllegalArgumentException("colors cannot be null");
-		} else if (colors.length == 0) {
-			throw new IllegalArgumentException("colors must have at least one element");
+		checkColors(colors);
+
+		this.colors = colors;
+		this.resolution = 0;
+		this.lookupTable = null;
+	}
+
+	/**
+	 * Constructs a new ColorBlender which uses a lookup table of precomputed colors. The length of
+	 * the array must match the number of pages in the IntroActivity this BackgroundManager is used
+	 * with. The colors are mapped to the pages using the ordering of the array (e.g. page 1 maps to
+	 * the color at index 0). Higher resolutions produce smoother transitions at the cost of memory,
+	 * and a resolution of 256 is indistinguishable from exact blending.
+	 *
+	 * @param colors
+	 * 		the background colors to use, not null
+	 * @param resolution
+	 * 		the number of precomputed colors between each pair of adjacent pages, at least 1
+	 * @throws IllegalArgumentException
+	 * 		if {@code colors} is null, if the length of colors is less than 1, or if {@code
+	 * 		resolution} is less than 1
+	 */
+	public ColorBlender(final int[] colors, final int resolution) {
+		checkColors(colors);
+
+		if (resolution < 1) {
+			throw new IllegalArgumentException("resolution cannot be less than 1");
 		}
 
 		this.colors = colors;
+		this.resolution = resolution;
+		this.lookupTable = new int[(colors.length - 1) * resolution + 1];
+
+		for (int page = 0; page < colors.length - 1; page++) {
+			for (int step = 0; step < resolution; step++) {
+				lookupTable[page * resolution + step] = ColorHelper.blendColors(colors[page],
+						colors[page + 1], (float) step / resolution);
+			}
+		}
+
+		lookupTable[lookupTable.length - 1] = colors[colors.length - 1];
 	}
 
 	@Override
@@ -59,6 +125,28 @@ public class ColorBlender implements BackgroundManager {
 			throw new IllegalArgumentException("index is too large");
 		}
 
+		final int color = (lookupTable == null) ?
+				blendColors(index, offset) :
+				lookupColor(index, offset);
+
+		// Scroll updates often arrive without the color changing
+		if (background != lastBackground || color != lastColor) {
+			background.setBackgroundColor(color);
+			lastBackground = background;
+			lastColor = color;
+		}
+	}
+
+	/**
+	 * Blends the colors of two adjacent pages exactly.
+	 *
+	 * @param index
+	 * 		the index of the left page
+	 * @param offset
+	 * 		the fraction of the right page which is visible
+	 * @return the blended color
+	 */
+	private int blendColors(final int index, final float offset) {
 		// The left color is always directly referenced by index
 		final int colorLeft = colors[index];
 
@@ -66,7 +154,40 @@ public class ColorBlender implements BackgroundManager {
 		final boolean isLast = index == colors.length - 1;
 		final int colorRight = isLast ? colors[index] : colors[index + 1];
 
-		// Blend the colors to make the final background color
-		background.setBackgroundColor(ColorHelper.blendColors(colorLeft, colorRight, offset));
+		return ColorHelper.blendColors(colorLeft, colorRight, offset);
+	}
+
+	/**
+	 * Finds the precomputed color nearest to the blend of two adjacent pages.
+	 *
+	 * @param index
+	 * 		the index of the left page
+	 * @param offset
+	 * 		the fraction of the right page which is visible
+	 * @return the precomputed color
+	 */
+	private int lookupColor(final int index, final float offset) {
+		// There is nothing to blend with beyond the last page
+		if (index == colors.length - 1) {
+			return lookupTable[lookupTable.length - 1];
+		}
+
+		return lookupTable[index * resolution + Math.round(offset * resolution)];
+	}
+
+	/**
+	 * Checks that the supplied colors can be used by a ColorBlender.
+	 *
+	 * @param colors
+	 * 		the colors to check
+	 * @throws IllegalArgumentException
+	 * 		if {@code colors} is null or if the length of colors is less than 1
+	 */
+	private static void checkColors(final int[] colors) {
+		if (colors == null) {
+			throw new IllegalArgumentException("colors cannot be null");
+		} else if (colors.length == 0) {
+			throw new IllegalArgumentException("colors must have at least one element");
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.background;
+
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.LinearGradient;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.Shader;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.GradientDrawable.Orientation;
+import android.view.View;
+
+/**
+ * A GradientBlender is a BackgroundManager which presents a variable gradient as the background.
+ * Each page has a gradient associated with it, which will be displayed when that page is fully
+ * selected. When the scrolling is between pages, the gradients are blended together to create a
+ * continuous effect.
+ * <p/>
+ * The background is drawn by a single Drawable which is owned by the GradientBlender. The shader
+ * for each page is built when the size of the background changes, and scroll updates simply record
+ * the scroll position and invalidate the Drawable. The left page is drawn opaquely and the right
+ * page is drawn over it with an alpha equal to the scroll offset, which gives the same result as
+ * blending the gradient colors point by point. As a result, {@link #updateBackground(View, int,
+ * float)} does not allocate any objects. Since the Drawable is shared, a GradientBlender should
+ * only be used with one View at a time.
+ */
+public class GradientBlender implements BackgroundManager {
+	/**
+	 * The maximum alpha value of a Paint.
+	 */
+	private static final int OPAQUE = 255;
+
+	/**
+	 * The colors of each gradient, indexed by page.
+	 */
+	private final int[][] gradients;
+
+	/**
+	 * The direction of the gradients.
+	 */
+	private final Orientation orientation;
+
+	/**
+	 * Draws the blended gradients.
+	 */
+	private final BlendDrawable drawable = new BlendDrawable();
+
+	/**
+	 * Constructs a new GradientBlender. The length of the array must match the number of pages in
+	 * the IntroActivity this BackgroundManager is used with. The gradients are mapped to the pages
+	 * using the ordering of the array (e.g. page 1 maps to the gradient at index 0). The colors of
+	 * each gradient are evenly distributed, and the gradients do not need to have the same number
+	 * of colors.
+	 *
+	 * @param gradients
+	 * 		the colors of each gradient, each containing at least two colors, not null
+	 * @param orientation
+	 * 		the direction of the gradients, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code gradients} is null, if the length of gradients is less than 1, if any gradient
+	 * 		is null or has fewer than two colors, or if {@code orientation} is null
+	 */
+	public GradientBlender(final int[][] gradients, final Orientation orientation) {
+		if (gradients == null) {
+			throw new IllegalArgumentException("gradients cannot be null");
+		} else if (gradients.length == 0) {
+			throw new IllegalArgumentException("gradients must have at least one element");
+		} else if (orientation == null) {
+			throw new IllegalArgumentException("orientation cannot be null");
+		}
+
+		for (final int[] gradient : gradients) {
+			if (gradient == null || gradient.length < 2) {
+				throw new IllegalArgumentException("each gradient must have at least two colors");
+			}
+		}
+
+		this.gradients = gradients;
+		this.orientation = orientation;
+	}
+
+	@Override
+	@SuppressWarnings("deprecation") // setBackground(Drawable) requires API 16
+	public void updateBackground(final View background, final int index, final float offset) {
+		// Check that index doesn't exceed array bounds before progressing
+		if (index > gradients.length - 1) {
+			throw new IllegalArgumentException("index is too large");
+		}
+
+		if (background.getBackground() != drawable) {
+			background.setBackgroundDrawable(drawable);
+		}
+
+		drawable.setScrollPosition(index, offset);
+	}
+
+	/**
+	 * Draws the gradient of the left page, and then draws the gradient of the right page over it
+	 * with an alpha equal to the scroll offset.
+	 */
+	private class BlendDrawable extends Drawable {
+		/**
+		 * Draws the gradients. The shader and alpha are changed in place for each gradient.
+		 */
+		private final Paint paint = new Paint();
+
+		/**
+		 * The shader for each page, indexed by page. The shaders are rebuilt when the bounds
+		 * change, and are null until the bounds are first set.
+		 */
+		private final Shader[] shaders = new Shader[gradients.length];
+
+		/**
+		 * The index of the current left page.
+		 */
+		private int index = 0;
+
+		/**
+		 * The fraction of the right page which is currently visible.
+		 */
+		private float offset = 0;
+
+		/**
+		 * Records the scroll position, and redraws the gradients if the position has changed.
+		 *
+		 * @param index
+		 * 		the index of the current left page
+		 * @param offset
+		 * 		the fraction of the right page which is currently visible
+		 */
+		public void setScrollPosition(final int index, final float offset) {
+			if (index != this.index || offset != this.offset) {
+				this.index = index;
+				this.offset = offset;
+				invalidateSelf();
+			}
+		}
+
+		@Override
+		protected void onBoundsChange(final Rect bounds) {
+			super.onBoundsChange(bounds);
+
+			final boolean fromRight = orientation == Orientation.RIGHT_LEFT ||
+					orientation == Orientation.TR_BL || orientation == Orientation.BR_TL;
+			final boolean toRight = orientation == Orientation.LEFT_RIGHT ||
+					orientation == Orientation.TL_BR || orientation == Orientation.BL_TR;
+			final boolean fromBottom = orientation == Orientation.BOTTOM_TOP ||
+					orientation == Orientation.BL_TR || orientation == Orientation.BR_TL;
+			final boolean toBottom = orientation == Orientation.TOP_BOTTOM ||
+					orientation == Orientation.TL_BR || orientation == Orientation.TR_BL;
+
+			final float x0 = fromRight ? bounds.right : bounds.left;
+			final float y0 = fromBottom ? bounds.bottom : bounds.top;
+			final float x1 = toRight ? bounds.right : bounds.left;
+			final float y1 = toBottom ? bounds.bottom : bounds.top;
+
+			for (int i = 0; i < gradients.length; i++) {
+				shaders[i] = new LinearGradient(x0, y0, x1, y1, gradients[i], null,
+						Shader.TileMode.CLAMP);
+			}
+		}
+
+		@Override
+		public void draw(final Canvas canvas) {
+			if (shaders[index] == null) {
+				return;
+			}
+
+			paint.setShader(shaders[index]);
+			paint.setAlpha(OPAQUE);
+			canvas.drawRect(getBounds(), paint);
+
+			// There is nothing to blend with beyond the last page
+			if (offset > 0 && index < shaders.length - 1) {
+				paint.setShader(shaders[index + 1]);
+				paint.setAlpha(Math.round(offset * OPAQUE));
+				canvas.drawRect(getBounds(), paint);
+			}
+		}
+
+		@Override
+		public void setAlpha(final int alpha) {
+			// The alpha of the paint is controlled by the scroll position
+		}
+
+		@Override
+		public void setColorFilter(final ColorFilter colorFilter) {
+			paint.setColorFilter(colorFilter);
+			invalidateSelf();
+		}
+
+		@Override
+		public int getOpacity() {
+			return PixelFormat.TRANSLUCENT;
+		}
+	}
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.background;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.util.Log;
+import android.util.SparseArray;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An ImageBlender is a BackgroundManager which presents a variable image as the background. Each
+ * page has an image associated with it, which will be displayed when that page is fully selected.
+ * When the scrolling is between pages, the images are cross-faded to create a continuous effect.
+ * <p/>
+ * The images are supplied by an {@link ImageLoader}, which is called on a background thread. Each
+ * loaded image is scaled to fill the background View (cropping if necessary) before it is
+ * displayed, so no scaling occurs when drawing. At most the images of the current left page and
+ * right page are kept in memory, and the images of upcoming pages are loaded as the user moves
+ * through the pages. The images are displayed in two ImageViews which are inserted at the back of
+ * the background View, therefore the background View must be a ViewGroup. The front ImageView is
+ * faded in on a hardware layer while scrolling, which means that the images do not need to be
+ * redrawn during the fade. A page is displayed without an image until its image is loaded.
+ * <p/>
+ * An ImageBlender should only be used with one View at a time. Once the ImageBlender is no longer
+ * needed, call {@link #shutdown()} to stop the background thread.
+ */
+public class ImageBlender implements BackgroundManager {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	private static final String TAG = "[ImageBlender]";
+
+	/**
+	 * The number of pages which have images.
+	 */
+	private final int pageCount;
+
+	/**
+	 * Loads the image of each page.
+	 */
+	private final ImageLoader imageLoader;
+
+	/**
+	 * Delivers loaded images to the UI thread.
+	 */
+	private final Handler uiHandler = new Handler(Looper.getMainLooper());
+
+	/**
+	 * The scaled images which are currently in memory, mapped to the index of their page. Only
+	 * accessed on the UI thread.
+	 */
+	private final SparseArray<Bitmap> residentImages = new SparseArray<>(2);
+
+	/**
+	 * The pages with an image load in progress. Only accessed on the UI thread.
+	 */
+	private final SparseArray<Boolean> pendingImages = new SparseArray<>(2);
+
+	/**
+	 * Runs the image loads, null until the first load is requested.
+	 */
+	private ExecutorService executor = null;
+
+	/**
+	 * The View the images are displayed in, null until the first update.
+	 */
+	private ViewGroup background = null;
+
+	/**
+	 * Displays the image of the left page.
+	 */
+	private ImageView backImageView = null;
+
+	/**
+	 * Displays the image of the right page, faded in by the scroll offset.
+	 */
+	private ImageView frontImageView = null;
+
+	/**
+	 * The width which the images are scaled to, 0 if the background has not been laid out.
+	 */
+	private int imageWidth = 0;
+
+	/**
+	 * The height which the images are scaled to, 0 if the background has not been laid out.
+	 */
+	private int imageHeight = 0;
+
+	/**
+	 * Incremented whenever the image size changes, so that images scaled to an old size are
+	 * discarded when they arrive.
+	 */
+	private int generation = 0;
+
+	/**
+	 * The index of the current left page, -1 if no update has occurred.
+	 */
+	private int index = -1;
+
+	/**
+	 * The fraction of the right page which is currently visible.
+	 */
+	private float offset = 0;
+
+	/**
+	 * Constructs a new ImageBlender. The page count must match the number of pages in the
+	 * IntroActivity this BackgroundManager is used with.
+	 *
+	 * @param pageCount
+	 * 		the number of pages, at least 1
+	 * @param imageLoader
+	 * 		loads the image of each page, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code pageCount} is less than 1 or if {@code imageLoader} is null
+	 */
+	public ImageBlender(final int pageCount, final ImageLoader imageLoader) {
+		if (pageCount < 1) {
+			throw new IllegalArgumentException("pageCount cannot be less than 1");
+		} else if (imageLoader == null) {
+			throw new IllegalArgumentException("imageLoader cannot be null");
+		}
+
+		this.pageCount = pageCount;
+		this.imageLoader = imageLoader;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalArgumentException
+	 * 		if {@code background} is not a ViewGroup
+	 */
+	@Override
+	public void updateBackground(final View background, final int index, final float offset) {
+		// Check that index doesn't exceed array bounds before progressing
+		if (index > pageCount - 1) {
+			throw new IllegalArgumentException("index is too large");
+		} else if (!(background instanceof ViewGroup)) {
+			throw new IllegalArgumentException("background must be a ViewGroup");
+		}
+
+		if (background != this.background) {
+			attachImageViews((ViewGroup) background);
+		}
+
+		final boolean pageChanged = index != this.index;
+		this.index = index;
+		this.offset = offset;
+
+		if (pageChanged) {
+			requestImages();
+			displayImages();
+		}
+
+		updateFade();
+	}
+
+	/**
+	 * Stops the background thread and releases the images. Loads which are in progress are
+	 * discarded. The ImageBlender can continue to be used afterwards, in which case a new
+	 * background thread is started.
+	 */
+	public void shutdown() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+
+		generation++;
+		residentImages.clear();
+		pendingImages.clear();
+		displayImages();
+	}
+
+	/**
+	 * Inserts the ImageViews at the back of the supplied View, removing them from the previous
+	 * View if necessary.
+	 *
+	 * @param newBackground
+	 * 		the View to display the images in, not null
+	 */
+	private void attachImageViews(final ViewGroup newBackground) {
+		if (background != null) {
+			background.removeView(frontImageView);
+			background.removeView(backImageView);
+		}
+
+		background = newBackground;
+		backImageView = createImageView();
+		frontImageView = createImageView();
+
+		// Index 0 places the images behind all existing children
+		final ViewGroup.LayoutParams params = new ViewGroup.LayoutParams(
+				ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
+		background.addView(frontImageView, 0, params);
+		background.addView(backImageView, 0, params);
+
+		// The images can only be scaled once the size of the background is known
+		background.addOnLayoutChangeListener(new View.OnLayoutChangeListener() {
+			@Override
+			public void onLayoutChange(final View v, final int left, final int top,
+					final int right, final int bottom, final int oldLeft, final int oldTop,
+					final int oldRight, final int oldBottom) {
+				if (v != background) {
+					v.removeOnLayoutChangeListener(this);
+				} else {
+					onSizeChanged(right - left, bottom - top);
+				}
+			}
+		});
+
+		onSizeChanged(background.getWidth(), background.getHeight());
+	}
+
+	/**
+	 * @return a new ImageView for displaying a scaled image, not null
+	 */
+	private ImageView createImageView() {
+		final ImageView imageView = new ImageView(background.getContext());
+
+		// The images are already scaled to the exact size of the View
+		imageView.setScaleType(ImageView.ScaleType.CENTER);
+
+		return imageView;
+	}
+
+	/**
+	 * Discards the images if the size of the background has changed, and reloads them at the new
+	 * size.
+	 *
+	 * @param width
+	 * 		the new width of the background, measured in pixels
+	 * @param height
+	 * 		the new height of the background, measured in pixels
+	 */
+	private void onSizeChanged(final int width, final int height) {
+		if (width == imageWidth && height == imageHeight) {
+			return;
+		}
+
+		imageWidth = width;
+		imageHeight = height;
+		generation++;
+		residentImages.clear();
+		pendingImages.clear();
+
+		requestImages();
+		displayImages();
+	}
+
+	/**
+	 * Evicts the images which are not adjacent to the current left page, and requests the images
+	 * of the current left and right pages if they are not already in memory.
+	 */
+	private void requestImages() {
+		if (index == -1) {
+			return;
+		}
+
+		for (int i = residentImages.size() - 1; i >= 0; i--) {
+			final int page = residentImages.keyAt(i);
+
+			if (page != index && page != index + 1) {
+				residentImages.removeAt(i);
+			}
+		}
+
+		requestImage(index);
+
+		if (index + 1 < pageCount) {
+			requestImage(index + 1);
+		}
+	}
+
+	/**
+	 * Loads and scales the image of a page on the background thread, unless the image is already
+	 * in memory or being loaded.
+	 *
+	 * @param page
+	 * 		the index of the page to load the image for
+	 */
+	private void requestImage(final int page) {
+		if (imageWidth == 0 || imageHeight == 0 || residentImages.get(page) != null ||
+				pendingImages.get(page) != null) {
+			return;
+		}
+
+		if (executor == null) {
+			executor = Executors.newSingleThreadExecutor();
+		}
+
+		pendingImages.put(page, Boolean.TRUE);
+
+		final int width = imageWidth;
+		final int height = imageHeight;
+		final int requestGeneration = generation;
+
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				// Loading must never compete with the UI thread
+				Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+
+				Bitmap scaledImage = null;
+
+				try {
+					final Bitmap image = imageLoader.loadImage(page, width, height);
+					scaledImage = (image == null) ? null : scaleToFill(image, width, height);
+				} catch (final RuntimeException e) {
+					// An uncaught exception would kill the process, so the page is left blank
+					Log.e(TAG, "[Failed to load image for page " + page + "]", e);
+				}
+
+				// The load must be marked as finished even if it failed, so it can be retried
+				final Bitmap loadedImage = scaledImage;
+
+				uiHandler.post(new Runnable() {
+					@Override
+					public void run() {
+						onImageLoaded(page, loadedImage, requestGeneration);
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Stores a loaded image and displays it if its page is still adjacent to the current page.
+	 *
+	 * @param page
+	 * 		the index of the page the image belongs to
+	 * @param image
+	 * 		the scaled image, null if the page has no image
+	 * @param requestGeneration
+	 * 		the value of {@code generation} when the image was requested
+	 */
+	private void onImageLoaded(final int page, final Bitmap image, final int requestGeneration) {
+		if (requestGeneration != generation) {
+			return;
+		}
+
+		pendingImages.remove(page);
+
+		if (image != null && (page == index || page == index + 1)) {
+			residentImages.put(page, image);
+			displayImages();
+		}
+	}
+
+	/**
+	 * Displays the images of the current left and right pages.
+	 */
+	private void displayImages() {
+		if (background == null) {
+			return;
+		}
+
+		setImage(backImageView, residentImages.get(index));
+		setImage(frontImageView, residentImages.get(index + 1));
+	}
+
+	/**
+	 * Sets the image of an ImageView if it differs from the current image.
+	 *
+	 * @param imageView
+	 * 		the ImageView to update, not null
+	 * @param image
+	 * 		the image to display, null to display nothing
+	 */
+	private void setImage(final ImageView imageView, final Bitmap image) {
+		if (imageView.getTag() != image) {
+			imageView.setImageBitmap(image);
+			imageView.setTag(image);
+		}
+	}
+
+	/**
+	 * Fades in the front ImageView according to the scroll offset. The front ImageView uses a
+	 * hardware layer while it is partially visible, so that changing the alpha does not redraw
+	 * the image.
+	 */
+	private void updateFade() {
+		final boolean blending = offset > 0;
+		final int layerType = blending ? View.LAYER_TYPE_HARDWARE : View.LAYER_TYPE_NONE;
+
+		if (frontImageView.getLayerType() != layerType) {
+			frontImageView.setLayerType(layerType, null);
+		}
+
+		frontImageView.setAlpha(offset);
+	}
+
+	/**
+	 * Scales an image so that it fills the supplied size, cropping the excess equally from each
+	 * side. The image is drawn directly into a Bitmap of the supplied size, so no intermediate
+	 * Bitmap is allocated at the uncropped size.
+	 *
+	 * @param image
+	 * 		the image to scale, not null
+	 * @param width
+	 * 		the width to fill, measured in pixels
+	 * @param height
+	 * 		the height to fill, measured in pixels
+	 * @return an image with exactly the supplied size, not null
+	 */
+	private static Bitmap scaleToFill(final Bitmap image, final int width, final int height) {
+		if (image.getWidth() == width && image.getHeight() == height) {
+			return image;
+		}
+
+		final float scale = Math.max((float) width / image.getWidth(),
+				(float) height / image.getHeight());
+
+		// Scale about the origin, then centre the scaled image so the excess is cropped evenly
+		final Matrix matrix = new Matrix();
+		matrix.setScale(scale, scale);
+		matrix.postTranslate((width - image.getWidth() * scale) / 2,
+				(height - image.getHeight() * scale) / 2);
+
+		final Bitmap.Config config = (image.getConfig() == null) ?
+				Bitmap.Config.ARGB_8888 :
+				image.getConfig();
+		final Bitmap scaledImage = Bitmap.createBitmap(width, height, config);
+
+		new Canvas(scaledImage).drawBitmap(image, matrix, new Paint(Paint.FILTER_BITMAP_FLAG));
+
+		return scaledImage;
+	}
+
+	/**
+	 * Loads the images displayed by an {@link ImageBlender}.
+	 */
+	public interface ImageLoader {
+		/**
+		 * Loads the image of a page. This method is called on a background thread, and must not
+		 * access any Views. The image is scaled to fill the supplied size after it is returned,
+		 * so the size can be used to decode a smaller image where possible (e.g. using {@link
+		 * android.graphics.BitmapFactory.Options#inSampleSize}). The returned image must not be
+		 * modified or recycled afterwards. If this method throws a RuntimeException, then the
+		 * exception is logged, the page is displayed without an image, and the image is loaded
+		 * again the next time it is needed.
+		 *
+		 * @param index
+		 * 		the index of the page to load the image for
+		 * @param width
+		 * 		the width the image will be displayed at, measured in pixels
+		 * @param height
+		 * 		the height the image will be displayed at, measured in pixels
+		 * @return the image, null if the page has no image
+		 */
+		Bitmap loadImage(int index, int width, int height);
+	}
+}
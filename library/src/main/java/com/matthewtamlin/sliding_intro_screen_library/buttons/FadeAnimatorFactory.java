@@ -17,13 +17,16 @@
 package com.matthewtamlin.sliding_intro_screen_library.buttons;
 
 import android.animation.Animator;
-import android.animation.ValueAnimator;
+import android.animation.ObjectAnimator;
 import android.view.View;
 
 /**
  * Creates fade in effects for appearing buttons and fade out effects for disappearing buttons.
+ * Fade ins start from fully transparent and fade outs start from fully opaque. Calling {@link
+ * Animator#setupStartValues()} before starting a fade makes it start from the current alpha of the
+ * button instead, so the Animators can be reused.
  */
-public class FadeAnimatorFactory implements AnimatorFactory {
+public class FadeAnimatorFactory implements ReusableAnimatorFactory {
 	@Override
 	public Animator newLeftButtonAppearAnimator(final View leftButton) {
 		return createFade(leftButton, 0, 1);
@@ -55,8 +58,9 @@ public class FadeAnimatorFactory implements AnimatorFactory {
 	}
 
 	/**
-	 * Creates an animation which fades a button by gradually changing its alpha level. The duration
-	 * of the animation is not set.
+	 * Creates an animation which fades a button by gradually changing its alpha level. The start
+	 * alpha is replaced by the current alpha of the button if {@link Animator#setupStartValues()}
+	 * is called. The duration of the animation is not set.
 	 *
 	 * @param button
 	 * 		the button to animate
@@ -67,16 +71,6 @@ public class FadeAnimatorFactory implements AnimatorFactory {
 	 * @return the fade animation, not null
 	 */
 	private Animator createFade(final View button, final float startAlpha, final float endAlpha) {
-		final ValueAnimator fadeAnimator = ValueAnimator.ofFloat(startAlpha, endAlpha);
-
-		fadeAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-			@Override
-			public void onAnimationUpdate(ValueAnimator animation) {
-				final float value = (Float) animation.getAnimatedValue();
-				button.setAlpha(value);
-			}
-		});
-
-		return fadeAnimator;
+		return ObjectAnimator.ofFloat(button, "alpha", startAlpha, endAlpha);
 	}
 }
\ No newline at end of file
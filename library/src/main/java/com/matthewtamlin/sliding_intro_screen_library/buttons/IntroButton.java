@@ -29,6 +29,7 @@ import android.widget.Button;
 
 import com.matthewtamlin.sliding_intro_screen_library.R;
 import com.matthewtamlin.sliding_intro_screen_library.core.IntroActivity;
+import com.matthewtamlin.sliding_intro_screen_library.core.IntroNavigator;
 
 import java.util.HashMap;
 
@@ -94,6 +95,11 @@ public class IntroButton extends Button {
 	 */
 	private IntroActivity activity;
 
+	/**
+	 * The IntroNavigator to use for navigation Behaviours, null to use the activity.
+	 */
+	private IntroNavigator navigator;
+
 	/**
 	 * The OnClickListener which has been registered to receive on-click events from this Button.
 	 * On-click events are delivered to this listener after they are handled by the Behaviour.
@@ -110,6 +116,11 @@ public class IntroButton extends Button {
 		public void onClick(View v) {
 			if (behaviour != null) {
 				behaviour.setActivity(activity);
+
+				if (behaviour instanceof BehaviourAdapter) {
+					((BehaviourAdapter) behaviour).setNavigator(navigator);
+				}
+
 				behaviour.run();
 			}
 
@@ -386,6 +397,27 @@ public class IntroButton extends Button {
 		return activity;
 	}
 
+	/**
+	 * Sets the IntroNavigator to be manipulated by the navigation Behaviours of this IntroButton.
+	 * This allows the button to be used in an introduction screen which is not hosted by an
+	 * IntroActivity, such as an {@link com.matthewtamlin.sliding_intro_screen_library.core
+	 * .IntroView}. To navigate using the activity instead, supply null.
+	 *
+	 * @param navigator
+	 * 		the IntroNavigator to manipulate, null allowed
+	 */
+	public void setNavigator(final IntroNavigator navigator) {
+		this.navigator = navigator;
+	}
+
+	/**
+	 * @return the IntroNavigator which is currently manipulated by this IntroButton, null if none
+	 * has been set
+	 */
+	public IntroNavigator getNavigator() {
+		return navigator;
+	}
+
 	@Override
 	public void setTextColor(final int color) {
 		super.setTextColor(color);
@@ -535,7 +567,8 @@ public class IntroButton extends Button {
 	 * in full implementations. This class features a simple getter/setter combination for the
 	 * target IntroActivity, so that subclasses simply need to implement {@code run()} and use
 	 * {@code getActivity()}. Subclasses should always perform a null check on the result of {@code
-	 * getActivity()}.
+	 * getActivity()}. Navigation Behaviours should use {@code getNavigator()} instead, so that they
+	 * also work in introduction screens which are not hosted by an IntroActivity.
 	 */
 	public abstract static class BehaviourAdapter implements Behaviour {
 		/**
@@ -543,6 +576,11 @@ public class IntroButton extends Button {
 		 */
 		private IntroActivity activity;
 
+		/**
+		 * The navigator to manipulate, null to use the activity.
+		 */
+		private IntroNavigator navigator;
+
 		@Override
 		public void setActivity(final IntroActivity activity) {
 			this.activity = activity;
@@ -552,6 +590,24 @@ public class IntroButton extends Button {
 		public IntroActivity getActivity() {
 			return activity;
 		}
+
+		/**
+		 * Sets the navigator to be manipulated by this Behaviour.
+		 *
+		 * @param navigator
+		 * 		the target navigator, null to navigate using the activity
+		 */
+		public void setNavigator(final IntroNavigator navigator) {
+			this.navigator = navigator;
+		}
+
+		/**
+		 * @return the target navigator of this Behaviour if one has been set, otherwise the target
+		 * activity, null if neither has been set
+		 */
+		public IntroNavigator getNavigator() {
+			return navigator != null ? navigator : activity;
+		}
 	}
 
 	/**
@@ -561,8 +617,8 @@ public class IntroButton extends Button {
 	public static final class GoToPreviousPage extends BehaviourAdapter {
 		@Override
 		public final void run() {
-			if (getActivity() != null) {
-				getActivity().goToPreviousPage();
+			if (getNavigator() != null) {
+				getNavigator().goToPreviousPage();
 			}
 		}
 	}
@@ -574,8 +630,8 @@ public class IntroButton extends Button {
 	public static final class GoToNextPage extends BehaviourAdapter {
 		@Override
 		public final void run() {
-			if (getActivity() != null) {
-				getActivity().goToNextPage();
+			if (getNavigator() != null) {
+				getNavigator().goToNextPage();
 			}
 		}
 	}
@@ -587,8 +643,8 @@ public class IntroButton extends Button {
 	public static final class GoToFirstPage extends BehaviourAdapter {
 		@Override
 		public final void run() {
-			if (getActivity() != null) {
-				getActivity().goToFirstPage();
+			if (getNavigator() != null) {
+				getNavigator().goToFirstPage();
 			}
 		}
 	}
@@ -600,8 +656,8 @@ public class IntroButton extends Button {
 	public static final class GoToLastPage extends BehaviourAdapter {
 		@Override
 		public final void run() {
-			if (getActivity() != null) {
-				getActivity().goToLastPage();
+			if (getNavigator() != null) {
+				getNavigator().goToLastPage();
 			}
 		}
 	}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.buttons;
+
+/**
+ * An AnimatorFactory which creates Animators that can be reused. By implementing this interface,
+ * the factory indicates that an IntroActivity may keep the Animators it returns and run them many
+ * times, rather than requesting a new Animator each time a button appears or disappears. This
+ * avoids allocating Animators and listeners while the user swipes between pages.
+ * <p/>
+ * To support reuse, each Animator returned by this factory must meet the following conditions in
+ * addition to those of {@link AnimatorFactory}: <ul><li>The Animator can be started again after it
+ * has ended or been cancelled.</li> <li>When {@link android.animation.Animator#setupStartValues()}
+ * is called before starting, the Animator begins from the current state of the button rather than
+ * a fixed value. This allows an appear animation to smoothly take over from a disappear animation
+ * which was cancelled part way through, and vice versa.</li> <li>The Animator does not hold any
+ * listeners which depend on a single use.</li></ul>
+ */
+public interface ReusableAnimatorFactory extends AnimatorFactory {}
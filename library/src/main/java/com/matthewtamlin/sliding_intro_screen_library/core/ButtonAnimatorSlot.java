@@ -0,0 +1,268 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.view.View;
+
+import com.matthewtamlin.sliding_intro_screen_library.buttons.AnimatorFactory;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.ReusableAnimatorFactory;
+
+/**
+ * Animates one of the navigation buttons of an {@link IntroActivity} as it is enabled and
+ * disabled. At most one Animator affects the button at any time, and starting a new transition
+ * cancels the current one. A single listener is shared by every Animator the slot runs. If the
+ * AnimatorFactory is a {@link ReusableAnimatorFactory}, then the appear and disappear Animators
+ * are created once and restarted from the current state of the button for each transition,
+ * otherwise new Animators are requested for each transition.
+ */
+final class ButtonAnimatorSlot {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[ButtonAnimatorSlot]";
+
+	/**
+	 * The button to animate.
+	 */
+	private final IntroButton button;
+
+	/**
+	 * Identifies which button is being animated, as one of the constants defined in {@link
+	 * ButtonStateTable}.
+	 */
+	private final int buttonId;
+
+	/**
+	 * The factory which created the cached Animators, null if no Animators are cached.
+	 */
+	private ReusableAnimatorFactory cachedFactory = null;
+
+	/**
+	 * The cached Animator for making the button appear, null if none has been cached.
+	 */
+	private Animator cachedAppearAnimator = null;
+
+	/**
+	 * The cached Animator for making the button disappear, null if none has been cached.
+	 */
+	private Animator cachedDisappearAnimator = null;
+
+	/**
+	 * The Animator currently affecting the button, null if the button is not being animated.
+	 */
+	private Animator currentAnimator = null;
+
+	/**
+	 * Whether the current transition makes the button appear (true) or disappear (false).
+	 */
+	private boolean appearing = false;
+
+	/**
+	 * Ensures that the UI is not left in a transient state when animations finish.
+	 */
+	private final AnimatorListenerAdapter listener = new AnimatorListenerAdapter() {
+		@Override
+		public void onAnimationStart(final Animator animation) {
+			// Make sure View is visible while animating
+			button.setVisibility(View.VISIBLE);
+
+			// Click events should be accepted or ignored immediately
+			button.setEnabled(appearing);
+		}
+
+		@Override
+		public void onAnimationEnd(final Animator animation) {
+			if (animation == currentAnimator) {
+				currentAnimator = null;
+			}
+
+			// If the animation doesn't properly hide the button, make sure it's invisible
+			if (!appearing) {
+				button.setVisibility(View.INVISIBLE);
+			}
+		}
+
+		@Override
+		public void onAnimationCancel(final Animator animation) {
+			// Restore the button to the state it was in before the animation
+			button.setVisibility(appearing ? View.INVISIBLE : View.VISIBLE);
+			button.setEnabled(!appearing);
+		}
+	};
+
+	/**
+	 * Constructs a new ButtonAnimatorSlot instance.
+	 *
+	 * @param button
+	 * 		the button to animate, not null
+	 * @param buttonId
+	 * 		identifies which button is being animated, must be one of the constants defined in {@link
+	 * 		ButtonStateTable}
+	 * @throws IllegalArgumentException
+	 * 		if {@code button} is null
+	 */
+	public ButtonAnimatorSlot(final IntroButton button, final int buttonId) {
+		if (button == null) {
+			throw new IllegalArgumentException("button cannot be null");
+		}
+
+		this.button = button;
+		this.buttonId = buttonId;
+	}
+
+	/**
+	 * Enables or disables the button. Any transition currently affecting the button is cancelled
+	 * first. Appear animations are delayed by the duration, to give disappear animations of other
+	 * buttons time to finish.
+	 *
+	 * @param visible
+	 * 		true to enable the button, false to disable it
+	 * @param factory
+	 * 		supplies the Animator to use, null to apply the change without animation
+	 * @param durationMs
+	 * 		the duration of the animation, measured in milliseconds
+	 */
+	public void transition(final boolean visible, final AnimatorFactory factory,
+			final long durationMs) {
+		if (currentAnimator != null) {
+			currentAnimator.cancel();
+			currentAnimator = null;
+		}
+
+		appearing = visible;
+
+		final Animator animator = (factory == null) ? null : obtainAnimator(visible, factory);
+
+		if (animator == null) {
+			button.setVisibility(visible ? View.VISIBLE : View.INVISIBLE);
+			button.setEnabled(visible);
+		} else {
+			currentAnimator = animator;
+
+			animator.setStartDelay(visible ? durationMs : 0);
+			animator.setDuration(durationMs);
+
+			// Reused Animators must continue from wherever the previous transition left the button
+			if (factory instanceof ReusableAnimatorFactory) {
+				animator.setupStartValues();
+			}
+
+			animator.start();
+		}
+	}
+
+	/**
+	 * Disables the button and applies the final state of its disappear Animator immediately, so
+	 * that a later appear animation starts from the hidden state. Unlike {@link
+	 * #transition(boolean, AnimatorFactory, long)}, no transition is shown, so a button which is
+	 * already invisible is never made visible while this method runs.
+	 *
+	 * @param factory
+	 * 		supplies the disappear Animator, null to only disable the button
+	 */
+	public void hide(final AnimatorFactory factory) {
+		if (currentAnimator != null) {
+			currentAnimator.cancel();
+			currentAnimator = null;
+		}
+
+		appearing = false;
+
+		final Animator animator = (factory == null) ? null : obtainAnimator(false, factory);
+
+		if (animator == null) {
+			button.setVisibility(View.INVISIBLE);
+			button.setEnabled(false);
+		} else {
+			// Ending the Animator applies its end values and runs the listener synchronously
+			animator.setStartDelay(0);
+			animator.end();
+		}
+	}
+
+	/**
+	 * Returns an Animator for the next transition, reusing a cached Animator if possible.
+	 *
+	 * @param visible
+	 * 		true to get an appear Animator, false to get a disappear Animator
+	 * @param factory
+	 * 		supplies the Animator if it is not cached, not null
+	 * @return the Animator, not null
+	 */
+	private Animator obtainAnimator(final boolean visible, final AnimatorFactory factory) {
+		if (!(factory instanceof ReusableAnimatorFactory)) {
+			final Animator animator = newAnimator(visible, factory);
+			animator.addListener(listener);
+			return animator;
+		}
+
+		// Animators from a previous factory must not be mixed with those of the current factory
+		if (factory != cachedFactory) {
+			cachedFactory = (ReusableAnimatorFactory) factory;
+			cachedAppearAnimator = null;
+			cachedDisappearAnimator = null;
+		}
+
+		if (visible) {
+			if (cachedAppearAnimator == null) {
+				cachedAppearAnimator = newAnimator(true, factory);
+				cachedAppearAnimator.addListener(listener);
+			}
+
+			return cachedAppearAnimator;
+		} else {
+			if (cachedDisappearAnimator == null) {
+				cachedDisappearAnimator = newAnimator(false, factory);
+				cachedDisappearAnimator.addListener(listener);
+			}
+
+			return cachedDisappearAnimator;
+		}
+	}
+
+	/**
+	 * Requests a new Animator from the supplied factory.
+	 *
+	 * @param visible
+	 * 		true to request an appear Animator, false to request a disappear Animator
+	 * @param factory
+	 * 		the factory to request the Animator from, not null
+	 * @return the Animator, not null
+	 */
+	private Animator newAnimator(final boolean visible, final AnimatorFactory factory) {
+		switch (buttonId) {
+			case ButtonStateTable.LEFT_BUTTON: {
+				return visible ? factory.newLeftButtonAppearAnimator(button) :
+						factory.newLeftButtonDisappearAnimator(button);
+			}
+
+			case ButtonStateTable.RIGHT_BUTTON: {
+				return visible ? factory.newRightButtonAppearAnimator(button) :
+						factory.newRightButtonDisappearAnimator(button);
+			}
+
+			default: {
+				return visible ? factory.newFinalButtonAppearAnimator(button) :
+						factory.newFinalButtonDisappearAnimator(button);
+			}
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.view.View;
+
+import com.matthewtamlin.sliding_intro_screen_library.buttons.AnimatorFactory;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton;
+
+/**
+ * Connects an {@link IntroController} to the left, right and final IntroButtons, animating each
+ * change with a {@link ButtonAnimatorSlot}.
+ */
+final class ButtonSlotSwitcher implements IntroController.ButtonSwitcher {
+	/**
+	 * The length of time to use for button appear/disappear animations, measured in milliseconds.
+	 */
+	private static final int BUTTON_ANIMATION_DURATION_MS = 150;
+
+	/**
+	 * Animates the left button.
+	 */
+	private final ButtonAnimatorSlot leftButtonAnimations;
+
+	/**
+	 * Animates the right button.
+	 */
+	private final ButtonAnimatorSlot rightButtonAnimations;
+
+	/**
+	 * Animates the final button.
+	 */
+	private final ButtonAnimatorSlot finalButtonAnimations;
+
+	/**
+	 * The buttons which are visible at construction, as a bit mask of the button constants
+	 * defined in {@link IntroController}.
+	 */
+	private final int initialButtonState;
+
+	/**
+	 * Supplies the Animators used to make the buttons appear and disappear, null to change the
+	 * buttons without animation.
+	 */
+	private AnimatorFactory animatorFactory = null;
+
+	/**
+	 * Constructs a new ButtonSlotSwitcher instance.
+	 *
+	 * @param leftButton
+	 * 		the left button, not null
+	 * @param rightButton
+	 * 		the right button, not null
+	 * @param finalButton
+	 * 		the final button, not null
+	 * @throws IllegalArgumentException
+	 * 		if any of the buttons are null
+	 */
+	public ButtonSlotSwitcher(final IntroButton leftButton, final IntroButton rightButton,
+			final IntroButton finalButton) {
+		leftButtonAnimations = new ButtonAnimatorSlot(leftButton, IntroController.LEFT_BUTTON);
+		rightButtonAnimations = new ButtonAnimatorSlot(rightButton, IntroController.RIGHT_BUTTON);
+		finalButtonAnimations = new ButtonAnimatorSlot(finalButton, IntroController.FINAL_BUTTON);
+
+		// The initial visibility of each button is defined by the layout
+		int state = 0;
+
+		if (leftButton.getVisibility() == View.VISIBLE) {
+			state |= IntroController.LEFT_BUTTON;
+		}
+
+		if (rightButton.getVisibility() == View.VISIBLE) {
+			state |= IntroController.RIGHT_BUTTON;
+		}
+
+		if (finalButton.getVisibility() == View.VISIBLE) {
+			state |= IntroController.FINAL_BUTTON;
+		}
+
+		initialButtonState = state;
+	}
+
+	/**
+	 * @return the buttons which were visible at construction, as a bit mask of the button constants
+	 * defined in {@link IntroController}
+	 */
+	public int getInitialButtonState() {
+		return initialButtonState;
+	}
+
+	/**
+	 * Sets the AnimatorFactory to use for subsequent changes.
+	 *
+	 * @param animatorFactory
+	 * 		supplies the Animators used to make the buttons appear and disappear, null to change the
+	 * 		buttons without animation
+	 */
+	public void setAnimatorFactory(final AnimatorFactory animatorFactory) {
+		this.animatorFactory = animatorFactory;
+	}
+
+	/**
+	 * @return the AnimatorFactory used for changes, null if changes are not animated
+	 */
+	public AnimatorFactory getAnimatorFactory() {
+		return animatorFactory;
+	}
+
+	/**
+	 * Hides a button immediately, without showing a transition. The end state of the disappear
+	 * Animator is still applied, so that later appear animations display properly.
+	 *
+	 * @param button
+	 * 		the button to hide, as one of the button constants defined in {@link IntroController}
+	 */
+	public void hideButton(final int button) {
+		switch (button) {
+			case IntroController.LEFT_BUTTON: {
+				leftButtonAnimations.hide(animatorFactory);
+				break;
+			}
+
+			case IntroController.RIGHT_BUTTON: {
+				rightButtonAnimations.hide(animatorFactory);
+				break;
+			}
+
+			case IntroController.FINAL_BUTTON: {
+				finalButtonAnimations.hide(animatorFactory);
+				break;
+			}
+		}
+	}
+
+	@Override
+	public void setButtonVisible(final int button, final boolean visible) {
+		switch (button) {
+			case IntroController.LEFT_BUTTON: {
+				leftButtonAnimations.transition(visible, animatorFactory,
+						BUTTON_ANIMATION_DURATION_MS);
+				break;
+			}
+
+			case IntroController.RIGHT_BUTTON: {
+				rightButtonAnimations.transition(visible, animatorFactory,
+						BUTTON_ANIMATION_DURATION_MS);
+				break;
+			}
+
+			case IntroController.FINAL_BUTTON: {
+				finalButtonAnimations.transition(visible, animatorFactory,
+						BUTTON_ANIMATION_DURATION_MS);
+				break;
+			}
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+/**
+ * Stores which navigation buttons of an {@link IntroActivity} are visible on each page. The
+ * visibility of the left, right and final buttons on each page is compiled into a single bit mask
+ * per page whenever the number of pages or the button flags change, so that the visible buttons
+ * for any page can then be found with a single lookup.
+ */
+final class ButtonStateTable {
+	/**
+	 * Bit which is set when the left button is visible.
+	 */
+	public static final int LEFT_BUTTON = 1;
+
+	/**
+	 * Bit which is set when the right button is visible.
+	 */
+	public static final int RIGHT_BUTTON = 1 << 1;
+
+	/**
+	 * Bit which is set when the final button is visible.
+	 */
+	public static final int FINAL_BUTTON = 1 << 2;
+
+	/**
+	 * The visible buttons on each page, indexed by page.
+	 */
+	private byte[] states = new byte[0];
+
+	/**
+	 * The visible buttons for indices outside the dataset.
+	 */
+	private int defaultState = 0;
+
+	/**
+	 * Recompiles the table.
+	 *
+	 * @param pageCount
+	 * 		the number of pages, not negative
+	 * @param leftButtonDisabled
+	 * 		whether or not the left button is disabled on all pages
+	 * @param leftButtonDisabledOnLastPage
+	 * 		whether or not the left button is disabled on the last page
+	 * @param rightButtonDisabled
+	 * 		whether or not the right button is disabled on all pages
+	 * @param finalButtonDisabled
+	 * 		whether or not the final button is disabled on all pages
+	 * @throws IllegalArgumentException
+	 * 		if {@code pageCount} is less than 0
+	 */
+	public void compile(final int pageCount, final boolean leftButtonDisabled,
+			final boolean leftButtonDisabledOnLastPage, final boolean rightButtonDisabled,
+			final boolean finalButtonDisabled) {
+		if (pageCount < 0) {
+			throw new IllegalArgumentException("pageCount cannot be less than 0");
+		}
+
+		// The final button is only shown on the last page, the right button on every other page
+		int otherPageState = 0;
+		int lastPageState = 0;
+
+		if (!leftButtonDisabled) {
+			otherPageState |= LEFT_BUTTON;
+
+			if (!leftButtonDisabledOnLastPage) {
+				lastPageState |= LEFT_BUTTON;
+			}
+		}
+
+		if (!rightButtonDisabled) {
+			otherPageState |= RIGHT_BUTTON;
+		}
+
+		if (!finalButtonDisabled) {
+			lastPageState |= FINAL_BUTTON;
+		}
+
+		if (states.length != pageCount) {
+			states = new byte[pageCount];
+		}
+
+		for (int i = 0; i < pageCount - 1; i++) {
+			states[i] = (byte) otherPageState;
+		}
+
+		if (pageCount > 0) {
+			states[pageCount - 1] = (byte) lastPageState;
+		}
+
+		defaultState = otherPageState;
+	}
+
+	/**
+	 * Returns the buttons which are visible on the supplied page. If the index is outside the
+	 * dataset, then the buttons for a page other than the last are returned.
+	 *
+	 * @param pageIndex
+	 * 		the index of the page
+	 * @return a bit mask of the visible buttons, composed of {@link #LEFT_BUTTON}, {@link
+	 * #RIGHT_BUTTON} and {@link #FINAL_BUTTON}
+	 */
+	public int getVisibleButtons(final int pageIndex) {
+		if (pageIndex < 0 || pageIndex >= states.length) {
+			return defaultState;
+		}
+
+		return states[pageIndex];
+	}
+}
@@ -16,15 +16,15 @@
 
 package com.matthewtamlin.sliding_intro_screen_library.core;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
 import android.graphics.Color;
 import android.os.Bundle;
 import android.support.v4.app.Fragment;
+import android.support.v4.view.ViewCompat;
 import android.support.v4.view.ViewPager;
 import android.support.v4.view.ViewPager.OnPageChangeListener;
 import android.support.v7.app.AppCompatActivity;
 import android.view.View;
+import android.view.ViewTreeObserver.OnPreDrawListener;
 import android.widget.FrameLayout;
 import android.widget.RelativeLayout;
 
@@ -35,17 +35,18 @@ import com.matthewtamlin.sliding_intro_screen_library.background.BackgroundManag
 import com.matthewtamlin.sliding_intro_screen_library.buttons.AnimatorFactory;
 import com.matthewtamlin.sliding_intro_screen_library.buttons.FadeAnimatorFactory;
 import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton;
-import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton.Appearance;
 import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton.Behaviour;
 import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButtonAccessor;
 import com.matthewtamlin.sliding_intro_screen_library.core.LockableViewPager.LockMode;
+import com.matthewtamlin.sliding_intro_screen_library.core.PageAdapter.RetentionMode;
 import com.matthewtamlin.sliding_intro_screen_library.indicators.DotIndicator;
 import com.matthewtamlin.sliding_intro_screen_library.indicators.SelectionIndicator;
+import com.matthewtamlin.sliding_intro_screen_library.transformers.ScrollStateAwareTransformer;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 
 /**
  * Displays an introduction screen to the user, consisting of a series of pages and a navigation
@@ -57,11 +58,13 @@ import java.util.HashMap;
  * <p/>
  * To use this class, subclass it and implement {@link #generatePages(Bundle)} and {@link
  * #generateFinalButtonBehaviour()}. The former method is called by onCreate method generates the
- * pages (i.e. Fragments) displayed in the introduction. Pages cannot be added or removed after this
- * method returns, however they may still be modified. The latter method is called by onCreate to
+ * pages (i.e. Fragments) displayed in the introduction. Pages can be added, removed and reordered
+ * after this method returns using {@link #insertPage(int, Fragment)}, {@link #removePage(int)} and
+ * {@link #movePage(int, int)}. The latter method is called by onCreate to
  * generate the Behaviour to assign to the button shown on the last page (see {@link IntroButton}).
  * It is recommended that an instance of the {@link IntroButton.ProgressToNextActivity} class be
- * used.
+ * used. Introductions with many pages can override {@link #generatePageProvider(Bundle)} instead
+ * of {@link #generatePages(Bundle)}, so that each page is only created when it is first needed.
  * <p/>
  * The navigation bar contains three buttons: a left button, a right button and a final button. By
  * default the left and right buttons are present on all pages but the last, and the final button is
@@ -88,8 +91,13 @@ import java.util.HashMap;
  * <ul><li>Hiding/showing the status bar.</li> <li>Programmatically changing the page.</li>
  * <li>Locking the page.</li> <li>Modifying/replacing the progress indicator.</li> <li>Setting a
  * page transformer.</li> <li>Obtaining references to the individual pages.</li></ul>
+ * <p/>
+ * To reduce the time before the activity is first displayed, staged startup can be enabled by
+ * overriding {@link #shouldUseStagedStartup()}. The duration of each phase of startup is passed to
+ * {@link #onStartupPhaseComplete(StartupPhase, long)}, which can be overridden to measure startup
+ * performance.
  */
-public abstract class IntroActivity extends AppCompatActivity {
+public abstract class IntroActivity extends AppCompatActivity implements IntroNavigator {
 	// Constants
 
 	/**
@@ -99,52 +107,38 @@ public abstract class IntroActivity extends AppCompatActivity {
 	private static final String TAG = "[IntroActivity]";
 
 	/**
-	 * Key for saving and restoring the current page on configuration changes.
-	 */
-	private static final String STATE_KEY_CURRENT_PAGE_INDEX = "current page index";
-
-	/**
-	 * The page index to use when there is no state to restore.
-	 */
-	private static final int DEFAULT_CURRENT_PAGE_INDEX = 0;
-
-	/**
-	 * The Appearance to use for the left button until it is explicitly set.
+	 * Key for saving and restoring the {@link IntroState} on configuration changes and process
+	 * death.
 	 */
-	private static final Appearance DEFAULT_LEFT_BUTTON_APPEARANCE = Appearance.TEXT_ONLY;
+	private static final String STATE_KEY_INTRO_STATE = "intro state";
 
 	/**
-	 * The Appearance to use for the right button until it is explicitly set.
+	 * Key for saving and restoring the identifiers of the pages, which are needed to find the
+	 * pages restored by the FragmentManager.
 	 */
-	private static final Appearance DEFAULT_RIGHT_BUTTON_APPEARANCE = Appearance.ICON_ONLY;
+	private static final String STATE_KEY_PAGE_IDS = "page ids";
 
 	/**
-	 * The appearance to use for the final button until it is explicitly set.
+	 * The page index to use when there is no state to restore.
 	 */
-	private static final Appearance DEFAULT_FINAL_BUTTON_APPEARANCE = Appearance.TEXT_ONLY;
+	private static final int DEFAULT_CURRENT_PAGE_INDEX = 0;
 
 	/**
-	 * The text to display in the final button until it is explicitly set.
+	 * The phases of startup which are deferred until after the first frame when staged startup is
+	 * enabled, in the order they are performed.
 	 */
-	private static final CharSequence DEFAULT_FINAL_BUTTON_TEXT = "DONE";
+	private static final StartupPhase[] DEFERRED_STARTUP_PHASES = {
+			StartupPhase.ATTACH_REMAINING_PAGES,
+			StartupPhase.CREATE_PROGRESS_INDICATOR,
+			StartupPhase.CREATE_BUTTON_ANIMATIONS};
 
-	/**
-	 * The length of time to use for button appear/disappear animations, measured in milliseconds.
-	 */
-	private static final int BUTTON_ANIMATION_DURATION_MS = 150;
 
-	/**
-	 * The Behaviour to use for the left button until it is explicitly set.
-	 */
-	private final Behaviour DEFAULT_LEFT_BUTTON_BEHAVIOUR = new IntroButton.GoToLastPage();
+	// Miscellaneous View handles
 
 	/**
-	 * The Behaviour to use for the right button until it is explicitly set.
+	 * Binds the Views of the layout, and initialises the buttons and controller.
 	 */
-	private final Behaviour DEFAULT_RIGHT_BUTTON_BEHAVIOUR = new IntroButton.GoToNextPage();
-
-
-	// Miscellaneous View handles
+	private IntroLayout introLayout;
 
 	/**
 	 * The root view of the View hierarchy.
@@ -169,15 +163,6 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 */
 	private FrameLayout progressIndicatorWrapper;
 
-	/**
-	 * Displays the user's progress through the intro screen.
-	 */
-	private SelectionIndicator progressIndicator;
-
-	/**
-	 * Whether or not changes in the progress indicator should be animated.
-	 */
-	private boolean progressIndicatorAnimationsEnabled = true;
 
 
 	// Button variables
@@ -201,62 +186,117 @@ public abstract class IntroActivity extends AppCompatActivity {
 	private IntroButton finalButton;
 
 	/**
-	 * Whether or not the left button should be disabled entirely.
+	 * Shows and hides the buttons on behalf of the controller, using the Animators supplied by
+	 * {@link #generateButtonAnimatorFactory()}.
 	 */
-	private boolean leftButtonDisabled = false;
+	private ButtonSlotSwitcher buttonSwitcher;
+
+
+	// Controller variables
 
 	/**
-	 * Whether or not the right button should be disabled entirely.
+	 * Contains the navigation, lock mode, button state and indicator logic of this activity.
 	 */
-	private boolean rightButtonDisabled = false;
+	private IntroController controller;
+
+
+	// Dataset related variables
 
 	/**
-	 * Whether or not the final button should be disabled entirely.
+	 * The pages to display.
 	 */
-	private boolean finalButtonDisabled = false;
+	private final ArrayList<Fragment> pages = new ArrayList<>();
 
 	/**
-	 * Whether or not {@code leftButton} should be disabled on the last page.
+	 * Adapts the pages so that they can be displayed in the UI.
 	 */
-	private boolean disableLeftButtonOnLastPage = true;
+	private PageAdapter adapter;
 
 	/**
-	 * Supplies the Animators used to make the buttons appear and disappear when being enabled and
-	 * disabled.
+	 * Prepares the content of upcoming pages in the background.
 	 */
-	private AnimatorFactory buttonAnimatorFactory;
+	private PagePrefetcher prefetcher;
+
+
+	// Background manager related variables
 
 	/**
-	 * Maps each button to the animator currently affecting it. This allows animators to be
-	 * cancelled if a newer animator is created. If a button is not currently being animated, then
-	 * it should not exist in the keyset.
+	 * Updates the background of the Activity as the pages scroll.
 	 */
-	private final HashMap<IntroButton, Animator> buttonAnimations = new HashMap<>();
+	private BackgroundManager backgroundManager = null;
 
 
-	// Dataset related variables
+	// Metrics related variables
 
 	/**
-	 * The pages to display.
+	 * Measures page transitions and delivers the measurements to the registered IntroMetrics.
 	 */
-	private final ArrayList<Fragment> pages = new ArrayList<>();
+	private TransitionMonitor transitionMonitor;
 
 	/**
-	 * Adapts the pages so that they can be displayed in the UI.
+	 * The transformer supplied to {@link #setPageTransformer(boolean, ViewPager.PageTransformer)},
+	 * null if there is none.
 	 */
-	private final PageAdapter adapter = new PageAdapter(getSupportFragmentManager(), pages);
+	private ViewPager.PageTransformer pageTransformer = null;
 
 
-	// Background manager related variables
+	// Scroll event variables
 
 	/**
-	 * Updates the background of the Activity as the pages scroll.
+	 * Merges the scroll events of {@code viewPager} into one event per frame, null if {@link
+	 * #shouldMergeScrollEvents()} returned false.
 	 */
-	private BackgroundManager backgroundManager = null;
+	private ScrollFramePipeline scrollFramePipeline = null;
+
+
+	// Startup variables
+
+	/**
+	 * Whether or not some phases of startup are deferred until after the first frame.
+	 */
+	private boolean stagedStartupEnabled = false;
+
+	/**
+	 * The index of the next phase in {@code DEFERRED_STARTUP_PHASES} to perform.
+	 */
+	private int nextDeferredStartupPhase = 0;
+
+	/**
+	 * Performs the deferred startup phases, one phase per frame.
+	 */
+	private final Runnable deferredStartupRunnable = new Runnable() {
+		@Override
+		public void run() {
+			final StartupPhase phase = DEFERRED_STARTUP_PHASES[nextDeferredStartupPhase++];
+			final long phaseStartTimeNs = System.nanoTime();
+
+			performDeferredStartupPhase(phase);
+			onStartupPhaseComplete(phase, System.nanoTime() - phaseStartTimeNs);
+
+			// Spread the remaining phases over later frames to avoid a long stall
+			if (nextDeferredStartupPhase < DEFERRED_STARTUP_PHASES.length) {
+				ViewCompat.postOnAnimation(rootView, this);
+			}
+		}
+	};
 
 
 	// Listener delegates
 
+	/**
+	 * Transformations from {@code viewPager} are delegated to this transformer, so that the time
+	 * spent in {@code pageTransformer} can be measured.
+	 */
+	private final ViewPager.PageTransformer pageTransformerDelegate = new ViewPager
+			.PageTransformer() {
+		@Override
+		public void transformPage(final View page, final float position) {
+			final long startTimeNs = transitionMonitor.startTiming();
+			pageTransformer.transformPage(page, position);
+			transitionMonitor.recordPageTransform(startTimeNs);
+		}
+	};
+
 	/**
 	 * Page change events from {@code viewPager} are delegated to this receiver. Using a delegate as
 	 * the receiver is hides the internal implementation from the class signature.
@@ -265,23 +305,38 @@ public abstract class IntroActivity extends AppCompatActivity {
 		@Override
 		public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {
 			if (backgroundManager != null) {
+				final long startTimeNs = transitionMonitor.startTiming();
 				backgroundManager.updateBackground(rootView, position, positionOffset);
+				transitionMonitor.recordBackgroundUpdate(startTimeNs);
 			}
+
+			final long indicatorStartTimeNs = transitionMonitor.startTiming();
+			controller.onPageScrolled(position, positionOffset);
+			transitionMonitor.recordIndicatorUpdate(indicatorStartTimeNs);
+
+			prefetcher.onPageScrolled(position, positionOffset, positionOffsetPixels);
 		}
 
 		@Override
 		public void onPageSelected(int position) {
 			// The active page has changes, so the UI needs to be updated
-			reflectMemberVariablesInAllButtons();
+			controller.reflectStateInButtons();
 
-			if (progressIndicator != null) {
-				progressIndicator.setSelectedItem(position, progressIndicatorAnimationsEnabled);
-			}
+			final long startTimeNs = transitionMonitor.startTiming();
+			controller.selectIndicatorItem(position);
+			transitionMonitor.recordIndicatorUpdate(startTimeNs);
+
+			prefetcher.onPageSelected(position);
 		}
 
 		@Override
 		public void onPageScrollStateChanged(int state) {
-			// Forced to implement this method, just do nothing
+			transitionMonitor.onPageScrollStateChanged(state);
+			prefetcher.onPageScrollStateChanged(state);
+
+			if (pageTransformer instanceof ScrollStateAwareTransformer) {
+				((ScrollStateAwareTransformer) pageTransformer).onPageScrollStateChanged(state);
+			}
 		}
 	};
 
@@ -301,24 +356,102 @@ public abstract class IntroActivity extends AppCompatActivity {
 	protected void onCreate(final Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
 
+		final long startTimeNs = System.nanoTime();
+		stagedStartupEnabled = shouldUseStagedStartup();
+
 		// Initialise the UI and get references to the View elements
 		setContentView(R.layout.activity_intro);
 		bindViews();
 
-		// Initialise the buttons
+		// Initialise the buttons and the logic which controls them
 		initialiseNavigationButtons();
-		buttonAnimatorFactory = generateButtonAnimatorFactory();
+		initialiseController();
+		transitionMonitor = new TransitionMonitor(
+				getWindowManager().getDefaultDisplay().getRefreshRate());
+		long phaseStartTimeNs = reportStartupPhase(StartupPhase.INFLATE_LAYOUT, startTimeNs);
+
+		if (!stagedStartupEnabled) {
+			buttonSwitcher.setAnimatorFactory(generateButtonAnimatorFactory());
+			phaseStartTimeNs = reportStartupPhase(StartupPhase.CREATE_BUTTON_ANIMATIONS,
+					phaseStartTimeNs);
+		}
+
+		// Find any pages which the FragmentManager restored, so that they are not built again
+		final long[] savedPageIds = (savedInstanceState == null) ?
+				null :
+				savedInstanceState.getLongArray(STATE_KEY_PAGE_IDS);
+		final List<Fragment> restoredPages = findRestoredPages(savedPageIds);
 
 		// Generate the pages and create a copy to avoid external changes to the dataset
-		pages.addAll(generatePages(savedInstanceState));
+		final PageProvider pageProvider = generatePageProvider(savedInstanceState);
+
+		if (pageProvider != null) {
+			// Reserve a slot for each page, the adapter creates them when they are first needed
+			pages.addAll(Collections.<Fragment>nCopies(pageProvider.getPageCount(), null));
+		} else if (restoredPages != null) {
+			pages.addAll(regeneratePages(Collections.unmodifiableList(restoredPages),
+					savedInstanceState));
+		} else {
+			pages.addAll(generatePages(savedInstanceState));
+		}
+
+		adapter = new PageAdapter(getSupportFragmentManager(), pages, pageProvider,
+				generatePageRetentionMode());
+
+		// Rejected pages must not be found by their stale tags when the ViewPager attaches
+		if (restoredPages != null && !adapter.restorePages(savedPageIds, restoredPages)) {
+			adapter.discardPages(restoredPages);
+		}
+
+		controller.onDatasetChanged();
+		phaseStartTimeNs = reportStartupPhase(StartupPhase.CREATE_PAGES, phaseStartTimeNs);
 
 		// Initialise the view pager
-		viewPager.addOnPageChangeListener(pageChangeListenerDelegate);
-		initialiseViewPager(savedInstanceState);
+		if (shouldMergeScrollEvents()) {
+			scrollFramePipeline = new ScrollFramePipeline();
+			scrollFramePipeline.addListener(pageChangeListenerDelegate);
+			viewPager.addOnPageChangeListener(scrollFramePipeline);
+		} else {
+			viewPager.addOnPageChangeListener(pageChangeListenerDelegate);
+		}
 
-		// Initialise the progress indicator
-		progressIndicator = new DotIndicator(this);
-		regenerateProgressIndicator();
+		initialiseViewPager(savedInstanceState == null ?
+				null :
+				(IntroState) savedInstanceState.getParcelable(STATE_KEY_INTRO_STATE));
+		phaseStartTimeNs = reportStartupPhase(StartupPhase.ATTACH_INITIAL_PAGES, phaseStartTimeNs);
+
+		// Measure the time until the first frame is drawn, and then start any deferred phases
+		rootView.getViewTreeObserver().addOnPreDrawListener(new OnPreDrawListener() {
+			@Override
+			public boolean onPreDraw() {
+				rootView.getViewTreeObserver().removeOnPreDrawListener(this);
+
+				// The frame is drawn after the pre-draw listeners, so a post runs once it is drawn
+				rootView.post(new Runnable() {
+					@Override
+					public void run() {
+						onStartupPhaseComplete(StartupPhase.FIRST_FRAME,
+								System.nanoTime() - startTimeNs);
+
+						if (stagedStartupEnabled) {
+							ViewCompat.postOnAnimation(rootView, deferredStartupRunnable);
+						}
+					}
+				});
+
+				return true;
+			}
+		});
+
+		if (!stagedStartupEnabled) {
+			// Start preparing the pages the user is likely to see next
+			prefetcher.prefetchUpcomingPages();
+
+			// Initialise the progress indicator
+			controller.setSelectionIndicator(new DotIndicator(this));
+			regenerateProgressIndicator();
+			reportStartupPhase(StartupPhase.CREATE_PROGRESS_INDICATOR, phaseStartTimeNs);
+		}
 	}
 
 	@Override
@@ -326,23 +459,31 @@ public abstract class IntroActivity extends AppCompatActivity {
 		super.onWindowFocusChanged(hasFocus);
 
 		// Will apply animations to the left and right buttons as usual
-		reflectMemberVariablesInAllButtons();
+		controller.reflectStateInButtons();
 
 		// When the activity is displayed (and the final page isn't shown) the final button
 		// disappear animation needs to occur so that appear animation displays properly later
-		final boolean lastPage = getIndexOfCurrentPage() + 1 == pages.size();
+		introLayout.onWindowFocusChanged(hasFocus, getIndexOfCurrentPage(), pages.size());
+	}
 
-		if (hasFocus && !lastPage) {
-			final Animator finalButtonAnimator =
-					buttonAnimatorFactory.newFinalButtonDisappearAnimator(finalButton);
-			finalButtonAnimator.start();
+	@Override
+	protected void onDestroy() {
+		super.onDestroy();
+		rootView.removeCallbacks(deferredStartupRunnable);
+		transitionMonitor.cancel();
+
+		if (scrollFramePipeline != null) {
+			scrollFramePipeline.cancel();
 		}
+
+		prefetcher.shutdown();
 	}
 
 	@Override
 	protected void onSaveInstanceState(final Bundle outState) {
 		super.onSaveInstanceState(outState);
-		outState.putInt(STATE_KEY_CURRENT_PAGE_INDEX, viewPager.getCurrentItem());
+		outState.putParcelable(STATE_KEY_INTRO_STATE, controller.saveState());
+		outState.putLongArray(STATE_KEY_PAGE_IDS, adapter.getPageIds());
 	}
 
 	/**
@@ -352,10 +493,8 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 */
 	@Override
 	public void onBackPressed() {
-		if (viewPager.getCurrentItem() == 0 || !getPagingLockMode().allowsCommands()) {
+		if (!controller.onBackPressed()) {
 			super.onBackPressed();
-		} else {
-			viewPager.setCurrentItem(viewPager.getCurrentItem() - 1);
 		}
 	}
 
@@ -366,35 +505,133 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * Binds the View elements used in this activity to member variables.
 	 */
 	private void bindViews() {
-		rootView = (RelativeLayout) findViewById(R.id.intro_activity_root);
-		horizontalDivider = findViewById(R.id.intro_activity_horizontalDivider);
-		viewPager = (LockableViewPager) findViewById(R.id.intro_activity_viewPager);
-		progressIndicatorWrapper =
-				(FrameLayout) findViewById(R.id.intro_activity_progressIndicatorHolder);
-		leftButton = (IntroButton) findViewById(R.id.intro_activity_leftButton);
-		rightButton = (IntroButton) findViewById(R.id.intro_activity_rightButton);
-		finalButton = (IntroButton) findViewById(R.id.intro_activity_finalButton);
+		introLayout = new IntroLayout((RelativeLayout) findViewById(R.id.intro_activity_root));
+		rootView = introLayout.getRootView();
+		horizontalDivider = introLayout.getHorizontalDivider();
+		viewPager = introLayout.getViewPager();
+		progressIndicatorWrapper = introLayout.getProgressIndicatorWrapper();
+		leftButton = introLayout.getLeftButton();
+		rightButton = introLayout.getRightButton();
+		finalButton = introLayout.getFinalButton();
+	}
+
+	/**
+	 * Finds the pages which the FragmentManager restored when this activity was recreated.
+	 *
+	 * @param savedPageIds
+	 * 		the identifiers of the pages when the state was saved, null if there is no saved state
+	 * @return the restored page for each identifier with null for each page which was not
+	 * restored, or null if {@code savedPageIds} is null
+	 */
+	private List<Fragment> findRestoredPages(final long[] savedPageIds) {
+		if (savedPageIds == null) {
+			return null;
+		}
+
+		final List<Fragment> restoredPages = new ArrayList<>(savedPageIds.length);
+
+		for (final long pageId : savedPageIds) {
+			final String tag = PageAdapter.makePageTag(viewPager.getId(), pageId);
+			restoredPages.add(getSupportFragmentManager().findFragmentByTag(tag));
+		}
+
+		return restoredPages;
+	}
+
+	/**
+	 * Performs one of the startup phases which are deferred when staged startup is enabled.
+	 *
+	 * @param phase
+	 * 		the phase to perform, not null
+	 */
+	private void performDeferredStartupPhase(final StartupPhase phase) {
+		switch (phase) {
+			case ATTACH_REMAINING_PAGES: {
+				adapter.setCountLimit(Integer.MAX_VALUE);
+				adapter.notifyDataSetChanged();
+				prefetcher.prefetchUpcomingPages();
+				break;
+			}
+
+			case CREATE_PROGRESS_INDICATOR: {
+				// Don't replace an indicator which was set while startup was in progress
+				if (controller.getSelectionIndicator() == null) {
+					controller.setSelectionIndicator(new DotIndicator(this));
+					regenerateProgressIndicator();
+				}
+
+				break;
+			}
+
+			case CREATE_BUTTON_ANIMATIONS: {
+				buttonSwitcher.setAnimatorFactory(generateButtonAnimatorFactory());
+
+				// Same as in onWindowFocusChanged, so that the appear animation displays properly
+				introLayout.onWindowFocusChanged(hasWindowFocus(), getIndexOfCurrentPage(),
+						pages.size());
+
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Passes the duration of a completed startup phase to {@link
+	 * #onStartupPhaseComplete(StartupPhase, long)}.
+	 *
+	 * @param phase
+	 * 		the phase which completed, not null
+	 * @param phaseStartTimeNs
+	 * 		the value of {@link System#nanoTime()} when the phase started
+	 * @return the value of {@link System#nanoTime()} when the phase completed
+	 */
+	private long reportStartupPhase(final StartupPhase phase, final long phaseStartTimeNs) {
+		final long phaseEndTimeNs = System.nanoTime();
+		onStartupPhaseComplete(phase, phaseEndTimeNs - phaseStartTimeNs);
+		return phaseEndTimeNs;
 	}
 
 	/**
 	 * Initialises the UI elements for displaying the current page. If this activity is being
-	 * restored, then the page which was previously displayed will be redisplayed.
+	 * restored, then the saved state is applied and the page which was previously displayed will be
+	 * redisplayed. The buttons are shown in their restored state immediately, rather than
+	 * replaying the transitions which led to that state.
 	 *
-	 * @param savedInstanceState
-	 * 		if this activity is being re-initialized after previously being shut down, then this Bundle
-	 * 		contains the data this activity most recently saved in {@link
-	 * 		#onSaveInstanceState(Bundle)}, otherwise null
+	 * @param restoredState
+	 * 		the state saved in {@link #onSaveInstanceState(Bundle)} if this activity is being
+	 * 		re-initialized after previously being shut down, otherwise null
 	 */
-	private void initialiseViewPager(final Bundle savedInstanceState) {
-		// Restore the page index from the saved instance state if possible
-		final int pageIndex = (savedInstanceState == null) ?
-				DEFAULT_CURRENT_PAGE_INDEX :
-				savedInstanceState.getInt(STATE_KEY_CURRENT_PAGE_INDEX, DEFAULT_CURRENT_PAGE_INDEX);
+	private void initialiseViewPager(final IntroState restoredState) {
+		int pageIndex = DEFAULT_CURRENT_PAGE_INDEX;
+		final AnimatorFactory buttonAnimatorFactory = buttonSwitcher.getAnimatorFactory();
+
+		if (restoredState != null) {
+			buttonSwitcher.setAnimatorFactory(null);
+
+			// The regenerated dataset may be smaller than the saved one
+			final int lastPageIndex = Math.max(0, pages.size() - 1);
+			pageIndex = Math.min(restoredState.getCurrentPageIndex(), lastPageIndex);
+		}
+
+		// The prefetcher must exist before the view pager starts dispatching page changes
+		prefetcher = new PagePrefetcher(adapter, pageIndex);
+
+		// Only the displayed page is attached until the deferred startup phases run
+		if (stagedStartupEnabled) {
+			adapter.setCountLimit(pageIndex + 1);
+		}
 
 		// Initialise the dataset of the view pager and display the desired page
 		viewPager.setAdapter(adapter);
 		viewPager.setCurrentItem(pageIndex);
 
+		// The lock mode is restored after the page, since the lock mode may block commands
+		if (restoredState != null) {
+			controller.restoreState(restoredState);
+			controller.reflectStateInButtons();
+			buttonSwitcher.setAnimatorFactory(buttonAnimatorFactory);
+		}
+
 		// Make sure the background for the current page is displayed
 		if (backgroundManager != null) {
 			backgroundManager.updateBackground(rootView, pageIndex, 0);
@@ -406,250 +643,213 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * target.
 	 */
 	private void initialiseNavigationButtons() {
-		leftButton.setBehaviour(DEFAULT_LEFT_BUTTON_BEHAVIOUR);
-		leftButton.setAppearance(DEFAULT_LEFT_BUTTON_APPEARANCE);
-		leftButton.setActivity(this);
-
-		rightButton.setBehaviour(DEFAULT_RIGHT_BUTTON_BEHAVIOUR);
-		rightButton.setAppearance(DEFAULT_RIGHT_BUTTON_APPEARANCE);
-		rightButton.setActivity(this);
-
-		finalButton.setBehaviour(generateFinalButtonBehaviour());
-		finalButton.setAppearance(DEFAULT_FINAL_BUTTON_APPEARANCE);
-		finalButton.setText(DEFAULT_FINAL_BUTTON_TEXT, null);
-		finalButton.setActivity(this);
+		introLayout.initialiseButtons(this, null, generateFinalButtonBehaviour());
 	}
 
 	/**
-	 * Enables or disables each button separately, so that the buttons match the current member
-	 * variables.
+	 * Creates the controller which contains the navigation and button logic, and connects it to
+	 * the View elements of this activity.
 	 */
-	private void reflectMemberVariablesInAllButtons() {
-		reflectMemberVariablesInLeftButton();
-		reflectMemberVariablesInRightButton();
-		reflectMemberVariablesInFinalButton();
+	private void initialiseController() {
+		controller = introLayout.createController(pages);
+		buttonSwitcher = introLayout.getButtonSwitcher();
 	}
 
 	/**
-	 * Enables or disables the left button, so that it matches the current member variables.
+	 * Updates the UI after the page dataset has changed. The button states and the size of the
+	 * progress indicator are updated before the ViewPager is notified, since the ViewPager may
+	 * select a different page as a result of the change.
 	 */
-	private void reflectMemberVariablesInLeftButton() {
-		// Determine whether or not changes need to occur
-		final boolean lastPageReached = (viewPager.getCurrentItem() + 1) == pages.size();
-		final boolean buttonShouldBeInvisible = (lastPageReached && disableLeftButtonOnLastPage) ||
-				leftButtonDisabled;
-		final boolean buttonIsCurrentlyInvisible = leftButton.getVisibility() == View.INVISIBLE;
-		final boolean shouldUpdateButton = buttonShouldBeInvisible != buttonIsCurrentlyInvisible;
-
-		// Apply changes if necessary
-		if (shouldUpdateButton) {
-			final Animator buttonAnimator = buttonShouldBeInvisible ?
-					buttonAnimatorFactory.newLeftButtonDisappearAnimator(leftButton) :
-					buttonAnimatorFactory.newLeftButtonAppearAnimator(leftButton);
+	private void reflectDatasetChange() {
+		// The existing indicator is updated in place rather than being regenerated
+		controller.onDatasetChanged();
+		adapter.notifyDataSetChanged();
+		controller.reflectStateInButtons();
+		controller.syncSelectionIndicator();
 
-			if (buttonShouldBeInvisible) {
-				disableButton(buttonAnimator, leftButton);
-			} else {
-				enableButton(buttonAnimator, leftButton);
-			}
+		if (backgroundManager != null) {
+			backgroundManager.updateBackground(rootView, getIndexOfCurrentPage(), 0);
 		}
 	}
 
 	/**
-	 * Enables or disables the right button, so that it matches the current member variables.
+	 * Updates the progress indicator to reflect the current member variables.
 	 */
-	private void reflectMemberVariablesInRightButton() {
-		// Determine whether or not changes need to occur
-		final boolean lastPageReached = (viewPager.getCurrentItem() + 1) == pages.size();
-		final boolean buttonShouldBeInvisible = lastPageReached || rightButtonDisabled;
-		final boolean buttonIsCurrentlyInvisible = rightButton.getVisibility() == View.INVISIBLE;
-		final boolean shouldUpdateButton = buttonShouldBeInvisible != buttonIsCurrentlyInvisible;
+	private void regenerateProgressIndicator() {
+		// Refresh the View by entirely removing the progress indicator so that it can be re-added
+		progressIndicatorWrapper.removeAllViews();
 
-		// Apply changes if necessary
-		if (shouldUpdateButton) {
-			final Animator buttonAnimator = buttonShouldBeInvisible ?
-					buttonAnimatorFactory.newRightButtonDisappearAnimator(rightButton) :
-					buttonAnimatorFactory.newRightButtonAppearAnimator(rightButton);
+		// Only re-add the indicator if one currently exists
+		if (controller.getSelectionIndicator() != null) {
+			progressIndicatorWrapper.addView((View) controller.getSelectionIndicator());
 
-			if (buttonShouldBeInvisible) {
-				disableButton(buttonAnimator, rightButton);
-			} else {
-				enableButton(buttonAnimator, rightButton);
-			}
+			// Make sure the number of pages and the displayed page is correct
+			controller.syncSelectionIndicator();
 		}
 	}
 
-	/**
-	 * Enables or disables the final button, so that it matches the current member variables.
-	 */
-	private void reflectMemberVariablesInFinalButton() {
-		// Determine whether or not changes need to occur
-		final boolean lastPageReached = (viewPager.getCurrentItem() + 1) == pages.size();
-		final boolean buttonShouldBeInvisible = !lastPageReached || finalButtonDisabled;
-		final boolean buttonIsCurrentlyInvisible = finalButton.getVisibility() == View.INVISIBLE;
-		final boolean shouldUpdateButton = buttonShouldBeInvisible != buttonIsCurrentlyInvisible;
 
-		// Apply changes if necessary
-		if (shouldUpdateButton) {
-			final Animator buttonAnimator = buttonShouldBeInvisible ?
-					buttonAnimatorFactory.newFinalButtonDisappearAnimator(finalButton) :
-					buttonAnimatorFactory.newFinalButtonAppearAnimator(finalButton);
+	// Page generation methods
 
-			if (buttonShouldBeInvisible) {
-				disableButton(buttonAnimator, finalButton);
-			} else {
-				enableButton(buttonAnimator, finalButton);
-			}
-		}
+	/**
+	 * Called by {@link #onCreate(Bundle)} to generate the pages displayed in this activity. The
+	 * returned Collection is copied, so further changes to the collection will have no effect after
+	 * this method returns. The total ordering of the returned collection is maintained in the
+	 * display of the pages. This method is not called if {@link #generatePageProvider(Bundle)}
+	 * returns a PageProvider. The default implementation returns an empty collection.
+	 *
+	 * @param savedInstanceState
+	 * 		if this activity is being re-initialized after previously being shut down, then this Bundle
+	 * 		contains the data this activity most recently saved in {@link
+	 * 		#onSaveInstanceState(Bundle)}, otherwise null
+	 * @return the pages to display in the Activity, not null
+	 */
+	protected Collection<? extends Fragment> generatePages(Bundle savedInstanceState) {
+		return new ArrayList<>();
 	}
 
 	/**
-	 * Disables the supplied button by making it invisible and un-clickable. This method should only
-	 * be called while the supplied button is enabled (i.e. visible and clickable). The supplied
-	 * Animator will be used to transition the button.
+	 * Called by {@link #onCreate(Bundle)} instead of {@link #generatePages(Bundle)} when this
+	 * activity is recreated and the FragmentManager has restored some or all of the pages. The
+	 * supplied list contains the restored page at each position of the saved dataset, and null at
+	 * each position where the page was not restored (e.g. because it was never displayed). Only
+	 * the null positions need to be built. The restored pages are always used in place of the
+	 * elements at the same positions of the returned collection, so those elements may be null.
+	 * If the returned collection has a different size to the supplied list, then the restored
+	 * pages are discarded and the returned collection is used as is. This method is not called if
+	 * {@link #generatePageProvider(Bundle)} returns a PageProvider, since the provider is only
+	 * asked for the pages which were not restored.
+	 * <p/>
+	 * The default implementation builds each missing page individually using {@link
+	 * #regeneratePage(int, Bundle)}. If that method does not supply a page, then the missing pages
+	 * are taken from a single call to {@link #generatePages(Bundle)}, and the other pages it
+	 * returns are discarded. Override {@link #regeneratePage(int, Bundle)} to avoid building the
+	 * pages which were restored.
 	 *
-	 * @param buttonAnimator
-	 * 		the Animator to use when transitioning the button, null to perform no animation
-	 * @param button
-	 * 		the button to disable, not null
-	 * @throws IllegalArgumentException
-	 * 		if {@code button} is null
+	 * @param restoredPages
+	 * 		the restored pages, with null at the positions which need to be built, not null
+	 * @param savedInstanceState
+	 * 		the data this activity most recently saved in {@link #onSaveInstanceState(Bundle)}, not
+	 * 		null
+	 * @return the pages to display in the Activity, not null
 	 */
-	private void disableButton(final Animator buttonAnimator, final IntroButton button) {
-		if (button == null) {
-			throw new IllegalArgumentException("button cannot be null");
-		}
+	protected Collection<? extends Fragment> regeneratePages(List<Fragment> restoredPages,
+			Bundle savedInstanceState) {
+		final ArrayList<Fragment> regeneratedPages = new ArrayList<>(restoredPages);
+		List<? extends Fragment> generatedPages = null;
 
-		// Any animations currently affecting the button must be cancelled before new ones start
-		if (buttonAnimations.containsKey(button)) {
-			buttonAnimations.get(button).cancel();
-			buttonAnimations.remove(button);
-		}
+		for (int i = 0; i < regeneratedPages.size(); i++) {
+			if (regeneratedPages.get(i) != null) {
+				continue;
+			}
 
-		if (buttonAnimator != null) {
-			// Register animation so that it may be cancelled later if necessary
-			buttonAnimations.put(button, buttonAnimator);
-
-			// End/cancel conditions ensure that the UI is not left in a transient state when
-			// animations finish
-			buttonAnimator.addListener(new AnimatorListenerAdapter() {
-				@Override
-				public void onAnimationStart(final Animator animation) {
-					button.setVisibility(View.VISIBLE); // Make sure View is visible while animating
-					button.setEnabled(false); // Click events should be ignored immediately
-				}
+			Fragment page = regeneratePage(i, savedInstanceState);
 
-				@Override
-				public void onAnimationEnd(Animator animation) {
-					// If the animation doesn't properly hide the button, make sure it's invisible
-					button.setVisibility(View.INVISIBLE);
+			// Fall back to the complete dataset only if the page cannot be built individually
+			if (page == null) {
+				if (generatedPages == null) {
+					generatedPages = new ArrayList<>(generatePages(savedInstanceState));
 				}
 
-				@Override
-				public void onAnimationCancel(Animator animation) {
-					// Restore the button to enabled mode
-					button.setVisibility(View.VISIBLE);
-					button.setEnabled(true);
+				// A dataset with a different size cannot be merged with the restored pages
+				if (generatedPages.size() != regeneratedPages.size()) {
+					return generatedPages;
 				}
-			});
 
-			buttonAnimator.setDuration(BUTTON_ANIMATION_DURATION_MS);
-			buttonAnimator.start();
-		} else {
-			// If no animator was supplied, just apply the disabled conditions
-			button.setVisibility(View.INVISIBLE);
-			button.setEnabled(false);
+				page = generatedPages.get(i);
+			}
+
+			regeneratedPages.set(i, page);
 		}
+
+		return regeneratedPages;
 	}
 
 	/**
-	 * Enables the supplied button by making it visible and clickable. This method should only be
-	 * called while the supplied button is disabled (i.e. invisible and un-clickable). The supplied
-	 * Animator will be used to transition the button.
+	 * Called by {@link #regeneratePages(List, Bundle)} to build a single page which the
+	 * FragmentManager did not restore. Only the missing pages are requested, so overriding this
+	 * method allows an activity to be recreated without building any page which was restored.
+	 * The default implementation returns null, which causes the missing pages to be taken from
+	 * {@link #generatePages(Bundle)} instead.
 	 *
-	 * @param buttonAnimator
-	 * 		the Animator to use when transitioning the button, null to perform no animation
-	 * @param button
-	 * 		the button to enable, not null
-	 * @throws IllegalArgumentException
-	 * 		if {@code button} is null
+	 * @param index
+	 * 		the position of the page in the dataset, counting from zero
+	 * @param savedInstanceState
+	 * 		the data this activity most recently saved in {@link #onSaveInstanceState(Bundle)}, not
+	 * 		null
+	 * @return the page to display at {@code index}, null to use {@link #generatePages(Bundle)}
 	 */
-	private void enableButton(final Animator buttonAnimator, final IntroButton button) {
-		if (button == null) {
-			throw new IllegalArgumentException("button cannot be null");
-		}
-
-		// Any animations currently affecting the button must be cancelled before new ones start
-		if (buttonAnimations.containsKey(button)) {
-			buttonAnimations.get(button).cancel();
-			buttonAnimations.remove(button);
-		}
-
-		if (buttonAnimator != null) {
-			buttonAnimations.put(button, buttonAnimator);
-
-			// Give any disable animations time to finish before the enable animation starts
-			buttonAnimator.setStartDelay(BUTTON_ANIMATION_DURATION_MS);
-
-			// End/cancel conditions ensure that the UI is not left in a transient state when
-			// animations finish
-			buttonAnimator.addListener(new AnimatorListenerAdapter() {
-				@Override
-				public void onAnimationStart(final Animator animation) {
-					button.setVisibility(View.VISIBLE); // Make sure View is visible while animating
-					button.setEnabled(true); // Click events should be accepted immediately
-				}
-
-				@Override
-				public void onAnimationCancel(final Animator animation) {
-					// Restore button to disabled mode
-					button.setVisibility(View.INVISIBLE);
-					button.setEnabled(false);
-				}
-			});
-
-			buttonAnimator.setDuration(BUTTON_ANIMATION_DURATION_MS);
-			buttonAnimator.start();
-		} else {
-			// If no Animator was supplied, just apply the enabled conditions
-			button.setVisibility(View.VISIBLE);
-			button.setEnabled(true);
-		}
+	protected Fragment regeneratePage(int index, Bundle savedInstanceState) {
+		return null;
 	}
 
 	/**
-	 * Updates the progress indicator to reflect the current member variables.
+	 * Called by {@link #onCreate(Bundle)} to generate a PageProvider which creates the pages
+	 * displayed in this activity on demand. Using a PageProvider avoids constructing every page
+	 * (and any resources the pages hold) before the activity is first displayed, which reduces
+	 * startup time and memory use when there are many pages. If this method returns null, then the
+	 * pages are instead obtained from {@link #generatePages(Bundle)}. The default implementation
+	 * returns null.
+	 *
+	 * @param savedInstanceState
+	 * 		if this activity is being re-initialized after previously being shut down, then this Bundle
+	 * 		contains the data this activity most recently saved in {@link
+	 * 		#onSaveInstanceState(Bundle)}, otherwise null
+	 * @return the PageProvider to create the pages with, null to use {@link
+	 * #generatePages(Bundle)}
 	 */
-	private void regenerateProgressIndicator() {
-		// Refresh the View by entirely removing the progress indicator so that it can be re-added
-		progressIndicatorWrapper.removeAllViews();
-
-		// Only re-add the indicator if one currently exists
-		if (progressIndicator != null) {
-			progressIndicatorWrapper.addView((View) progressIndicator);
+	protected PageProvider generatePageProvider(Bundle savedInstanceState) {
+		return null;
+	}
 
-			// Make sure the number of pages and the displayed page is correct
-			progressIndicator.setNumberOfItems(pages.size());
-			progressIndicator.setSelectedItem(getIndexOfCurrentPage(), false);
-		}
+	/**
+	 * Called by {@link #onCreate(Bundle)} to generate the RetentionMode which determines what
+	 * happens to pages when they move outside the offscreen window. The default mode retains
+	 * every page which has been displayed, so memory use grows as the user progresses through the
+	 * introduction. Long introductions may return {@link RetentionMode#RETAIN_WINDOW} instead, so
+	 * that only the pages near the current page are kept in memory and all other pages are
+	 * reduced to their saved state. The size of the window can be changed using {@link
+	 * #setOffscreenPageLimit(int)}.
+	 *
+	 * @return the RetentionMode to use, not null
+	 */
+	protected RetentionMode generatePageRetentionMode() {
+		return RetentionMode.RETAIN_ALL;
 	}
 
 
-	// Abstract methods
+	// Startup methods
 
 	/**
-	 * Called by {@link #onCreate(Bundle)} to generate the pages displayed in this activity. The
-	 * returned Collection is copied, so further changes to the collection will have no effect after
-	 * this method returns. The total ordering of the returned collection is maintained in the
-	 * display of the pages.
+	 * Called by {@link #onCreate(Bundle)} to determine whether or not staged startup should be
+	 * used. Normally the activity is fully initialised before the first frame is drawn. When staged
+	 * startup is used, only the layout, the buttons and the displayed page are initialised before
+	 * the first frame. The remaining pages, the progress indicator and the button animations are
+	 * then initialised on subsequent frames. Until this completes, the user cannot scroll beyond
+	 * the displayed page, {@link #getProgressIndicator()} may return null and the buttons change
+	 * without animation. The default implementation returns false.
 	 *
-	 * @param savedInstanceState
-	 * 		if this activity is being re-initialized after previously being shut down, then this Bundle
-	 * 		contains the data this activity most recently saved in {@link
-	 * 		#onSaveInstanceState(Bundle)}, otherwise null
-	 * @return the pages to display in the Activity, not null
+	 * @return true to use staged startup, false to fully initialise the activity in onCreate
+	 */
+	protected boolean shouldUseStagedStartup() {
+		return false;
+	}
+
+	/**
+	 * Called when a phase of startup completes. This method is intended for measuring startup
+	 * performance, and must return quickly to avoid slowing startup. Phases are reported in the
+	 * order they complete, which depends on whether or not staged startup is used. The default
+	 * implementation does nothing.
+	 *
+	 * @param phase
+	 * 		the phase which completed, not null
+	 * @param durationNs
+	 * 		the duration of the phase, measured in nanoseconds
 	 */
-	protected abstract Collection<? extends Fragment> generatePages(Bundle savedInstanceState);
+	protected void onStartupPhaseComplete(final StartupPhase phase, final long durationNs) {}
+
+
+	// Abstract methods
 
 	/**
 	 * Called by {@link #onCreate(Bundle)} to generate the Behaviour of the final button. The {@link
@@ -712,7 +912,9 @@ public abstract class IntroActivity extends AppCompatActivity {
 	}
 
 	/**
-	 * Sets the PageTransformer to use when scrolling.
+	 * Sets the PageTransformer to use when scrolling. If the transformer implements {@link
+	 * ScrollStateAwareTransformer}, then it is also notified whenever the scroll state of the
+	 * ViewPager changes.
 	 *
 	 * @param reverseDrawingOrder
 	 * 		true if the supplied PageTransformer requires page Views to be drawn from last to first
@@ -722,20 +924,48 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 */
 	public final void setPageTransformer(final boolean reverseDrawingOrder, final ViewPager
 			.PageTransformer transformer) {
-		viewPager.setPageTransformer(reverseDrawingOrder, transformer);
+		// Allow the previous transformer to release any resources it holds while scrolling
+		if (pageTransformer instanceof ScrollStateAwareTransformer) {
+			((ScrollStateAwareTransformer) pageTransformer)
+					.onPageScrollStateChanged(ViewPager.SCROLL_STATE_IDLE);
+		}
+
+		pageTransformer = transformer;
+		viewPager.setPageTransformer(reverseDrawingOrder,
+				transformer == null ? null : pageTransformerDelegate);
 	}
 
 
 	// Methods for listing to page changes
 
 	/**
-	 * Registers a listener to receive a callback whenever the page changes.
+	 * Called by {@link #onCreate(Bundle)} to determine whether or not scroll events should be
+	 * merged. ViewPager can deliver several scroll events within a single frame, and normally each
+	 * one is passed to the BackgroundManager and to every registered page change listener. When
+	 * scroll events are merged, only the most recent scroll event in each frame is passed on, which
+	 * avoids redundant background updates and listener work. Page selection and scroll state
+	 * events are never merged. The default implementation returns false.
+	 *
+	 * @return true to merge scroll events, false to pass on every scroll event
+	 */
+	protected boolean shouldMergeScrollEvents() {
+		return false;
+	}
+
+	/**
+	 * Registers a listener to receive a callback whenever the page changes. If scroll events are
+	 * merged (see {@link #shouldMergeScrollEvents()}), then the listener receives at most one
+	 * scroll event per frame.
 	 *
 	 * @param listener
 	 * 		the listener to register
 	 */
 	public final void addPageChangeListener(final OnPageChangeListener listener) {
-		viewPager.addOnPageChangeListener(listener);
+		if (scrollFramePipeline == null) {
+			viewPager.addOnPageChangeListener(listener);
+		} else {
+			scrollFramePipeline.addListener(listener);
+		}
 	}
 
 	/**
@@ -745,14 +975,19 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * 		the listener to unregister
 	 */
 	public final void removePageChangeListener(final OnPageChangeListener listener) {
-		viewPager.removeOnPageChangeListener(listener);
+		if (scrollFramePipeline == null) {
+			viewPager.removeOnPageChangeListener(listener);
+		} else {
+			scrollFramePipeline.removeListener(listener);
+		}
 	}
 
 
 	// Methods relating to the pages and navigation
 
 	/**
-	 * Returns an unmodifiable Collection containing the pages.
+	 * Returns an unmodifiable Collection containing the pages. If the pages are supplied by a
+	 * {@link PageProvider}, then pages which have not yet been created are represented by null.
 	 *
 	 * @return the pages of this activity
 	 */
@@ -761,7 +996,9 @@ public abstract class IntroActivity extends AppCompatActivity {
 	}
 
 	/**
-	 * Returns the page at the specified index.
+	 * Returns the page at the specified index. If the pages are supplied by a {@link
+	 * PageProvider} and the page has not yet been created, then it is created before being
+	 * returned.
 	 *
 	 * @param pageIndex
 	 * 		the index of the page to return, counting from zero
@@ -770,40 +1007,92 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * 		if the index exceeds the size of the page dataset
 	 */
 	public final Fragment getPage(final int pageIndex) {
-		return pages.get(pageIndex);
+		return adapter.getItem(pageIndex);
 	}
 
 	/**
 	 * @return the page currently being displayed
 	 */
 	public final Fragment getCurrentPage() {
-		return pages.get(viewPager.getCurrentItem());
+		return getPage(viewPager.getCurrentItem());
 	}
 
 	/**
 	 * @return the first page of this Activity
 	 */
 	public final Fragment getFirstPage() {
-		return pages.get(0);
+		return getPage(0);
 	}
 
 	/**
 	 * @return the last page of this Activity
 	 */
 	public final Fragment getLastPage() {
-		return pages.get(pages.size() - 1);
+		return getPage(pages.size() - 1);
 	}
 
 	/**
 	 * Returns the index of the specified page, or -1 if the page does not exist in the page
-	 * Collection.
+	 * Collection. This method runs in constant time.
 	 *
 	 * @param page
 	 * 		the page to get the index of
 	 * @return the index of {@code page}, counting from zero
 	 */
 	public final int getIndexOfPage(final Fragment page) {
-		return pages.indexOf(page);
+		return adapter.getIndexOfPage(page);
+	}
+
+	/**
+	 * Inserts a page at the supplied index. Pages at and after the index are shifted along by one.
+	 * The page which is currently displayed remains displayed, and the buttons and progress
+	 * indicator are updated to reflect the new dataset.
+	 *
+	 * @param pageIndex
+	 * 		the index to insert the page at, counting from zero
+	 * @param page
+	 * 		the page to insert, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code page} is null, or if {@code page} is already in this activity
+	 * @throws IndexOutOfBoundsException
+	 * 		if the index is less than 0 or exceeds the size of the page dataset
+	 */
+	public final void insertPage(final int pageIndex, final Fragment page) {
+		adapter.insertPage(pageIndex, page);
+		reflectDatasetChange();
+	}
+
+	/**
+	 * Removes the page at the supplied index. If the page is currently displayed, then the page
+	 * which takes its place is displayed instead. The buttons and progress indicator are updated to
+	 * reflect the new dataset.
+	 *
+	 * @param pageIndex
+	 * 		the index of the page to remove, counting from zero
+	 * @return the removed page, null if the page was never created by the PageProvider
+	 * @throws IndexOutOfBoundsException
+	 * 		if the index exceeds the size of the page dataset
+	 */
+	public final Fragment removePage(final int pageIndex) {
+		final Fragment page = adapter.removePage(pageIndex);
+		reflectDatasetChange();
+		return page;
+	}
+
+	/**
+	 * Moves the page at one index to another index. The page which is currently displayed remains
+	 * displayed, and the buttons and progress indicator are updated to reflect the new dataset.
+	 *
+	 * @param fromIndex
+	 * 		the current index of the page, counting from zero
+	 * @param toIndex
+	 * 		the new index of the page, counting from zero
+	 * @throws IndexOutOfBoundsException
+	 * 		if either index exceeds the size of the page dataset
+	 */
+	public final void movePage(final int fromIndex, final int toIndex) {
+		adapter.movePage(fromIndex, toIndex);
+		reflectDatasetChange();
 	}
 
 	/**
@@ -821,44 +1110,41 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * @throws IndexOutOfBoundsException
 	 * 		if the index exceeds the size of the page dataset
 	 */
+	@Override
 	public final void goToPage(final int pageIndex) {
-		viewPager.setCurrentItem(pageIndex);
+		controller.goToPage(pageIndex);
 	}
 
 	/**
 	 * Navigates to the last page (if not already there).
 	 */
+	@Override
 	public final void goToLastPage() {
-		viewPager.setCurrentItem(pages.size() - 1);
+		controller.goToLastPage();
 	}
 
 	/**
 	 * Navigates to the first page (if not already there).
 	 */
+	@Override
 	public final void goToFirstPage() {
-		viewPager.setCurrentItem(0);
+		controller.goToFirstPage();
 	}
 
 	/**
 	 * Navigates to the next page (if not already there).
 	 */
+	@Override
 	public final void goToNextPage() {
-		final boolean isLastPage = viewPager.getCurrentItem() == (pages.size() - 1);
-
-		if (!isLastPage) {
-			viewPager.setCurrentItem(viewPager.getCurrentItem() + 1, true);
-		}
+		controller.goToNextPage();
 	}
 
 	/**
 	 * Navigates to the previous page (if not already there).
 	 */
+	@Override
 	public final void goToPreviousPage() {
-		final boolean isFirstPage = viewPager.getCurrentItem() == 0;
-
-		if (!isFirstPage) {
-			viewPager.setCurrentItem(viewPager.getCurrentItem() - 1, true);
-		}
+		controller.goToPreviousPage();
 	}
 
 	/**
@@ -879,14 +1165,59 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * 		if {@code lockMode} is null
 	 */
 	public final void setPagingLockMode(final LockMode lockMode) {
-		viewPager.setLockMode(lockMode); // throws exception is lockMode is null
+		controller.setLockMode(lockMode); // throws exception is lockMode is null
 	}
 
 	/**
 	 * @return the current lock mode
 	 */
 	public final LockMode getPagingLockMode() {
-		return viewPager.getLockMode();
+		return controller.getLockMode();
+	}
+
+	/**
+	 * Sets the number of pages to keep on each side of the current page. Pages inside this window
+	 * are kept ready for display, and pages outside it are released according to the retention
+	 * mode (see {@link #generatePageRetentionMode()}). The default limit is 1.
+	 *
+	 * @param limit
+	 * 		the number of pages to keep on each side of the current page, values less than 1 are
+	 * 		treated as 1
+	 */
+	public final void setOffscreenPageLimit(final int limit) {
+		viewPager.setOffscreenPageLimit(limit);
+	}
+
+	/**
+	 * @return the number of pages kept on each side of the current page
+	 */
+	public final int getOffscreenPageLimit() {
+		return viewPager.getOffscreenPageLimit();
+	}
+
+	/**
+	 * Sets the number of pages to prefetch in the direction the user is scrolling. Pages which are
+	 * already attached to the ViewPager (see {@link #setOffscreenPageLimit(int)}) are skipped and
+	 * do not count towards the distance. Only pages which implement {@link PrefetchablePage} are
+	 * prefetched, and each page is prefetched at most once. Pages which a {@link PageProvider} has
+	 * not created yet are never created early, but if the provider is a {@link
+	 * PrefetchingPageProvider}, then it is asked to prepare their data instead. The default
+	 * distance is 2.
+	 *
+	 * @param distance
+	 * 		the number of upcoming pages to prefetch, 0 to disable prefetching
+	 * @throws IllegalArgumentException
+	 * 		if {@code distance} is less than 0
+	 */
+	public final void setPrefetchDistance(final int distance) {
+		prefetcher.setPrefetchDistance(distance);
+	}
+
+	/**
+	 * @return the number of upcoming pages which are prefetched
+	 */
+	public final int getPrefetchDistance() {
+		return prefetcher.getPrefetchDistance();
 	}
 
 
@@ -913,6 +1244,30 @@ public abstract class IntroActivity extends AppCompatActivity {
 	}
 
 
+
+	// Methods relating to metrics
+
+	/**
+	 * Sets the IntroMetrics to receive performance measurements of page transitions. While an
+	 * IntroMetrics is set, each transition is measured from when the pages start moving until they
+	 * come to rest, and the measurements are then delivered on the UI thread. Setting an
+	 * IntroMetrics during a transition causes measurement to begin from the next transition.
+	 *
+	 * @param metrics
+	 * 		the IntroMetrics to receive measurements, null to disable measurement
+	 */
+	public final void setIntroMetrics(final IntroMetrics metrics) {
+		transitionMonitor.setListener(metrics);
+	}
+
+	/**
+	 * @return the IntroMetrics which currently receives measurements, null if there is none
+	 */
+	public final IntroMetrics getIntroMetrics() {
+		return transitionMonitor.getListener();
+	}
+
+
 	// Methods relating to the progress indicator
 
 	/**
@@ -930,7 +1285,7 @@ public abstract class IntroActivity extends AppCompatActivity {
 					"selectionIndicator must be a subclass of android.view.View");
 		}
 
-		progressIndicator = selectionIndicator;
+		controller.setSelectionIndicator(selectionIndicator);
 		regenerateProgressIndicator();
 	}
 
@@ -938,7 +1293,7 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * @return the current selection indicator, may be null
 	 */
 	public SelectionIndicator getProgressIndicator() {
-		return progressIndicator;
+		return controller.getSelectionIndicator();
 	}
 
 	/**
@@ -948,14 +1303,14 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * 		true to enable animations, false to disable them
 	 */
 	public void enableProgressIndicatorAnimations(final boolean enableAnimations) {
-		progressIndicatorAnimationsEnabled = enableAnimations;
+		controller.enableSelectionIndicatorAnimations(enableAnimations);
 	}
 
 	/**
 	 * @return true if progress indicator page change animations are enabled, false otherwise
 	 */
 	public boolean progressIndicatorAnimationsAreEnabled() {
-		return progressIndicatorAnimationsEnabled;
+		return controller.selectionIndicatorAnimationsAreEnabled();
 	}
 
 
@@ -964,7 +1319,10 @@ public abstract class IntroActivity extends AppCompatActivity {
 	/**
 	 * Called in {@code onCreate(Bundle)} to generate an AnimatorFactory for the buttons. The
 	 * factory will be used to animate the change whenever a button is enabled or disabled. The
-	 * default factory causes the buttons to fade in when enabled and fade out when disabled.
+	 * default factory causes the buttons to fade in when enabled and fade out when disabled. If the
+	 * returned factory implements {@link
+	 * com.matthewtamlin.sliding_intro_screen_library.buttons.ReusableAnimatorFactory}, then each
+	 * Animator is requested once and reused for every subsequent transition of the same button.
 	 *
 	 * @return an AnimatorFactory to use when buttons are enabled/disabled, not null
 	 */
@@ -1007,8 +1365,7 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * 		true to disable the button, false to enable it
 	 */
 	public final void disableLeftButton(final boolean disabled) {
-		leftButtonDisabled = disabled;
-		reflectMemberVariablesInLeftButton();
+		controller.setLeftButtonDisabled(disabled);
 	}
 
 	/**
@@ -1024,8 +1381,7 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * 		disabling
 	 */
 	public final void disableLeftButtonOnLastPage(final boolean disableButton) {
-		disableLeftButtonOnLastPage = disableButton;
-		reflectMemberVariablesInLeftButton();
+		controller.setLeftButtonDisabledOnLastPage(disableButton);
 	}
 
 	/**
@@ -1035,7 +1391,7 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * @return true if the button is currently entirely, false otherwise
 	 */
 	public final boolean leftButtonIsEntirelyDisabled() {
-		return leftButtonDisabled;
+		return controller.isLeftButtonDisabled();
 	}
 
 	/**
@@ -1047,7 +1403,7 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * otherwise
 	 */
 	public final boolean leftButtonIsDisabledOnLastPage() {
-		return disableLeftButtonOnLastPage;
+		return controller.isLeftButtonDisabledOnLastPage();
 	}
 
 	/**
@@ -1057,8 +1413,7 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * 		true to disable the button, false to enable it
 	 */
 	public final void disableRightButton(final boolean disabled) {
-		rightButtonDisabled = disabled;
-		reflectMemberVariablesInRightButton();
+		controller.setRightButtonDisabled(disabled);
 	}
 
 	/**
@@ -1067,7 +1422,7 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * @return true if the button is currently disabled, false otherwise
 	 */
 	public final boolean rightButtonIsDisabled() {
-		return rightButtonDisabled;
+		return controller.isRightButtonDisabled();
 	}
 
 	/**
@@ -1077,8 +1432,7 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * 		true to disable the button, false to enable it
 	 */
 	public final void disableFinalButton(final boolean disabled) {
-		finalButtonDisabled = disabled;
-		reflectMemberVariablesInFinalButton();
+		controller.setFinalButtonDisabled(disabled);
 	}
 
 	/**
@@ -1087,6 +1441,53 @@ public abstract class IntroActivity extends AppCompatActivity {
 	 * @return true if the button is currently disabled, false otherwise
 	 */
 	public final boolean finalButtonIsDisabled() {
-		return finalButtonDisabled;
+		return controller.isFinalButtonDisabled();
+	}
+
+	/**
+	 * The phases of IntroActivity startup which are reported to {@link
+	 * #onStartupPhaseComplete(StartupPhase, long)}.
+	 */
+	public enum StartupPhase {
+		/**
+		 * The layout was inflated and the buttons were initialised.
+		 */
+		INFLATE_LAYOUT,
+
+		/**
+		 * The button animations were created. When staged startup is used, this occurs after the
+		 * first frame.
+		 */
+		CREATE_BUTTON_ANIMATIONS,
+
+		/**
+		 * The pages (or the PageProvider) were generated and the adapter was created.
+		 */
+		CREATE_PAGES,
+
+		/**
+		 * The pages were attached to the ViewPager. When staged startup is used, only the displayed
+		 * page is attached in this phase.
+		 */
+		ATTACH_INITIAL_PAGES,
+
+		/**
+		 * The first frame was drawn. Unlike the other phases, the reported duration is measured
+		 * from the start of {@link IntroActivity#onCreate(Bundle)}, and is therefore the time to
+		 * first frame.
+		 */
+		FIRST_FRAME,
+
+		/**
+		 * The pages which were not attached in {@link #ATTACH_INITIAL_PAGES} were attached. This
+		 * phase only occurs when staged startup is used.
+		 */
+		ATTACH_REMAINING_PAGES,
+
+		/**
+		 * The progress indicator was created. When staged startup is used, this occurs after the
+		 * first frame.
+		 */
+		CREATE_PROGRESS_INDICATOR
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,566 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import com.matthewtamlin.sliding_intro_screen_library.core.LockableViewPager.LockMode;
+import com.matthewtamlin.sliding_intro_screen_library.indicators.ScrollingSelectionIndicator;
+import com.matthewtamlin.sliding_intro_screen_library.indicators.SelectionIndicator;
+
+/**
+ * Contains the navigation, lock mode, button state and indicator synchronisation logic of an
+ * introduction screen, independent of any Android View or Activity. The controller interacts with
+ * the UI only through a {@link Pager}, a {@link ButtonSwitcher} and a {@link SelectionIndicator},
+ * so it can be hosted by any component which can supply these, and can be exercised on the plain
+ * JVM using simple fakes.
+ * <p/>
+ * The host is responsible for forwarding page selection events to {@link #onPageSelected(int)},
+ * and for calling {@link #onDatasetChanged()} whenever the number of pages changes.
+ */
+public class IntroController implements IntroNavigator {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[IntroController]";
+
+	/**
+	 * Identifies the left button in calls to {@link ButtonSwitcher#setButtonVisible(int,
+	 * boolean)}.
+	 */
+	public static final int LEFT_BUTTON = ButtonStateTable.LEFT_BUTTON;
+
+	/**
+	 * Identifies the right button in calls to {@link ButtonSwitcher#setButtonVisible(int,
+	 * boolean)}.
+	 */
+	public static final int RIGHT_BUTTON = ButtonStateTable.RIGHT_BUTTON;
+
+	/**
+	 * Identifies the final button in calls to {@link ButtonSwitcher#setButtonVisible(int,
+	 * boolean)}.
+	 */
+	public static final int FINAL_BUTTON = ButtonStateTable.FINAL_BUTTON;
+
+	/**
+	 * Displays the pages.
+	 */
+	private final Pager pager;
+
+	/**
+	 * Shows and hides the buttons.
+	 */
+	private final ButtonSwitcher buttonSwitcher;
+
+	/**
+	 * The visibility of each button on each page, compiled from the button flags.
+	 */
+	private final ButtonStateTable buttonStateTable = new ButtonStateTable();
+
+	/**
+	 * The buttons which are currently visible (or are transitioning to being visible), as a bit
+	 * mask of {@link #LEFT_BUTTON}, {@link #RIGHT_BUTTON} and {@link #FINAL_BUTTON}.
+	 */
+	private int appliedButtonState;
+
+	/**
+	 * Whether or not the left button should be disabled entirely.
+	 */
+	private boolean leftButtonDisabled = false;
+
+	/**
+	 * Whether or not the right button should be disabled entirely.
+	 */
+	private boolean rightButtonDisabled = false;
+
+	/**
+	 * Whether or not the final button should be disabled entirely.
+	 */
+	private boolean finalButtonDisabled = false;
+
+	/**
+	 * Whether or not the left button should be disabled on the last page.
+	 */
+	private boolean disableLeftButtonOnLastPage = true;
+
+	/**
+	 * Determines whether or not touch events and commands can change the page.
+	 */
+	private LockMode lockMode = LockMode.UNLOCKED;
+
+	/**
+	 * Displays the user's progress through the pages, null if there is none.
+	 */
+	private SelectionIndicator selectionIndicator = null;
+
+	/**
+	 * Whether or not changes in the selection indicator should be animated.
+	 */
+	private boolean selectionIndicatorAnimationsEnabled = true;
+
+	/**
+	 * Constructs a new IntroController instance. The button state table is not compiled until
+	 * {@link #onDatasetChanged()} is first called.
+	 *
+	 * @param pager
+	 * 		displays the pages, not null
+	 * @param buttonSwitcher
+	 * 		shows and hides the buttons, not null
+	 * @param initialButtonState
+	 * 		the buttons which are initially visible, as a bit mask of {@link #LEFT_BUTTON}, {@link
+	 * 		#RIGHT_BUTTON} and {@link #FINAL_BUTTON}
+	 * @throws IllegalArgumentException
+	 * 		if {@code pager} or {@code buttonSwitcher} is null
+	 */
+	public IntroController(final Pager pager, final ButtonSwitcher buttonSwitcher,
+			final int initialButtonState) {
+		if (pager == null) {
+			throw new IllegalArgumentException("pager cannot be null");
+		} else if (buttonSwitcher == null) {
+			throw new IllegalArgumentException("buttonSwitcher cannot be null");
+		}
+
+		this.pager = pager;
+		this.buttonSwitcher = buttonSwitcher;
+		this.appliedButtonState = initialButtonState;
+	}
+
+
+	// Methods for the host to call
+
+	/**
+	 * Updates the buttons and the selection indicator to reflect a newly selected page.
+	 *
+	 * @param pageIndex
+	 * 		the index of the selected page, counting from zero
+	 */
+	public void onPageSelected(final int pageIndex) {
+		reflectStateInButtons();
+		selectIndicatorItem(pageIndex);
+	}
+
+	/**
+	 * Recompiles the button states and resizes the selection indicator to match the current
+	 * number of pages. This method should be called whenever the dataset changes, before the pager
+	 * reacts to the change.
+	 */
+	public void onDatasetChanged() {
+		compileButtonStates();
+
+		if (selectionIndicator != null) {
+			selectionIndicator.setNumberOfItems(pager.getPageCount());
+		}
+	}
+
+	/**
+	 * Shows or hides each button so that the buttons match the current page and flags. Only the
+	 * buttons which differ from their currently applied state are passed to the ButtonSwitcher.
+	 */
+	public void reflectStateInButtons() {
+		final int targetState = buttonStateTable.getVisibleButtons(pager.getCurrentPage());
+		final int changedButtons = targetState ^ appliedButtonState;
+
+		if (changedButtons == 0) {
+			return;
+		}
+
+		appliedButtonState = targetState;
+
+		if ((changedButtons & LEFT_BUTTON) != 0) {
+			buttonSwitcher.setButtonVisible(LEFT_BUTTON, (targetState & LEFT_BUTTON) != 0);
+		}
+
+		if ((changedButtons & RIGHT_BUTTON) != 0) {
+			buttonSwitcher.setButtonVisible(RIGHT_BUTTON, (targetState & RIGHT_BUTTON) != 0);
+		}
+
+		if ((changedButtons & FINAL_BUTTON) != 0) {
+			buttonSwitcher.setButtonVisible(FINAL_BUTTON, (targetState & FINAL_BUTTON) != 0);
+		}
+	}
+
+	/**
+	 * Selects an item in the selection indicator (if there is one). The change is animated if
+	 * selection indicator animations are enabled.
+	 *
+	 * @param pageIndex
+	 * 		the index of the item to select, counting from zero
+	 */
+	public void selectIndicatorItem(final int pageIndex) {
+		if (selectionIndicator != null) {
+			selectionIndicator.setSelectedItem(pageIndex, selectionIndicatorAnimationsEnabled);
+		}
+	}
+
+	/**
+	 * Passes the scroll position of the pages to the selection indicator, if it is a {@link
+	 * ScrollingSelectionIndicator}. This method should be called whenever the pages scroll.
+	 *
+	 * @param position
+	 * 		the index of the first page currently being displayed
+	 * @param positionOffset
+	 * 		how far the pages have scrolled from {@code position} towards the next page, from 0
+	 * 		(inclusive) to 1 (exclusive)
+	 */
+	public void onPageScrolled(final int position, final float positionOffset) {
+		if (selectionIndicator instanceof ScrollingSelectionIndicator) {
+			((ScrollingSelectionIndicator) selectionIndicator)
+					.onSelectionScrolled(position, positionOffset);
+		}
+	}
+
+	/**
+	 * Makes the selection indicator (if there is one) match the number of pages and the current
+	 * page, without animation.
+	 */
+	public void syncSelectionIndicator() {
+		if (selectionIndicator != null) {
+			final int pageCount = pager.getPageCount();
+			final int currentPage = pager.getCurrentPage();
+
+			selectionIndicator.setNumberOfItems(pageCount);
+
+			if (currentPage < pageCount) {
+				selectionIndicator.setSelectedItem(currentPage, false);
+			}
+		}
+	}
+
+	/**
+	 * Returns the buttons which are currently visible (or are transitioning to being visible).
+	 *
+	 * @return a bit mask of {@link #LEFT_BUTTON}, {@link #RIGHT_BUTTON} and {@link #FINAL_BUTTON}
+	 */
+	public int getVisibleButtons() {
+		return appliedButtonState;
+	}
+
+
+	// Navigation methods
+
+	/**
+	 * Navigates to the page at the supplied index, unless the lock mode prevents commands.
+	 *
+	 * @param pageIndex
+	 * 		the index of the page to display, counting from zero
+	 */
+	@Override
+	public void goToPage(final int pageIndex) {
+		if (lockMode.allowsCommands()) {
+			pager.setCurrentPage(pageIndex, true);
+		}
+	}
+
+	/**
+	 * Navigates to the first page, unless the lock mode prevents commands.
+	 */
+	@Override
+	public void goToFirstPage() {
+		goToPage(0);
+	}
+
+	/**
+	 * Navigates to the last page, unless the lock mode prevents commands.
+	 */
+	@Override
+	public void goToLastPage() {
+		goToPage(pager.getPageCount() - 1);
+	}
+
+	/**
+	 * Navigates to the next page, unless the last page is displayed or the lock mode prevents
+	 * commands.
+	 */
+	@Override
+	public void goToNextPage() {
+		final int currentPage = pager.getCurrentPage();
+
+		if (currentPage < pager.getPageCount() - 1) {
+			goToPage(currentPage + 1);
+		}
+	}
+
+	/**
+	 * Navigates to the previous page, unless the first page is displayed or the lock mode prevents
+	 * commands.
+	 */
+	@Override
+	public void goToPreviousPage() {
+		final int currentPage = pager.getCurrentPage();
+
+		if (currentPage > 0) {
+			goToPage(currentPage - 1);
+		}
+	}
+
+	/**
+	 * Handles a press of the back button by navigating to the previous page. If the first page is
+	 * displayed or the lock mode prevents commands, then nothing happens and the host should apply
+	 * its default back behaviour.
+	 *
+	 * @return true if the back press was consumed, false otherwise
+	 */
+	public boolean onBackPressed() {
+		if (pager.getCurrentPage() == 0 || !lockMode.allowsCommands()) {
+			return false;
+		}
+
+		goToPreviousPage();
+		return true;
+	}
+
+	/**
+	 * Sets the lock mode, which determines whether or not touch events and commands can change the
+	 * page.
+	 *
+	 * @param lockMode
+	 * 		the lock mode to use, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code lockMode} is null
+	 */
+	public void setLockMode(final LockMode lockMode) {
+		if (lockMode == null) {
+			throw new IllegalArgumentException("lockMode cannot be null");
+		}
+
+		this.lockMode = lockMode;
+		pager.setLockMode(lockMode);
+	}
+
+	/**
+	 * @return the current lock mode, not null
+	 */
+	public LockMode getLockMode() {
+		return lockMode;
+	}
+
+
+	// Button methods
+
+	/**
+	 * Sets whether or not the left button is disabled on all pages. This takes precedence over
+	 * {@link #setLeftButtonDisabledOnLastPage(boolean)}.
+	 *
+	 * @param disabled
+	 * 		true to disable the button, false to enable it
+	 */
+	public void setLeftButtonDisabled(final boolean disabled) {
+		leftButtonDisabled = disabled;
+		compileButtonStates();
+		reflectStateInButtons();
+	}
+
+	/**
+	 * @return true if the left button is disabled on all pages, false otherwise
+	 */
+	public boolean isLeftButtonDisabled() {
+		return leftButtonDisabled;
+	}
+
+	/**
+	 * Sets whether or not the left button is disabled on the last page.
+	 *
+	 * @param disabled
+	 * 		true to disable the button on the last page, false to enable it
+	 */
+	public void setLeftButtonDisabledOnLastPage(final boolean disabled) {
+		disableLeftButtonOnLastPage = disabled;
+		compileButtonStates();
+		reflectStateInButtons();
+	}
+
+	/**
+	 * @return true if the left button is disabled on the last page, false otherwise
+	 */
+	public boolean isLeftButtonDisabledOnLastPage() {
+		return disableLeftButtonOnLastPage;
+	}
+
+	/**
+	 * Sets whether or not the right button is disabled on all pages.
+	 *
+	 * @param disabled
+	 * 		true to disable the button, false to enable it
+	 */
+	public void setRightButtonDisabled(final boolean disabled) {
+		rightButtonDisabled = disabled;
+		compileButtonStates();
+		reflectStateInButtons();
+	}
+
+	/**
+	 * @return true if the right button is disabled on all pages, false otherwise
+	 */
+	public boolean isRightButtonDisabled() {
+		return rightButtonDisabled;
+	}
+
+	/**
+	 * Sets whether or not the final button is disabled on all pages.
+	 *
+	 * @param disabled
+	 * 		true to disable the button, false to enable it
+	 */
+	public void setFinalButtonDisabled(final boolean disabled) {
+		finalButtonDisabled = disabled;
+		compileButtonStates();
+		reflectStateInButtons();
+	}
+
+	/**
+	 * @return true if the final button is disabled on all pages, false otherwise
+	 */
+	public boolean isFinalButtonDisabled() {
+		return finalButtonDisabled;
+	}
+
+
+	// Selection indicator methods
+
+	/**
+	 * Sets the selection indicator to keep synchronised with the pages. The indicator is not
+	 * updated until the next page change or call to {@link #syncSelectionIndicator()}.
+	 *
+	 * @param selectionIndicator
+	 * 		the selection indicator to use, null to clear any existing indicator
+	 */
+	public void setSelectionIndicator(final SelectionIndicator selectionIndicator) {
+		this.selectionIndicator = selectionIndicator;
+	}
+
+	/**
+	 * @return the current selection indicator, may be null
+	 */
+	public SelectionIndicator getSelectionIndicator() {
+		return selectionIndicator;
+	}
+
+	/**
+	 * Enables/disables selection indicator page change animations.
+	 *
+	 * @param enableAnimations
+	 * 		true to enable animations, false to disable them
+	 */
+	public void enableSelectionIndicatorAnimations(final boolean enableAnimations) {
+		selectionIndicatorAnimationsEnabled = enableAnimations;
+	}
+
+	/**
+	 * @return true if selection indicator page change animations are enabled, false otherwise
+	 */
+	public boolean selectionIndicatorAnimationsAreEnabled() {
+		return selectionIndicatorAnimationsEnabled;
+	}
+
+
+	// State methods
+
+	/**
+	 * Captures the current page, lock mode, button flags and selection indicator animation
+	 * setting in a snapshot which can later be passed to {@link #restoreState(IntroState)}.
+	 *
+	 * @return the snapshot, not null
+	 */
+	public IntroState saveState() {
+		return new IntroState(pager.getCurrentPage(), lockMode, leftButtonDisabled,
+				disableLeftButtonOnLastPage, rightButtonDisabled, finalButtonDisabled,
+				selectionIndicatorAnimationsEnabled);
+	}
+
+	/**
+	 * Applies the lock mode, button flags and selection indicator animation setting of a
+	 * snapshot. The button state table is recompiled, but the buttons are not changed until the
+	 * next call to {@link #reflectStateInButtons()}, and the page is not changed. This allows the
+	 * host to restore the page and then apply the buttons in a single step.
+	 *
+	 * @param state
+	 * 		the snapshot to restore, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code state} is null
+	 */
+	public void restoreState(final IntroState state) {
+		if (state == null) {
+			throw new IllegalArgumentException("state cannot be null");
+		}
+
+		leftButtonDisabled = state.isLeftButtonDisabled();
+		disableLeftButtonOnLastPage = state.isLeftButtonDisabledOnLastPage();
+		rightButtonDisabled = state.isRightButtonDisabled();
+		finalButtonDisabled = state.isFinalButtonDisabled();
+		selectionIndicatorAnimationsEnabled = state.selectionIndicatorAnimationsAreEnabled();
+		setLockMode(state.getLockMode());
+		compileButtonStates();
+	}
+
+	/**
+	 * Recompiles the button state table, so that it matches the current flags and number of
+	 * pages.
+	 */
+	private void compileButtonStates() {
+		buttonStateTable.compile(pager.getPageCount(), leftButtonDisabled,
+				disableLeftButtonOnLastPage, rightButtonDisabled, finalButtonDisabled);
+	}
+
+	/**
+	 * Displays the pages of an {@link IntroController}.
+	 */
+	public interface Pager {
+		/**
+		 * @return the total number of pages, not negative
+		 */
+		int getPageCount();
+
+		/**
+		 * @return the index of the currently displayed page, counting from zero
+		 */
+		int getCurrentPage();
+
+		/**
+		 * Displays the page at the supplied index.
+		 *
+		 * @param pageIndex
+		 * 		the index of the page to display, counting from zero
+		 * @param smoothScroll
+		 * 		true to smoothly scroll to the page, false to change the page immediately
+		 */
+		void setCurrentPage(int pageIndex, boolean smoothScroll);
+
+		/**
+		 * Applies a lock mode to the pager, so that touch events are blocked if necessary.
+		 *
+		 * @param lockMode
+		 * 		the lock mode to apply, not null
+		 */
+		void setLockMode(LockMode lockMode);
+	}
+
+	/**
+	 * Shows and hides the buttons of an {@link IntroController}.
+	 */
+	public interface ButtonSwitcher {
+		/**
+		 * Shows or hides a button. This method is only called when the visibility of the button
+		 * needs to change.
+		 *
+		 * @param button
+		 * 		the button to change, one of {@link IntroController#LEFT_BUTTON}, {@link
+		 * 		IntroController#RIGHT_BUTTON} and {@link IntroController#FINAL_BUTTON}
+		 * @param visible
+		 * 		true to show the button, false to hide it
+		 */
+		void setButtonVisible(int button, boolean visible);
+	}
+}
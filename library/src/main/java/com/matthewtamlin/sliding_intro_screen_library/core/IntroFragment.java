@@ -0,0 +1,205 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.os.Bundle;
+import android.support.v4.app.Fragment;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton.Behaviour;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Displays an introduction screen inside a Fragment, so that it can be embedded in an existing
+ * activity rather than requiring a dedicated {@link IntroActivity} to be launched. The Fragment
+ * wraps an {@link IntroView}, and attaches the pages to its child FragmentManager.
+ * <p/>
+ * To use this class, subclass it and implement {@link #generateFinalButtonBehaviour()}, and
+ * either {@link #generatePages(Bundle)} or {@link #generatePageProvider(Bundle)}. The
+ * IntroView can be customised in {@link #onIntroViewCreated(IntroView, Bundle)}, or at any
+ * later time using {@link #getIntroView()}. Since there is no IntroActivity to target, the
+ * Behaviour of the final button should not rely on {@link Behaviour#getActivity()}. The current
+ * page, lock mode and button flags of the IntroView are saved with the Fragment, and restored when
+ * the View is recreated.
+ */
+public abstract class IntroFragment extends Fragment implements IntroNavigator {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[IntroFragment]";
+
+	/**
+	 * Key for saving and restoring the {@link IntroState} of the IntroView.
+	 */
+	private static final String STATE_KEY_INTRO_STATE = "intro state";
+
+	/**
+	 * Displays the introduction screen, null until the View of this Fragment is created.
+	 */
+	private IntroView introView;
+
+	/**
+	 * The state of the most recently destroyed IntroView, so that it can still be saved while the
+	 * Fragment has no View (for example, while it is in the back stack). Null if there is none.
+	 */
+	private IntroState destroyedViewState = null;
+
+	@Override
+	public View onCreateView(final LayoutInflater inflater, final ViewGroup container,
+			final Bundle savedInstanceState) {
+		introView = new IntroView(inflater.getContext());
+		introView.getFinalButtonAccessor().setBehaviour(generateFinalButtonBehaviour());
+
+		final PageProvider pageProvider = generatePageProvider(savedInstanceState);
+
+		if (pageProvider == null) {
+			introView.setPages(getChildFragmentManager(), generatePages(savedInstanceState));
+		} else {
+			introView.setPageProvider(getChildFragmentManager(), pageProvider);
+		}
+
+		final IntroState restoredState = (savedInstanceState == null) ?
+				null :
+				(IntroState) savedInstanceState.getParcelable(STATE_KEY_INTRO_STATE);
+
+		if (destroyedViewState != null) {
+			introView.restoreState(destroyedViewState);
+			destroyedViewState = null;
+		} else if (restoredState != null) {
+			introView.restoreState(restoredState);
+		}
+
+		onIntroViewCreated(introView, savedInstanceState);
+
+		return introView;
+	}
+
+	@Override
+	public void onSaveInstanceState(final Bundle outState) {
+		super.onSaveInstanceState(outState);
+
+		final IntroState state = (introView == null) ? destroyedViewState : introView.saveState();
+
+		if (state != null) {
+			outState.putParcelable(STATE_KEY_INTRO_STATE, state);
+		}
+	}
+
+	@Override
+	public void onDestroyView() {
+		super.onDestroyView();
+		destroyedViewState = introView.saveState();
+		introView = null;
+	}
+
+	/**
+	 * Called by {@link #onCreateView(LayoutInflater, ViewGroup, Bundle)} to generate the pages
+	 * displayed in this Fragment. This method is not called if {@link
+	 * #generatePageProvider(Bundle)} returns a PageProvider. The default implementation returns an
+	 * empty collection.
+	 *
+	 * @param savedInstanceState
+	 * 		if this Fragment is being re-created from a previous saved state, this is the state,
+	 * 		otherwise null
+	 * @return the pages to display, not null
+	 */
+	protected Collection<? extends Fragment> generatePages(Bundle savedInstanceState) {
+		return new ArrayList<>();
+	}
+
+	/**
+	 * Called by {@link #onCreateView(LayoutInflater, ViewGroup, Bundle)} to generate a
+	 * PageProvider which creates the pages of this Fragment on demand. The default implementation
+	 * returns null, in which case the pages are obtained from {@link #generatePages(Bundle)}.
+	 *
+	 * @param savedInstanceState
+	 * 		if this Fragment is being re-created from a previous saved state, this is the state,
+	 * 		otherwise null
+	 * @return the PageProvider to use, null to use {@link #generatePages(Bundle)} instead
+	 */
+	protected PageProvider generatePageProvider(Bundle savedInstanceState) {
+		return null;
+	}
+
+	/**
+	 * Called by {@link #onCreateView(LayoutInflater, ViewGroup, Bundle)} to generate the Behaviour
+	 * to assign to the final button.
+	 *
+	 * @return the Behaviour to use, not null
+	 */
+	protected abstract Behaviour generateFinalButtonBehaviour();
+
+	/**
+	 * Called once the IntroView of this Fragment has been created and its pages have been set.
+	 * Override this method to customise the IntroView. The default implementation does nothing.
+	 *
+	 * @param introView
+	 * 		the IntroView which displays the introduction, not null
+	 * @param savedInstanceState
+	 * 		if this Fragment is being re-created from a previous saved state, this is the state,
+	 * 		otherwise null
+	 */
+	protected void onIntroViewCreated(final IntroView introView, final Bundle savedInstanceState) {}
+
+	/**
+	 * @return the IntroView which displays the introduction, null if the View of this Fragment
+	 * has not been created or has been destroyed
+	 */
+	public IntroView getIntroView() {
+		return introView;
+	}
+
+	@Override
+	public void goToPage(final int pageIndex) {
+		if (introView != null) {
+			introView.goToPage(pageIndex);
+		}
+	}
+
+	@Override
+	public void goToFirstPage() {
+		if (introView != null) {
+			introView.goToFirstPage();
+		}
+	}
+
+	@Override
+	public void goToLastPage() {
+		if (introView != null) {
+			introView.goToLastPage();
+		}
+	}
+
+	@Override
+	public void goToNextPage() {
+		if (introView != null) {
+			introView.goToNextPage();
+		}
+	}
+
+	@Override
+	public void goToPreviousPage() {
+		if (introView != null) {
+			introView.goToPreviousPage();
+		}
+	}
+}
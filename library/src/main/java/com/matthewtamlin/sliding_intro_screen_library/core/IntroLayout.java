@@ -0,0 +1,271 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.support.v4.app.Fragment;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.RelativeLayout;
+
+import com.matthewtamlin.sliding_intro_screen_library.R;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton.Appearance;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton.Behaviour;
+
+import java.util.List;
+
+/**
+ * Binds the Views of the introduction layout, and initialises the buttons and the controller
+ * which are shared by {@link IntroActivity} and {@link IntroView}. The host supplies the root
+ * of the inflated {@code activity_intro} layout, and then calls {@link
+ * #initialiseButtons(IntroActivity, IntroNavigator, Behaviour)} and {@link
+ * #createController(List)} in that order.
+ */
+final class IntroLayout {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[IntroLayout]";
+
+	/**
+	 * The Appearance to use for the left button until it is explicitly set.
+	 */
+	private static final Appearance DEFAULT_LEFT_BUTTON_APPEARANCE = Appearance.TEXT_ONLY;
+
+	/**
+	 * The Appearance to use for the right button until it is explicitly set.
+	 */
+	private static final Appearance DEFAULT_RIGHT_BUTTON_APPEARANCE = Appearance.ICON_ONLY;
+
+	/**
+	 * The appearance to use for the final button until it is explicitly set.
+	 */
+	private static final Appearance DEFAULT_FINAL_BUTTON_APPEARANCE = Appearance.TEXT_ONLY;
+
+	/**
+	 * The text to display in the final button until it is explicitly set.
+	 */
+	private static final CharSequence DEFAULT_FINAL_BUTTON_TEXT = "DONE";
+
+	/**
+	 * The root of the inflated layout.
+	 */
+	private final RelativeLayout rootView;
+
+	/**
+	 * Displays the pages to the user.
+	 */
+	private final LockableViewPager viewPager;
+
+	/**
+	 * The thin horizontal divider separating the navigation elements from the pages.
+	 */
+	private final View horizontalDivider;
+
+	/**
+	 * Wrapper for the selection indicator.
+	 */
+	private final FrameLayout progressIndicatorWrapper;
+
+	/**
+	 * The IntroButton displayed in the left end of the navigation bar.
+	 */
+	private final IntroButton leftButton;
+
+	/**
+	 * The IntroButton displayed in the right end of the navigation bar.
+	 */
+	private final IntroButton rightButton;
+
+	/**
+	 * The IntroButton displayed in the right end of the navigation bar when the last page is
+	 * shown.
+	 */
+	private final IntroButton finalButton;
+
+	/**
+	 * Shows and hides the buttons on behalf of the controller, null until the controller is
+	 * created.
+	 */
+	private ButtonSlotSwitcher buttonSwitcher = null;
+
+	/**
+	 * Constructs a new IntroLayout instance.
+	 *
+	 * @param rootView
+	 * 		the root of the inflated {@code activity_intro} layout, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code rootView} is null
+	 */
+	public IntroLayout(final RelativeLayout rootView) {
+		if (rootView == null) {
+			throw new IllegalArgumentException("rootView cannot be null");
+		}
+
+		this.rootView = rootView;
+		horizontalDivider = rootView.findViewById(R.id.intro_activity_horizontalDivider);
+		viewPager = (LockableViewPager) rootView.findViewById(R.id.intro_activity_viewPager);
+		progressIndicatorWrapper =
+				(FrameLayout) rootView.findViewById(R.id.intro_activity_progressIndicatorHolder);
+		leftButton = (IntroButton) rootView.findViewById(R.id.intro_activity_leftButton);
+		rightButton = (IntroButton) rootView.findViewById(R.id.intro_activity_rightButton);
+		finalButton = (IntroButton) rootView.findViewById(R.id.intro_activity_finalButton);
+	}
+
+	/**
+	 * Sets the default Behaviour and Appearance of each button, and the default text of the final
+	 * button.
+	 *
+	 * @param activity
+	 * 		the activity to set as the Behaviour target of each button, null if there is none
+	 * @param navigator
+	 * 		the navigator to set as the Behaviour target of each button, null to navigate using the
+	 * 		activity
+	 * @param finalButtonBehaviour
+	 * 		the Behaviour to use for the final button, not null
+	 */
+	public void initialiseButtons(final IntroActivity activity, final IntroNavigator navigator,
+			final Behaviour finalButtonBehaviour) {
+		initialiseButton(leftButton, new IntroButton.GoToLastPage(),
+				DEFAULT_LEFT_BUTTON_APPEARANCE, activity, navigator);
+		initialiseButton(rightButton, new IntroButton.GoToNextPage(),
+				DEFAULT_RIGHT_BUTTON_APPEARANCE, activity, navigator);
+		initialiseButton(finalButton, finalButtonBehaviour, DEFAULT_FINAL_BUTTON_APPEARANCE,
+				activity, navigator);
+		finalButton.setText(DEFAULT_FINAL_BUTTON_TEXT, null);
+	}
+
+	/**
+	 * Creates the ButtonSlotSwitcher for the buttons, and the controller which contains the
+	 * navigation and button logic. The buttons must be initialised first, since their visibility
+	 * defines the initial button state.
+	 *
+	 * @param pages
+	 * 		the dataset of the ViewPager, not null
+	 * @return the controller, not null
+	 */
+	public IntroController createController(final List<Fragment> pages) {
+		buttonSwitcher = new ButtonSlotSwitcher(leftButton, rightButton, finalButton);
+
+		return new IntroController(new LockablePager(viewPager, pages), buttonSwitcher,
+				buttonSwitcher.getInitialButtonState());
+	}
+
+	/**
+	 * Hides the final button when the window gains focus and the last page is not displayed. The
+	 * final state of the final button disappear animation needs to be applied at this point so
+	 * that the appear animation displays properly later. The state is applied without a visible
+	 * transition, using the Animator of the final button's slot.
+	 *
+	 * @param hasFocus
+	 * 		whether or not the window now has focus
+	 * @param currentPageIndex
+	 * 		the index of the page which is currently displayed
+	 * @param pageCount
+	 * 		the number of pages in the dataset
+	 */
+	public void onWindowFocusChanged(final boolean hasFocus, final int currentPageIndex,
+			final int pageCount) {
+		final boolean lastPage = currentPageIndex + 1 == pageCount;
+
+		if (hasFocus && !lastPage && buttonSwitcher != null &&
+				buttonSwitcher.getAnimatorFactory() != null) {
+			buttonSwitcher.hideButton(IntroController.FINAL_BUTTON);
+		}
+	}
+
+	/**
+	 * @return the root of the inflated layout, not null
+	 */
+	public RelativeLayout getRootView() {
+		return rootView;
+	}
+
+	/**
+	 * @return the ViewPager which displays the pages, not null
+	 */
+	public LockableViewPager getViewPager() {
+		return viewPager;
+	}
+
+	/**
+	 * @return the horizontal divider separating the navigation elements from the pages, not null
+	 */
+	public View getHorizontalDivider() {
+		return horizontalDivider;
+	}
+
+	/**
+	 * @return the wrapper for the selection indicator, not null
+	 */
+	public FrameLayout getProgressIndicatorWrapper() {
+		return progressIndicatorWrapper;
+	}
+
+	/**
+	 * @return the left button, not null
+	 */
+	public IntroButton getLeftButton() {
+		return leftButton;
+	}
+
+	/**
+	 * @return the right button, not null
+	 */
+	public IntroButton getRightButton() {
+		return rightButton;
+	}
+
+	/**
+	 * @return the final button, not null
+	 */
+	public IntroButton getFinalButton() {
+		return finalButton;
+	}
+
+	/**
+	 * @return the ButtonSlotSwitcher which shows and hides the buttons, null if the controller
+	 * has not been created
+	 */
+	public ButtonSlotSwitcher getButtonSwitcher() {
+		return buttonSwitcher;
+	}
+
+	/**
+	 * Sets the Behaviour, Appearance and Behaviour targets of a button.
+	 *
+	 * @param button
+	 * 		the button to initialise, not null
+	 * @param behaviour
+	 * 		the Behaviour to use, not null
+	 * @param appearance
+	 * 		the Appearance to use, not null
+	 * @param activity
+	 * 		the activity to target, null if there is none
+	 * @param navigator
+	 * 		the navigator to target, null to navigate using the activity
+	 */
+	private static void initialiseButton(final IntroButton button, final Behaviour behaviour,
+			final Appearance appearance, final IntroActivity activity,
+			final IntroNavigator navigator) {
+		button.setBehaviour(behaviour);
+		button.setAppearance(appearance);
+		button.setActivity(activity);
+		button.setNavigator(navigator);
+	}
+}
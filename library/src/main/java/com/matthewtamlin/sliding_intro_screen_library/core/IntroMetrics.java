@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+/**
+ * Receives performance measurements from an {@link IntroActivity}. Each time the user scrolls
+ * between pages, the frames drawn and the time spent updating the UI are measured from when the
+ * pages start moving until they come to rest. The measurements are then delivered to {@link
+ * #onTransitionMeasured(TransitionMetrics)}. Measurement only occurs while an IntroMetrics is
+ * registered (see {@link IntroActivity#setIntroMetrics(IntroMetrics)}), and is inexpensive enough
+ * to be left enabled in production.
+ */
+public interface IntroMetrics {
+	/**
+	 * Called on the UI thread when a page transition finishes. The supplied TransitionMetrics is
+	 * reused for subsequent transitions, so it must not be retained after this method returns.
+	 * Implementations should copy any values they need and return quickly.
+	 *
+	 * @param metrics
+	 * 		the measurements of the transition, not null
+	 */
+	void onTransitionMeasured(TransitionMetrics metrics);
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+/**
+ * Moves through the pages of an introduction screen. This interface is implemented by each host
+ * of an introduction screen ({@link IntroActivity}, {@link IntroView} and {@link IntroFragment}),
+ * so that navigation Behaviours can operate on any of them.
+ */
+public interface IntroNavigator {
+	/**
+	 * Navigates to the page at the supplied index.
+	 *
+	 * @param pageIndex
+	 * 		the index of the page to display, counting from zero
+	 */
+	void goToPage(int pageIndex);
+
+	/**
+	 * Navigates to the first page (if not already there).
+	 */
+	void goToFirstPage();
+
+	/**
+	 * Navigates to the last page (if not already there).
+	 */
+	void goToLastPage();
+
+	/**
+	 * Navigates to the next page (if not already there).
+	 */
+	void goToNextPage();
+
+	/**
+	 * Navigates to the previous page (if not already there).
+	 */
+	void goToPreviousPage();
+}
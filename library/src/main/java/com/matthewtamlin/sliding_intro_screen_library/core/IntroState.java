@@ -0,0 +1,210 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import com.matthewtamlin.sliding_intro_screen_library.core.LockableViewPager.LockMode;
+
+/**
+ * An immutable snapshot of the state of an introduction screen. The snapshot records the current
+ * page, the lock mode, the button flags and the selection indicator animation setting, so that an
+ * introduction screen can resume exactly where it left off after being recreated. The flags are
+ * packed into a single int so that the parcelled form of the snapshot remains small.
+ */
+public final class IntroState implements Parcelable {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[IntroState]";
+
+	/**
+	 * Flag indicating that the left button is disabled on all pages.
+	 */
+	private static final int FLAG_LEFT_BUTTON_DISABLED = 1;
+
+	/**
+	 * Flag indicating that the left button is disabled on the last page.
+	 */
+	private static final int FLAG_LEFT_BUTTON_DISABLED_ON_LAST_PAGE = 1 << 1;
+
+	/**
+	 * Flag indicating that the right button is disabled on all pages.
+	 */
+	private static final int FLAG_RIGHT_BUTTON_DISABLED = 1 << 2;
+
+	/**
+	 * Flag indicating that the final button is disabled on all pages.
+	 */
+	private static final int FLAG_FINAL_BUTTON_DISABLED = 1 << 3;
+
+	/**
+	 * Flag indicating that selection indicator animations are enabled.
+	 */
+	private static final int FLAG_INDICATOR_ANIMATIONS_ENABLED = 1 << 4;
+
+	/**
+	 * Creates IntroState instances from Parcels.
+	 */
+	public static final Creator<IntroState> CREATOR = new Creator<IntroState>() {
+		@Override
+		public IntroState createFromParcel(final Parcel source) {
+			final int currentPageIndex = source.readInt();
+			final LockMode lockMode = LockMode.values()[source.readInt()];
+			final int flags = source.readInt();
+
+			return new IntroState(currentPageIndex, lockMode, flags);
+		}
+
+		@Override
+		public IntroState[] newArray(final int size) {
+			return new IntroState[size];
+		}
+	};
+
+	/**
+	 * The index of the page which was displayed.
+	 */
+	private final int currentPageIndex;
+
+	/**
+	 * The lock mode which was in use.
+	 */
+	private final LockMode lockMode;
+
+	/**
+	 * The button flags and indicator animation setting, as a bit mask of the flag constants.
+	 */
+	private final int flags;
+
+	/**
+	 * Constructs a new IntroState instance.
+	 *
+	 * @param currentPageIndex
+	 * 		the index of the page which is displayed, counting from zero
+	 * @param lockMode
+	 * 		the lock mode which is in use, not null
+	 * @param leftButtonDisabled
+	 * 		whether or not the left button is disabled on all pages
+	 * @param leftButtonDisabledOnLastPage
+	 * 		whether or not the left button is disabled on the last page
+	 * @param rightButtonDisabled
+	 * 		whether or not the right button is disabled on all pages
+	 * @param finalButtonDisabled
+	 * 		whether or not the final button is disabled on all pages
+	 * @param indicatorAnimationsEnabled
+	 * 		whether or not selection indicator animations are enabled
+	 * @throws IllegalArgumentException
+	 * 		if {@code lockMode} is null
+	 */
+	IntroState(final int currentPageIndex, final LockMode lockMode,
+			final boolean leftButtonDisabled, final boolean leftButtonDisabledOnLastPage,
+			final boolean rightButtonDisabled, final boolean finalButtonDisabled,
+			final boolean indicatorAnimationsEnabled) {
+		this(currentPageIndex, lockMode,
+				(leftButtonDisabled ? FLAG_LEFT_BUTTON_DISABLED : 0) |
+						(leftButtonDisabledOnLastPage ? FLAG_LEFT_BUTTON_DISABLED_ON_LAST_PAGE : 0) |
+						(rightButtonDisabled ? FLAG_RIGHT_BUTTON_DISABLED : 0) |
+						(finalButtonDisabled ? FLAG_FINAL_BUTTON_DISABLED : 0) |
+						(indicatorAnimationsEnabled ? FLAG_INDICATOR_ANIMATIONS_ENABLED : 0));
+	}
+
+	/**
+	 * Constructs a new IntroState instance from packed flags.
+	 *
+	 * @param currentPageIndex
+	 * 		the index of the page which is displayed, counting from zero
+	 * @param lockMode
+	 * 		the lock mode which is in use, not null
+	 * @param flags
+	 * 		the button flags and indicator animation setting, as a bit mask of the flag constants
+	 * @throws IllegalArgumentException
+	 * 		if {@code lockMode} is null
+	 */
+	private IntroState(final int currentPageIndex, final LockMode lockMode, final int flags) {
+		if (lockMode == null) {
+			throw new IllegalArgumentException("lockMode cannot be null");
+		}
+
+		this.currentPageIndex = currentPageIndex;
+		this.lockMode = lockMode;
+		this.flags = flags;
+	}
+
+	/**
+	 * @return the index of the page which was displayed, counting from zero
+	 */
+	public int getCurrentPageIndex() {
+		return currentPageIndex;
+	}
+
+	/**
+	 * @return the lock mode which was in use, not null
+	 */
+	public LockMode getLockMode() {
+		return lockMode;
+	}
+
+	/**
+	 * @return true if the left button was disabled on all pages, false otherwise
+	 */
+	public boolean isLeftButtonDisabled() {
+		return (flags & FLAG_LEFT_BUTTON_DISABLED) != 0;
+	}
+
+	/**
+	 * @return true if the left button was disabled on the last page, false otherwise
+	 */
+	public boolean isLeftButtonDisabledOnLastPage() {
+		return (flags & FLAG_LEFT_BUTTON_DISABLED_ON_LAST_PAGE) != 0;
+	}
+
+	/**
+	 * @return true if the right button was disabled on all pages, false otherwise
+	 */
+	public boolean isRightButtonDisabled() {
+		return (flags & FLAG_RIGHT_BUTTON_DISABLED) != 0;
+	}
+
+	/**
+	 * @return true if the final button was disabled on all pages, false otherwise
+	 */
+	public boolean isFinalButtonDisabled() {
+		return (flags & FLAG_FINAL_BUTTON_DISABLED) != 0;
+	}
+
+	/**
+	 * @return true if selection indicator animations were enabled, false otherwise
+	 */
+	public boolean selectionIndicatorAnimationsAreEnabled() {
+		return (flags & FLAG_INDICATOR_ANIMATIONS_ENABLED) != 0;
+	}
+
+	@Override
+	public int describeContents() {
+		return 0;
+	}
+
+	@Override
+	public void writeToParcel(final Parcel dest, final int flags) {
+		dest.writeInt(currentPageIndex);
+		dest.writeInt(lockMode.ordinal());
+		dest.writeInt(this.flags);
+	}
+}
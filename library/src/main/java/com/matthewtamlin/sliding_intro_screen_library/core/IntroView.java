@@ -0,0 +1,670 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Parcelable;
+import android.support.v4.app.Fragment;
+import android.support.v4.app.FragmentManager;
+import android.support.v4.view.ViewPager;
+import android.support.v4.view.ViewPager.OnPageChangeListener;
+import android.util.AttributeSet;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.RelativeLayout;
+
+import com.matthewtamlin.sliding_intro_screen_library.R;
+import com.matthewtamlin.sliding_intro_screen_library.background.BackgroundManager;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.AnimatorFactory;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.FadeAnimatorFactory;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButtonAccessor;
+import com.matthewtamlin.sliding_intro_screen_library.core.LockableViewPager.LockMode;
+import com.matthewtamlin.sliding_intro_screen_library.indicators.DotIndicator;
+import com.matthewtamlin.sliding_intro_screen_library.indicators.SelectionIndicator;
+import com.matthewtamlin.sliding_intro_screen_library.transformers.ScrollStateAwareTransformer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Displays an introduction screen inside an existing layout, rather than in a dedicated {@link
+ * IntroActivity}. This avoids the cost of launching a new activity, and allows the introduction to
+ * be shown alongside other content. The View contains the same pages, navigation bar, buttons and
+ * progress indicator as an IntroActivity, and the navigation, lock mode and button logic is
+ * provided by an {@link IntroController} (see {@link #getController()}).
+ * <p/>
+ * The pages are supplied by calling either {@link #setPages(FragmentManager, Collection)} or
+ * {@link #setPageProvider(FragmentManager, PageProvider)} exactly once. The supplied
+ * FragmentManager should be the child FragmentManager of the enclosing Fragment, or the
+ * FragmentManager of the enclosing activity. Only one IntroView should be attached to each
+ * FragmentManager, since the pages are identified by the ID of the ViewPager. The {@link
+ * IntroFragment} class wraps an IntroView and manages these details automatically.
+ * <p/>
+ * The buttons of an IntroView navigate using this View instead of an activity, therefore
+ * Behaviours which require an IntroActivity (such as {@link IntroButton.ProgressToNextActivity},
+ * {@link IntroButton.CloseApp} and {@link IntroButton.RequestPermissions}) have no effect. The
+ * final button does nothing by default, and should be given a custom Behaviour or an
+ * OnClickListener via {@link #getFinalButtonAccessor()}.
+ */
+public class IntroView extends FrameLayout implements IntroNavigator {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[IntroView]";
+
+	/**
+	 * Key for saving and restoring the state of the FrameLayout superclass.
+	 */
+	private static final String STATE_KEY_SUPER_STATE = "super state";
+
+	/**
+	 * Key for saving and restoring the {@link IntroState}.
+	 */
+	private static final String STATE_KEY_INTRO_STATE = "intro state";
+
+	/**
+	 * Binds the Views of the layout, and initialises the buttons and controller.
+	 */
+	private IntroLayout introLayout;
+
+	/**
+	 * The root of the inflated layout.
+	 */
+	private RelativeLayout rootView;
+
+	/**
+	 * Displays the pages to the user.
+	 */
+	private LockableViewPager viewPager;
+
+	/**
+	 * The thin horizontal divider separating the navigation elements from the pages.
+	 */
+	private View horizontalDivider;
+
+	/**
+	 * Wrapper for the selection indicator.
+	 */
+	private FrameLayout progressIndicatorWrapper;
+
+	/**
+	 * The IntroButton displayed in the left end of the navigation bar.
+	 */
+	private IntroButton leftButton;
+
+	/**
+	 * The IntroButton displayed in the right end of the navigation bar.
+	 */
+	private IntroButton rightButton;
+
+	/**
+	 * The IntroButton displayed in the right end of the navigation bar when the last page is
+	 * shown.
+	 */
+	private IntroButton finalButton;
+
+	/**
+	 * Shows and hides the buttons on behalf of the controller.
+	 */
+	private ButtonSlotSwitcher buttonSwitcher;
+
+	/**
+	 * Contains the navigation, lock mode, button state and indicator logic of this View.
+	 */
+	private IntroController controller;
+
+	/**
+	 * The pages to display.
+	 */
+	private final ArrayList<Fragment> pages = new ArrayList<>();
+
+	/**
+	 * Adapts the pages so that they can be displayed in the UI, null until the pages are set.
+	 */
+	private PageAdapter adapter = null;
+
+	/**
+	 * Updates the background of this View as the pages scroll.
+	 */
+	private BackgroundManager backgroundManager = null;
+
+	/**
+	 * The transformer supplied to {@link #setPageTransformer(boolean, ViewPager.PageTransformer)},
+	 * null if there is none.
+	 */
+	private ViewPager.PageTransformer pageTransformer = null;
+
+	/**
+	 * State which was restored before the pages were set, null if there is none. The state is
+	 * applied once the pages are set.
+	 */
+	private IntroState pendingState = null;
+
+	/**
+	 * Page change events from {@code viewPager} are delegated to this receiver. Using a delegate as
+	 * the receiver hides the internal implementation from the class signature.
+	 */
+	private final OnPageChangeListener pageChangeListenerDelegate = new OnPageChangeListener() {
+		@Override
+		public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {
+			if (backgroundManager != null) {
+				backgroundManager.updateBackground(rootView, position, positionOffset);
+			}
+
+			controller.onPageScrolled(position, positionOffset);
+		}
+
+		@Override
+		public void onPageSelected(int position) {
+			controller.onPageSelected(position);
+		}
+
+		@Override
+		public void onPageScrollStateChanged(int state) {
+			if (pageTransformer instanceof ScrollStateAwareTransformer) {
+				((ScrollStateAwareTransformer) pageTransformer).onPageScrollStateChanged(state);
+			}
+		}
+	};
+
+	/**
+	 * Constructs a new IntroView instance.
+	 *
+	 * @param context
+	 * 		the context this IntroView is operating in, not null
+	 */
+	public IntroView(final Context context) {
+		super(context);
+		init();
+	}
+
+	/**
+	 * Constructs a new IntroView instance.
+	 *
+	 * @param context
+	 * 		the context this IntroView is operating in, not null
+	 * @param attrs
+	 * 		configuration attributes, null allowed
+	 */
+	public IntroView(final Context context, final AttributeSet attrs) {
+		super(context, attrs);
+		init();
+	}
+
+	/**
+	 * Constructs a new IntroView instance.
+	 *
+	 * @param context
+	 * 		the context this IntroView is operating in, not null
+	 * @param attrs
+	 * 		configuration attributes, null allowed
+	 * @param defStyleAttr
+	 * 		an attribute in the current theme which supplies default attributes, pass 0 to ignore
+	 */
+	public IntroView(final Context context, final AttributeSet attrs, final int defStyleAttr) {
+		super(context, attrs, defStyleAttr);
+		init();
+	}
+
+	/**
+	 * Inflates the layout and initialises the buttons, controller and progress indicator.
+	 */
+	private void init() {
+		inflate(getContext(), R.layout.activity_intro, this);
+
+		introLayout = new IntroLayout((RelativeLayout) findViewById(R.id.intro_activity_root));
+		rootView = introLayout.getRootView();
+		horizontalDivider = introLayout.getHorizontalDivider();
+		viewPager = introLayout.getViewPager();
+		progressIndicatorWrapper = introLayout.getProgressIndicatorWrapper();
+		leftButton = introLayout.getLeftButton();
+		rightButton = introLayout.getRightButton();
+		finalButton = introLayout.getFinalButton();
+
+		// There is no activity to target, so the buttons navigate using this View
+		introLayout.initialiseButtons(null, this, new IntroButton.DoNothing());
+		controller = introLayout.createController(pages);
+		buttonSwitcher = introLayout.getButtonSwitcher();
+		buttonSwitcher.setAnimatorFactory(new FadeAnimatorFactory());
+
+		viewPager.addOnPageChangeListener(pageChangeListenerDelegate);
+		setProgressIndicator(new DotIndicator(getContext()));
+	}
+
+	@Override
+	public void onWindowFocusChanged(final boolean hasWindowFocus) {
+		super.onWindowFocusChanged(hasWindowFocus);
+
+		// Same as in IntroActivity, so that the final button appear animation displays properly
+		introLayout.onWindowFocusChanged(hasWindowFocus, viewPager.getCurrentItem(), pages.size());
+	}
+
+	@Override
+	protected Parcelable onSaveInstanceState() {
+		final Bundle state = new Bundle();
+		state.putParcelable(STATE_KEY_SUPER_STATE, super.onSaveInstanceState());
+		state.putParcelable(STATE_KEY_INTRO_STATE, saveState());
+		return state;
+	}
+
+	@Override
+	protected void onRestoreInstanceState(final Parcelable state) {
+		if (state instanceof Bundle) {
+			final Bundle bundle = (Bundle) state;
+			super.onRestoreInstanceState(bundle.getParcelable(STATE_KEY_SUPER_STATE));
+			restoreState((IntroState) bundle.getParcelable(STATE_KEY_INTRO_STATE));
+		} else {
+			super.onRestoreInstanceState(state);
+		}
+	}
+
+
+	// Methods relating to state
+
+	/**
+	 * Captures the current page, lock mode, button flags and selection indicator animation
+	 * setting, so that they can be restored later using {@link #restoreState(IntroState)}. The
+	 * state is saved automatically with the rest of the View hierarchy if this IntroView has an
+	 * ID, otherwise the host must save it.
+	 *
+	 * @return the state, not null
+	 */
+	public IntroState saveState() {
+		return controller.saveState();
+	}
+
+	/**
+	 * Applies a state which was captured by {@link #saveState()}, and displays the page which was
+	 * displayed at the time. The buttons are shown in their restored state immediately, rather
+	 * than replaying the transitions which led to that state. If the pages have not been set yet,
+	 * then the state is applied once they are set.
+	 *
+	 * @param state
+	 * 		the state to restore, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code state} is null
+	 */
+	public void restoreState(final IntroState state) {
+		if (state == null) {
+			throw new IllegalArgumentException("state cannot be null");
+		}
+
+		if (adapter == null) {
+			pendingState = state;
+		} else {
+			applyState(state);
+		}
+	}
+
+	/**
+	 * Applies a restored state to the controller, the ViewPager and the buttons.
+	 *
+	 * @param state
+	 * 		the state to apply, not null
+	 */
+	private void applyState(final IntroState state) {
+		final AnimatorFactory buttonAnimatorFactory = buttonSwitcher.getAnimatorFactory();
+		buttonSwitcher.setAnimatorFactory(null);
+
+		// The page must be restored before the lock mode, since the lock mode may block commands
+		controller.setLockMode(LockMode.UNLOCKED);
+
+		// The dataset may be smaller than the one the state was saved with
+		final int lastPageIndex = Math.max(0, pages.size() - 1);
+		viewPager.setCurrentItem(Math.min(state.getCurrentPageIndex(), lastPageIndex), false);
+
+		controller.restoreState(state);
+		controller.reflectStateInButtons();
+		buttonSwitcher.setAnimatorFactory(buttonAnimatorFactory);
+
+		if (backgroundManager != null) {
+			backgroundManager.updateBackground(rootView, viewPager.getCurrentItem(), 0);
+		}
+	}
+
+
+	// Methods relating to the pages
+
+	/**
+	 * Sets the pages to display in this IntroView. The supplied Collection is copied, so further
+	 * changes to the collection will have no effect after this method returns. This method can only
+	 * be called once, and cannot be called if {@link #setPageProvider(FragmentManager,
+	 * PageProvider)} has been called.
+	 *
+	 * @param fragmentManager
+	 * 		the FragmentManager to attach the pages to, not null
+	 * @param pages
+	 * 		the pages to display, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code fragmentManager} or {@code pages} is null
+	 * @throws IllegalStateException
+	 * 		if the pages have already been set
+	 */
+	public void setPages(final FragmentManager fragmentManager,
+			final Collection<? extends Fragment> pages) {
+		if (pages == null) {
+			throw new IllegalArgumentException("pages cannot be null");
+		}
+
+		attachPages(fragmentManager, pages, null);
+	}
+
+	/**
+	 * Sets the PageProvider to create the pages of this IntroView on demand. This method can only
+	 * be called once, and cannot be called if {@link #setPages(FragmentManager, Collection)} has
+	 * been called.
+	 *
+	 * @param fragmentManager
+	 * 		the FragmentManager to attach the pages to, not null
+	 * @param pageProvider
+	 * 		supplies the pages to display, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code fragmentManager} or {@code pageProvider} is null
+	 * @throws IllegalStateException
+	 * 		if the pages have already been set
+	 */
+	public void setPageProvider(final FragmentManager fragmentManager,
+			final PageProvider pageProvider) {
+		if (pageProvider == null) {
+			throw new IllegalArgumentException("pageProvider cannot be null");
+		}
+
+		attachPages(fragmentManager, Collections.<Fragment>nCopies(pageProvider.getPageCount(),
+				null), pageProvider);
+	}
+
+	/**
+	 * Creates the adapter and displays the first page.
+	 *
+	 * @param fragmentManager
+	 * 		the FragmentManager to attach the pages to, not null
+	 * @param initialPages
+	 * 		the initial contents of the dataset, with a null slot for each page to be created by the
+	 * 		provider
+	 * @param pageProvider
+	 * 		creates the pages on demand, null if all pages are supplied in {@code initialPages}
+	 */
+	private void attachPages(final FragmentManager fragmentManager,
+			final Collection<? extends Fragment> initialPages, final PageProvider pageProvider) {
+		if (fragmentManager == null) {
+			throw new IllegalArgumentException("fragmentManager cannot be null");
+		}
+
+		if (adapter != null) {
+			throw new IllegalStateException("the pages of an IntroView can only be set once");
+		}
+
+		pages.addAll(initialPages);
+		adapter = new PageAdapter(fragmentManager, pages, pageProvider,
+				PageAdapter.RetentionMode.RETAIN_ALL);
+		controller.onDatasetChanged();
+
+		viewPager.setAdapter(adapter);
+		controller.onPageSelected(viewPager.getCurrentItem());
+
+		if (pendingState != null) {
+			applyState(pendingState);
+			pendingState = null;
+		} else if (backgroundManager != null) {
+			backgroundManager.updateBackground(rootView, viewPager.getCurrentItem(), 0);
+		}
+	}
+
+	/**
+	 * @return the controller which contains the navigation, lock mode and button logic of this
+	 * View, not null
+	 */
+	public IntroController getController() {
+		return controller;
+	}
+
+	/**
+	 * Returns the page at the supplied index. If the pages are supplied by a PageProvider, then the
+	 * page is created if necessary.
+	 *
+	 * @param pageIndex
+	 * 		the index of the page to return, counting from zero
+	 * @return the page at the supplied index
+	 * @throws IllegalStateException
+	 * 		if the pages have not been set
+	 * @throws IndexOutOfBoundsException
+	 * 		if {@code pageIndex} is not in the range of the dataset
+	 */
+	public Fragment getPage(final int pageIndex) {
+		if (adapter == null) {
+			throw new IllegalStateException("the pages have not been set");
+		}
+
+		return adapter.getItem(pageIndex);
+	}
+
+	/**
+	 * @return the current number of pages
+	 */
+	public int numberOfPages() {
+		return pages.size();
+	}
+
+	/**
+	 * @return the index of the page which is currently displayed
+	 */
+	public int getIndexOfCurrentPage() {
+		return viewPager.getCurrentItem();
+	}
+
+	@Override
+	public void goToPage(final int pageIndex) {
+		controller.goToPage(pageIndex);
+	}
+
+	@Override
+	public void goToFirstPage() {
+		controller.goToFirstPage();
+	}
+
+	@Override
+	public void goToLastPage() {
+		controller.goToLastPage();
+	}
+
+	@Override
+	public void goToNextPage() {
+		controller.goToNextPage();
+	}
+
+	@Override
+	public void goToPreviousPage() {
+		controller.goToPreviousPage();
+	}
+
+	/**
+	 * Navigates to the previous page, unless the first page is displayed or the lock mode prevents
+	 * commands. Hosts should call this method when the back button is pressed.
+	 *
+	 * @return true if the press was consumed, false if the host should apply its default back
+	 * behaviour
+	 */
+	public boolean onBackPressed() {
+		return controller.onBackPressed();
+	}
+
+
+	// Methods relating to appearance
+
+	/**
+	 * @return the root View of the introduction layout, which displays the background, not null
+	 */
+	public RelativeLayout getIntroRootView() {
+		return rootView;
+	}
+
+	/**
+	 * Shows or hides the horizontal divider which separates the pages from the navigation bar.
+	 *
+	 * @param show
+	 * 		true to show the divider, false to hide it
+	 */
+	public void changeHorizontalDividerVisibility(final boolean show) {
+		horizontalDivider.setVisibility(show ? View.VISIBLE : View.INVISIBLE);
+	}
+
+	/**
+	 * Sets the PageTransformer to use when scrolling. If the transformer implements {@link
+	 * ScrollStateAwareTransformer}, then it is also notified whenever the scroll state of the
+	 * ViewPager changes.
+	 *
+	 * @param reverseDrawingOrder
+	 * 		true if the supplied PageTransformer requires page Views to be drawn from last to first
+	 * 		instead of first to last
+	 * @param transformer
+	 * 		the transformer to use, null allowed
+	 */
+	public void setPageTransformer(final boolean reverseDrawingOrder,
+			final ViewPager.PageTransformer transformer) {
+		// Allow the previous transformer to release any resources it holds while scrolling
+		if (pageTransformer instanceof ScrollStateAwareTransformer) {
+			((ScrollStateAwareTransformer) pageTransformer)
+					.onPageScrollStateChanged(ViewPager.SCROLL_STATE_IDLE);
+		}
+
+		pageTransformer = transformer;
+		viewPager.setPageTransformer(reverseDrawingOrder, transformer);
+	}
+
+	/**
+	 * Sets the BackgroundManager to use. The BackgroundManager is invoked whenever the user scrolls.
+	 *
+	 * @param backgroundManager
+	 * 		the backgroundManager to use, null to clear any existing manager
+	 */
+	public void setBackgroundManager(final BackgroundManager backgroundManager) {
+		this.backgroundManager = backgroundManager;
+
+		if (backgroundManager != null) {
+			backgroundManager.updateBackground(rootView, viewPager.getCurrentItem(), 0);
+		}
+	}
+
+	/**
+	 * @return the current BackgroundManager, may be null
+	 */
+	public BackgroundManager getBackgroundManager() {
+		return backgroundManager;
+	}
+
+	/**
+	 * Sets the selection indicator to show the user's progress through the pages. The provided
+	 * selection indicator must be a subclass of {@link View}.
+	 *
+	 * @param selectionIndicator
+	 * 		the selection indicator to use, null to clear any existing indicator
+	 * @throws IllegalArgumentException
+	 * 		if {@code selectionIndicator} is not null and is not a View subclass
+	 */
+	public void setProgressIndicator(final SelectionIndicator selectionIndicator) {
+		if (selectionIndicator != null && !(selectionIndicator instanceof View)) {
+			throw new IllegalArgumentException(
+					"selectionIndicator must be a subclass of android.view.View");
+		}
+
+		controller.setSelectionIndicator(selectionIndicator);
+		progressIndicatorWrapper.removeAllViews();
+
+		if (selectionIndicator != null) {
+			progressIndicatorWrapper.addView((View) selectionIndicator);
+			controller.syncSelectionIndicator();
+		}
+	}
+
+	/**
+	 * @return the current selection indicator, may be null
+	 */
+	public SelectionIndicator getProgressIndicator() {
+		return controller.getSelectionIndicator();
+	}
+
+
+	// Methods for listening to page changes
+
+	/**
+	 * Registers a listener to receive a callback whenever the page changes.
+	 *
+	 * @param listener
+	 * 		the listener to register
+	 */
+	public void addPageChangeListener(final OnPageChangeListener listener) {
+		viewPager.addOnPageChangeListener(listener);
+	}
+
+	/**
+	 * Unregisters a listener to prevent it from receiving further page change callbacks.
+	 *
+	 * @param listener
+	 * 		the listener to unregister
+	 */
+	public void removePageChangeListener(final OnPageChangeListener listener) {
+		viewPager.removeOnPageChangeListener(listener);
+	}
+
+
+	// Methods relating to the buttons
+
+	/**
+	 * Sets the AnimatorFactory to use when the buttons appear and disappear.
+	 *
+	 * @param animatorFactory
+	 * 		the factory to use, null to change the buttons without animation
+	 */
+	public void setButtonAnimatorFactory(final AnimatorFactory animatorFactory) {
+		buttonSwitcher.setAnimatorFactory(animatorFactory);
+	}
+
+	/**
+	 * @return the AnimatorFactory used when the buttons appear and disappear, may be null
+	 */
+	public AnimatorFactory getButtonAnimatorFactory() {
+		return buttonSwitcher.getAnimatorFactory();
+	}
+
+	/**
+	 * @return an IntroButtonAccessor which can be used to modify and inspect the left button, not
+	 * null
+	 */
+	public IntroButtonAccessor getLeftButtonAccessor() {
+		return new IntroButtonAccessor(leftButton);
+	}
+
+	/**
+	 * @return an IntroButtonAccessor which can be used to modify and inspect the right button, not
+	 * null
+	 */
+	public IntroButtonAccessor getRightButtonAccessor() {
+		return new IntroButtonAccessor(rightButton);
+	}
+
+	/**
+	 * @return an IntroButtonAccessor which can be used to modify and inspect the final button, not
+	 * null
+	 */
+	public IntroButtonAccessor getFinalButtonAccessor() {
+		return new IntroButtonAccessor(finalButton);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import com.matthewtamlin.sliding_intro_screen_library.core.LockableViewPager.LockMode;
+
+import java.util.List;
+
+/**
+ * Connects an {@link IntroController} to a {@link LockableViewPager}.
+ */
+final class LockablePager implements IntroController.Pager {
+	/**
+	 * The ViewPager which displays the pages.
+	 */
+	private final LockableViewPager viewPager;
+
+	/**
+	 * The dataset displayed by the ViewPager.
+	 */
+	private final List<?> pages;
+
+	/**
+	 * Constructs a new LockablePager instance.
+	 *
+	 * @param viewPager
+	 * 		the ViewPager which displays the pages, not null
+	 * @param pages
+	 * 		the dataset displayed by the ViewPager, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code viewPager} or {@code pages} is null
+	 */
+	public LockablePager(final LockableViewPager viewPager, final List<?> pages) {
+		if (viewPager == null) {
+			throw new IllegalArgumentException("viewPager cannot be null");
+		} else if (pages == null) {
+			throw new IllegalArgumentException("pages cannot be null");
+		}
+
+		this.viewPager = viewPager;
+		this.pages = pages;
+	}
+
+	@Override
+	public int getPageCount() {
+		return pages.size();
+	}
+
+	@Override
+	public int getCurrentPage() {
+		return viewPager.getCurrentItem();
+	}
+
+	@Override
+	public void setCurrentPage(final int pageIndex, final boolean smoothScroll) {
+		viewPager.setCurrentItem(pageIndex, smoothScroll);
+	}
+
+	@Override
+	public void setLockMode(final LockMode lockMode) {
+		viewPager.setLockMode(lockMode);
+	}
+}
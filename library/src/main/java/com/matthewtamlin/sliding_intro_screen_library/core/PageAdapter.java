@@ -16,29 +16,119 @@
 
 package com.matthewtamlin.sliding_intro_screen_library.core;
 
+import android.os.Bundle;
+import android.os.Parcelable;
 import android.support.v4.app.Fragment;
 import android.support.v4.app.FragmentManager;
-import android.support.v4.app.FragmentPagerAdapter;
+import android.support.v4.app.FragmentTransaction;
+import android.support.v4.view.PagerAdapter;
+import android.view.View;
+import android.view.ViewGroup;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 
 /**
  * Adapts a collection of Fragments so that they can be displayed in an {@link
  * android.support.v4.view.ViewPager ViewPager}. Instances of this class automatically listen for
  * changes to the dataset.
+ * <p/>
+ * If a {@link PageProvider} is supplied at construction, then null elements in the dataset are
+ * treated as pages which have not yet been created. Such pages are created using the provider when
+ * they are first requested, and the created page is stored in the dataset for future use.
+ * <p/>
+ * Pages can be inserted, removed and moved after construction. Each page is assigned a stable
+ * identifier when it enters the dataset, so that the page keeps its identity (and its saved state)
+ * when other pages change position. The position of each page is also indexed, so that pages can
+ * be looked up in constant time regardless of the size of the dataset.
+ * <p/>
+ * The {@link RetentionMode} determines what happens to pages which move outside the offscreen
+ * window of the ViewPager. By default all pages are retained, which keeps every visited page and
+ * its View hierarchy in memory for as long as the adapter is in use. Alternatively, pages outside
+ * the window can be torn down so that only their saved state is kept, and then rebuilt from that
+ * state when they are next displayed.
  */
-public class PageAdapter extends FragmentPagerAdapter {
+public class PageAdapter extends PagerAdapter {
 	/**
 	 * Used to identify this class during debugging.
 	 */
 	@SuppressWarnings("unused")
 	private static final String TAG = "[PageAdapter]";
 
+	/**
+	 * Prefix for the keys used to save the states of torn down pages.
+	 */
+	private static final String STATE_KEY_PREFIX_PAGE_STATE = "page state ";
+
+	/**
+	 * Supplies the transactions used to add and remove the pages.
+	 */
+	private final FragmentManager fragmentManager;
+
 	/**
 	 * The dataset of pages to adapt.
 	 */
 	private final ArrayList<Fragment> pages;
 
+	/**
+	 * Creates the pages which have not yet been created, null if all pages are supplied up front.
+	 */
+	private final PageProvider pageProvider;
+
+	/**
+	 * Determines whether or not pages outside the offscreen window are torn down.
+	 */
+	private final RetentionMode retentionMode;
+
+	/**
+	 * Stores the saved state of each page which has been torn down. Each state is mapped to the tag
+	 * of the page it was saved from.
+	 */
+	private final HashMap<String, Fragment.SavedState> savedPageStates = new HashMap<>();
+
+	/**
+	 * The identifier of each page in the dataset, indexed by position.
+	 */
+	private final ArrayList<Long> pageIds = new ArrayList<>();
+
+	/**
+	 * Maps each created page in the dataset to its position.
+	 */
+	private final HashMap<Fragment, Integer> pageIndices = new HashMap<>();
+
+	/**
+	 * Pages with identifiers less than this value can be created by the PageProvider. Such pages
+	 * were in the dataset at construction, and their identifier is their original position.
+	 */
+	private final int providerPageCount;
+
+	/**
+	 * The identifier to assign to the next page inserted into the dataset.
+	 */
+	private long nextPageId;
+
+	/**
+	 * The resource ID of the ViewPager the pages are displayed in, {@link View#NO_ID} if the
+	 * adapter has not yet been used.
+	 */
+	private int containerId = View.NO_ID;
+
+	/**
+	 * The transaction currently being built, null if no update is in progress.
+	 */
+	private FragmentTransaction currentTransaction = null;
+
+	/**
+	 * The page which is currently the primary item of the ViewPager.
+	 */
+	private Fragment currentPrimaryPage = null;
+
+	/**
+	 * The maximum number of pages exposed to the ViewPager, regardless of the size of the dataset.
+	 */
+	private int countLimit = Integer.MAX_VALUE;
+
 	/**
 	 * Constructs a new PageAdapter instance.
 	 *
@@ -48,13 +138,66 @@ public class PageAdapter extends FragmentPagerAdapter {
 	 * 		the dataset of pages to adapt, null for an empty dataset
 	 */
 	public PageAdapter(final FragmentManager fm, final ArrayList<Fragment> pages) {
-		super(fm);
+		this(fm, pages, null);
+	}
+
+	/**
+	 * Constructs a new PageAdapter instance. Null elements in the dataset are created on demand
+	 * using the supplied PageProvider.
+	 *
+	 * @param fm
+	 * 		the FragmentManager for the Context this adapter is operating in
+	 * @param pages
+	 * 		the dataset of pages to adapt, null for an empty dataset
+	 * @param pageProvider
+	 * 		creates the pages which are null in the dataset, null to use the dataset as is
+	 */
+	public PageAdapter(final FragmentManager fm, final ArrayList<Fragment> pages,
+			final PageProvider pageProvider) {
+		this(fm, pages, pageProvider, RetentionMode.RETAIN_ALL);
+	}
+
+	/**
+	 * Constructs a new PageAdapter instance. Null elements in the dataset are created on demand
+	 * using the supplied PageProvider.
+	 *
+	 * @param fm
+	 * 		the FragmentManager for the Context this adapter is operating in, not null
+	 * @param pages
+	 * 		the dataset of pages to adapt, null for an empty dataset
+	 * @param pageProvider
+	 * 		creates the pages which are null in the dataset, null to use the dataset as is
+	 * @param retentionMode
+	 * 		determines whether or not pages outside the offscreen window are torn down, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code fm} or {@code retentionMode} is null
+	 */
+	public PageAdapter(final FragmentManager fm, final ArrayList<Fragment> pages,
+			final PageProvider pageProvider, final RetentionMode retentionMode) {
+		if (fm == null) {
+			throw new IllegalArgumentException("fm cannot be null");
+		} else if (retentionMode == null) {
+			throw new IllegalArgumentException("retentionMode cannot be null");
+		}
+
+		this.fragmentManager = fm;
+		this.pageProvider = pageProvider;
+		this.retentionMode = retentionMode;
 
 		if (pages == null) {
 			this.pages = new ArrayList<>();
 		} else {
 			this.pages = pages;
 		}
+
+		// Pages in the initial dataset are identified by their initial position
+		for (int i = 0; i < this.pages.size(); i++) {
+			pageIds.add((long) i);
+		}
+
+		nextPageId = this.pages.size();
+		providerPageCount = (pageProvider == null) ? 0 : this.pages.size();
+		reindexPages(0);
 	}
 
 	/**
@@ -64,13 +207,460 @@ public class PageAdapter extends FragmentPagerAdapter {
 		return pages;
 	}
 
-	@Override
+	/**
+	 * @return the PageProvider used to create pages on demand, null if there is none
+	 */
+	public PageProvider getPageProvider() {
+		return pageProvider;
+	}
+
+	/**
+	 * @return the retention mode of this adapter, not null
+	 */
+	public RetentionMode getRetentionMode() {
+		return retentionMode;
+	}
+
+	/**
+	 * Inserts a page into the dataset. The ViewPager must be notified of the change by calling
+	 * {@link #notifyDataSetChanged()}.
+	 *
+	 * @param index
+	 * 		the position to insert the page at, counting from zero
+	 * @param page
+	 * 		the page to insert, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code page} is null, or if {@code page} is already in the dataset
+	 * @throws IndexOutOfBoundsException
+	 * 		if {@code index} is less than 0 or greater than the size of the dataset
+	 */
+	public void insertPage(final int index, final Fragment page) {
+		if (page == null) {
+			throw new IllegalArgumentException("page cannot be null");
+		} else if (pageIndices.containsKey(page)) {
+			throw new IllegalArgumentException("page is already in the dataset");
+		}
+
+		pages.add(index, page);
+		pageIds.add(index, nextPageId++);
+		reindexPages(index);
+	}
+
+	/**
+	 * Removes a page from the dataset. The ViewPager must be notified of the change by calling
+	 * {@link #notifyDataSetChanged()}.
+	 *
+	 * @param index
+	 * 		the position of the page to remove, counting from zero
+	 * @return the removed page, null if the page was never created by the PageProvider
+	 * @throws IndexOutOfBoundsException
+	 * 		if {@code index} is less than 0 or not less than the size of the dataset
+	 */
+	public Fragment removePage(final int index) {
+		final Fragment page = pages.remove(index);
+		final long pageId = pageIds.remove(index);
+
+		if (page != null) {
+			pageIndices.remove(page);
+
+			// Displayed pages are removed by destroyItem, but detached pages are not displayed
+			if (page.isDetached()) {
+				fragmentManager.beginTransaction().remove(page).commitNowAllowingStateLoss();
+			}
+		}
+
+		savedPageStates.remove(makePageTag(containerId, pageId));
+		reindexPages(index);
+
+		return page;
+	}
+
+	/**
+	 * Moves a page to a new position in the dataset. The ViewPager must be notified of the change
+	 * by calling {@link #notifyDataSetChanged()}.
+	 *
+	 * @param fromIndex
+	 * 		the current position of the page, counting from zero
+	 * @param toIndex
+	 * 		the new position of the page, counting from zero
+	 * @throws IndexOutOfBoundsException
+	 * 		if either index is less than 0 or not less than the size of the dataset
+	 */
+	public void movePage(final int fromIndex, final int toIndex) {
+		if (toIndex < 0 || toIndex >= pages.size()) {
+			throw new IndexOutOfBoundsException("toIndex is out of bounds: " + toIndex);
+		}
+
+		pages.add(toIndex, pages.remove(fromIndex));
+		pageIds.add(toIndex, pageIds.remove(fromIndex));
+		reindexPages(Math.min(fromIndex, toIndex));
+	}
+
+	/**
+	 * Returns the position of the supplied page in the dataset. This method runs in constant time.
+	 *
+	 * @param page
+	 * 		the page to find
+	 * @return the position of {@code page} counting from zero, or -1 if the page is not in the
+	 * dataset or has not yet been created
+	 */
+	public int getIndexOfPage(final Fragment page) {
+		final Integer index = pageIndices.get(page);
+		return (index == null) ? -1 : index;
+	}
+
+	/**
+	 * @return the identifier of each page in the dataset, indexed by position, not null
+	 */
+	long[] getPageIds() {
+		final long[] ids = new long[pageIds.size()];
+
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = pageIds.get(i);
+		}
+
+		return ids;
+	}
+
+	/**
+	 * Adopts the page identifiers of a previous adapter, and places the pages which the
+	 * FragmentManager restored from that adapter into the dataset. This allows pages which
+	 * survived a configuration change or process death to be reused rather than duplicated. The
+	 * restore is rejected if it would leave the dataset inconsistent, which happens when the
+	 * dataset has a different size to the saved one, or when a page would need to be created by
+	 * the PageProvider for an identifier it did not originally supply. This method should be
+	 * called before the adapter is first used.
+	 *
+	 * @param savedPageIds
+	 * 		the identifiers returned by {@link #getPageIds()} on the previous adapter, not null
+	 * @param restoredPages
+	 * 		the page restored by the FragmentManager for each identifier, with null for each page
+	 * 		which was not restored, not null
+	 * @return true if the identifiers and pages were adopted, false if the restore was rejected
+	 * @throws IllegalArgumentException
+	 * 		if {@code savedPageIds} or {@code restoredPages} is null
+	 */
+	boolean restorePages(final long[] savedPageIds, final List<Fragment> restoredPages) {
+		if (savedPageIds == null) {
+			throw new IllegalArgumentException("savedPageIds cannot be null");
+		} else if (restoredPages == null) {
+			throw new IllegalArgumentException("restoredPages cannot be null");
+		}
+
+		if (savedPageIds.length != pages.size() || restoredPages.size() != pages.size()) {
+			return false;
+		}
+
+		for (int i = 0; i < savedPageIds.length; i++) {
+			final boolean pageMissing = restoredPages.get(i) == null && pages.get(i) == null;
+
+			if (pageMissing && savedPageIds[i] >= providerPageCount) {
+				return false;
+			}
+		}
+
+		pageIds.clear();
+		pageIndices.clear();
+
+		for (int i = 0; i < savedPageIds.length; i++) {
+			pageIds.add(savedPageIds[i]);
+			nextPageId = Math.max(nextPageId, savedPageIds[i] + 1);
+
+			if (restoredPages.get(i) != null) {
+				pages.set(i, restoredPages.get(i));
+			}
+		}
+
+		reindexPages(0);
+
+		return true;
+	}
+
+	/**
+	 * Removes pages from the FragmentManager immediately. This should be called with the pages
+	 * passed to {@link #restorePages(long[], List)} when the restore is rejected, otherwise the
+	 * stale pages would be found by their tags and attached in place of the pages of the dataset.
+	 * This method should be called before the adapter is first used.
+	 *
+	 * @param discardedPages
+	 * 		the pages to remove, null elements are ignored, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code discardedPages} is null
+	 */
+	void discardPages(final List<Fragment> discardedPages) {
+		if (discardedPages == null) {
+			throw new IllegalArgumentException("discardedPages cannot be null");
+		}
+
+		final FragmentTransaction transaction = fragmentManager.beginTransaction();
+		boolean transactionEmpty = true;
+
+		for (final Fragment page : discardedPages) {
+			if (page != null) {
+				transaction.remove(page);
+				transactionEmpty = false;
+			}
+		}
+
+		if (!transactionEmpty) {
+			transaction.commitNowAllowingStateLoss();
+		}
+	}
+
+	/**
+	 * Limits the number of pages exposed to the ViewPager. Pages beyond the limit remain in the
+	 * dataset but are not reported by {@link #getCount()}, which prevents the ViewPager from
+	 * creating them. The ViewPager must be notified of the change by calling {@link
+	 * #notifyDataSetChanged()}.
+	 *
+	 * @param countLimit
+	 * 		the maximum number of pages to expose, {@link Integer#MAX_VALUE} to expose all pages
+	 * @throws IllegalArgumentException
+	 * 		if {@code countLimit} is less than 0
+	 */
+	void setCountLimit(final int countLimit) {
+		if (countLimit < 0) {
+			throw new IllegalArgumentException("countLimit cannot be less than 0");
+		}
+
+		this.countLimit = countLimit;
+	}
+
+	/**
+	 * Returns the page at the supplied position. If the page has not yet been created, then the
+	 * PageProvider is used to create it.
+	 *
+	 * @param position
+	 * 		the position of the page to return, counting from zero
+	 * @return the page at {@code position}
+	 */
 	public Fragment getItem(final int position) {
-		return pages.get(position);
+		Fragment page = pages.get(position);
+
+		// Create the page on first use if it was deferred to the provider
+		if (page == null && pageProvider != null) {
+			page = pageProvider.createPage((int) getItemId(position));
+			pages.set(position, page);
+			pageIndices.put(page, position);
+		}
+
+		return page;
+	}
+
+	/**
+	 * Returns a unique identifier for the page at the supplied position. The identifier is used to
+	 * find the page in the FragmentManager when it is reattached or restored. The default
+	 * implementation returns the identifier assigned when the page entered the dataset, which does
+	 * not change when other pages are inserted, removed or moved. Pages in the initial dataset are
+	 * identified by their initial position, and the page supplied by the PageProvider for a
+	 * position is requested using that identifier.
+	 *
+	 * @param position
+	 * 		the position of the page, counting from zero
+	 * @return the identifier of the page at {@code position}
+	 */
+	public long getItemId(final int position) {
+		return pageIds.get(position);
 	}
 
 	@Override
 	public int getCount() {
-		return pages.size();
+		return Math.min(pages.size(), countLimit);
+	}
+
+	@Override
+	public void startUpdate(final ViewGroup container) {
+		if (container.getId() == View.NO_ID) {
+			throw new IllegalStateException("ViewPager with adapter " + this + " requires a view " +
+					"id");
+		}
+
+		containerId = container.getId();
+	}
+
+	@Override
+	public Object instantiateItem(final ViewGroup container, final int position) {
+		if (currentTransaction == null) {
+			currentTransaction = fragmentManager.beginTransaction();
+		}
+
+		final String tag = makePageTag(container.getId(), getItemId(position));
+		Fragment page = fragmentManager.findFragmentByTag(tag);
+
+		if (page != null) {
+			// The page is still known to the FragmentManager, so it just needs its View back
+			currentTransaction.attach(page);
+		} else {
+			page = getItem(position);
+
+			// Pages which were previously torn down are rebuilt from their saved state
+			final Fragment.SavedState savedState = savedPageStates.remove(tag);
+
+			if (savedState != null) {
+				page.setInitialSavedState(savedState);
+			}
+
+			currentTransaction.add(container.getId(), page, tag);
+		}
+
+		if (page != currentPrimaryPage) {
+			page.setMenuVisibility(false);
+			page.setUserVisibleHint(false);
+		}
+
+		return page;
+	}
+
+	@Override
+	public void destroyItem(final ViewGroup container, final int position, final Object object) {
+		if (currentTransaction == null) {
+			currentTransaction = fragmentManager.beginTransaction();
+		}
+
+		final Fragment page = (Fragment) object;
+		final int index = getIndexOfPage(page);
+
+		if (index == -1) {
+			// The page was removed from the dataset, so nothing needs to be kept
+			currentTransaction.remove(page);
+		} else if (retentionMode == RetentionMode.RETAIN_ALL) {
+			// Keep the page in the FragmentManager but release its View hierarchy
+			currentTransaction.detach(page);
+		} else {
+			// Keep only the saved state of the page, everything else is released
+			if (page.isAdded()) {
+				savedPageStates.put(page.getTag(), fragmentManager.saveFragmentInstanceState(page));
+			}
+
+			currentTransaction.remove(page);
+
+			// Pages created by the provider can be recreated, so the instance is not retained
+			if (getItemId(index) < providerPageCount) {
+				pages.set(index, null);
+				pageIndices.remove(page);
+			}
+		}
+	}
+
+	@Override
+	public void setPrimaryItem(final ViewGroup container, final int position, final Object object) {
+		final Fragment page = (Fragment) object;
+
+		if (page != currentPrimaryPage) {
+			if (currentPrimaryPage != null) {
+				currentPrimaryPage.setMenuVisibility(false);
+				currentPrimaryPage.setUserVisibleHint(false);
+			}
+
+			if (page != null) {
+				page.setMenuVisibility(true);
+				page.setUserVisibleHint(true);
+			}
+
+			currentPrimaryPage = page;
+		}
+	}
+
+	@Override
+	public void finishUpdate(final ViewGroup container) {
+		if (currentTransaction != null) {
+			currentTransaction.commitNowAllowingStateLoss();
+			currentTransaction = null;
+		}
+	}
+
+	@Override
+	public int getItemPosition(final Object object) {
+		final int index = getIndexOfPage((Fragment) object);
+		return (index == -1) ? POSITION_NONE : index;
+	}
+
+	@Override
+	public boolean isViewFromObject(final View view, final Object object) {
+		return ((Fragment) object).getView() == view;
+	}
+
+	@Override
+	public Parcelable saveState() {
+		// Retained pages are saved and restored by the FragmentManager
+		if (savedPageStates.isEmpty()) {
+			return null;
+		}
+
+		final Bundle state = new Bundle();
+
+		for (final String tag : savedPageStates.keySet()) {
+			state.putParcelable(STATE_KEY_PREFIX_PAGE_STATE + tag, savedPageStates.get(tag));
+		}
+
+		return state;
+	}
+
+	@Override
+	public void restoreState(final Parcelable state, final ClassLoader loader) {
+		if (state != null) {
+			final Bundle bundle = (Bundle) state;
+			bundle.setClassLoader(loader);
+			savedPageStates.clear();
+
+			for (final String key : bundle.keySet()) {
+				if (key.startsWith(STATE_KEY_PREFIX_PAGE_STATE)) {
+					final String tag = key.substring(STATE_KEY_PREFIX_PAGE_STATE.length());
+					savedPageStates.put(tag, (Fragment.SavedState) bundle.getParcelable(key));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Updates the index of each created page from the supplied position to the end of the
+	 * dataset.
+	 *
+	 * @param startIndex
+	 * 		the first position to update
+	 */
+	private void reindexPages(final int startIndex) {
+		for (int i = startIndex; i < pages.size(); i++) {
+			final Fragment page = pages.get(i);
+
+			if (page != null) {
+				pageIndices.put(page, i);
+			}
+		}
+	}
+
+	/**
+	 * Creates the tag used to identify a page in the FragmentManager.
+	 *
+	 * @param viewId
+	 * 		the resource ID of the ViewPager the page is displayed in
+	 * @param itemId
+	 * 		the identifier of the page, as returned by {@link #getItemId(int)}
+	 * @return the tag, not null
+	 */
+	static String makePageTag(final int viewId, final long itemId) {
+		return "android:switcher:" + viewId + ":" + itemId;
+	}
+
+	/**
+	 * The ways in which a {@link PageAdapter} can retain pages which are outside the offscreen
+	 * window of the ViewPager.
+	 */
+	public enum RetentionMode {
+		/**
+		 * Retain every page which has been displayed. The View hierarchy of a page is released
+		 * when it leaves the offscreen window, but the page itself is kept in the FragmentManager
+		 * until the adapter is no longer used.
+		 */
+		RETAIN_ALL,
+
+		/**
+		 * Retain only the pages in the offscreen window. Pages outside the window are removed from
+		 * the FragmentManager and only their saved state is kept. The pages are rebuilt from the
+		 * saved state when they are next displayed. If the pages are supplied by a {@link
+		 * PageProvider}, then the page instances are released as well and recreated by the
+		 * provider when needed.
+		 */
+		RETAIN_WINDOW
 	}
 }
\ No newline at end of file
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.os.Process;
+import android.support.v4.app.Fragment;
+import android.support.v4.view.ViewPager;
+import android.support.v4.view.ViewPager.OnPageChangeListener;
+import android.util.SparseBooleanArray;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Watches the scroll position of a ViewPager and prefetches the content of the pages which are
+ * likely to be displayed next. The direction of the current swipe is used to predict which pages
+ * are upcoming. Pages which are already added to the FragmentManager (i.e. attached by the
+ * ViewPager) have already been prepared, so they are skipped and do not count towards the prefetch
+ * distance. Upcoming pages which implement {@link PrefetchablePage} have their content prepared on
+ * a background thread. Upcoming pages which have not been created yet are never instantiated by
+ * the prefetcher, but if the adapter's {@link PageProvider} is a {@link PrefetchingPageProvider},
+ * then the provider is asked to prepare the data of those pages on the background thread instead.
+ */
+final class PagePrefetcher implements OnPageChangeListener {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[PagePrefetcher]";
+
+	/**
+	 * The number of pages to prefetch ahead of the current page until explicitly set.
+	 */
+	private static final int DEFAULT_PREFETCH_DISTANCE = 2;
+
+	/**
+	 * Supplies the pages to prefetch.
+	 */
+	private final PageAdapter adapter;
+
+	/**
+	 * The pages which have already been submitted for prefetching. Weak references are used so
+	 * that pages discarded by the adapter are not kept in memory.
+	 */
+	private final Set<PrefetchablePage> submittedPages =
+			Collections.newSetFromMap(new WeakHashMap<PrefetchablePage, Boolean>());
+
+	/**
+	 * The provider indices which have already been submitted for prefetching.
+	 */
+	private final SparseBooleanArray submittedProviderIndices = new SparseBooleanArray();
+
+	/**
+	 * Runs the prefetch operations, null until the first page is submitted.
+	 */
+	private ExecutorService executor = null;
+
+	/**
+	 * The number of pages to prefetch ahead of the current page.
+	 */
+	private int prefetchDistance = DEFAULT_PREFETCH_DISTANCE;
+
+	/**
+	 * The index of the currently selected page.
+	 */
+	private int selectedIndex;
+
+	/**
+	 * The direction of the most recent prefetch, 1 for forwards and -1 for backwards.
+	 */
+	private int direction = 1;
+
+	/**
+	 * Whether or not the user is currently dragging the pages.
+	 */
+	private boolean dragging = false;
+
+	/**
+	 * Constructs a new PagePrefetcher instance.
+	 *
+	 * @param adapter
+	 * 		supplies the pages to prefetch, not null
+	 * @param selectedIndex
+	 * 		the index of the page which is initially selected
+	 * @throws IllegalArgumentException
+	 * 		if {@code adapter} is null
+	 */
+	public PagePrefetcher(final PageAdapter adapter, final int selectedIndex) {
+		if (adapter == null) {
+			throw new IllegalArgumentException("adapter cannot be null");
+		}
+
+		this.adapter = adapter;
+		this.selectedIndex = selectedIndex;
+	}
+
+	/**
+	 * Sets the number of pages to prefetch ahead of the current page.
+	 *
+	 * @param prefetchDistance
+	 * 		the number of pages to prefetch, 0 to disable prefetching
+	 * @throws IllegalArgumentException
+	 * 		if {@code prefetchDistance} is less than 0
+	 */
+	public void setPrefetchDistance(final int prefetchDistance) {
+		if (prefetchDistance < 0) {
+			throw new IllegalArgumentException("prefetchDistance cannot be less than 0");
+		}
+
+		this.prefetchDistance = prefetchDistance;
+	}
+
+	/**
+	 * @return the number of pages to prefetch ahead of the current page
+	 */
+	public int getPrefetchDistance() {
+		return prefetchDistance;
+	}
+
+	/**
+	 * Prefetches the pages which follow the selected page in the most recent direction, skipping
+	 * any pages which are already attached.
+	 */
+	public void prefetchUpcomingPages() {
+		int remaining = prefetchDistance;
+
+		// Pages hidden from the ViewPager during startup can still be prefetched
+		for (int index = selectedIndex + direction;
+				remaining > 0 && index >= 0 && index < adapter.getPages().size();
+				index += direction) {
+			final Fragment page = adapter.getPages().get(index);
+
+			// The ViewPager has already prepared attached pages, so prefetching gains nothing
+			if (page != null && page.isAdded()) {
+				continue;
+			}
+
+			remaining--;
+
+			if (page instanceof PrefetchablePage) {
+				submit((PrefetchablePage) page);
+			} else if (page == null && adapter.getPageProvider() instanceof PrefetchingPageProvider) {
+				// Creating the page here would do the work prefetching is meant to move off the UI
+				// thread, so the provider prepares the data of the page instead
+				submitProviderIndex((PrefetchingPageProvider) adapter.getPageProvider(),
+						(int) adapter.getItemId(index));
+			}
+		}
+	}
+
+	/**
+	 * Stops the background thread. Queued prefetch operations are discarded and the operation
+	 * currently running (if any) is interrupted.
+	 */
+	public void shutdown() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	@Override
+	public void onPageScrolled(final int position, final float positionOffset,
+			final int positionOffsetPixels) {
+		// Settling scrolls are ignored since the destination has already been selected
+		if (!dragging || positionOffset == 0) {
+			return;
+		}
+
+		// The left page is before the selected page only when swiping backwards
+		final int scrollDirection = position < selectedIndex ? -1 : 1;
+
+		if (scrollDirection != direction) {
+			direction = scrollDirection;
+			prefetchUpcomingPages();
+		}
+	}
+
+	@Override
+	public void onPageSelected(final int position) {
+		if (position != selectedIndex) {
+			direction = position > selectedIndex ? 1 : -1;
+			selectedIndex = position;
+		}
+
+		prefetchUpcomingPages();
+	}
+
+	@Override
+	public void onPageScrollStateChanged(final int state) {
+		dragging = (state == ViewPager.SCROLL_STATE_DRAGGING);
+	}
+
+	/**
+	 * Submits a page to the background thread if it has not already been submitted.
+	 *
+	 * @param page
+	 * 		the page to prefetch, not null
+	 */
+	private void submit(final PrefetchablePage page) {
+		if (prefetchDistance == 0 || !submittedPages.add(page)) {
+			return;
+		}
+
+		execute(new Runnable() {
+			@Override
+			public void run() {
+				// Prefetching must never compete with the UI thread
+				Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+				page.prefetchContent();
+			}
+		});
+	}
+
+	/**
+	 * Submits the index of an uncreated page to the background thread if it has not already been
+	 * submitted.
+	 *
+	 * @param provider
+	 * 		the provider which prepares the data of the page, not null
+	 * @param providerIndex
+	 * 		the index of the page in the provider
+	 */
+	private void submitProviderIndex(final PrefetchingPageProvider provider,
+			final int providerIndex) {
+		if (prefetchDistance == 0 || submittedProviderIndices.get(providerIndex)) {
+			return;
+		}
+
+		submittedProviderIndices.put(providerIndex, true);
+
+		execute(new Runnable() {
+			@Override
+			public void run() {
+				// Prefetching must never compete with the UI thread
+				Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+				provider.prefetchPageData(providerIndex);
+			}
+		});
+	}
+
+	/**
+	 * Runs a prefetch operation on the background thread, starting the thread if necessary.
+	 *
+	 * @param operation
+	 * 		the operation to run, not null
+	 */
+	private void execute(final Runnable operation) {
+		if (executor == null) {
+			executor = Executors.newSingleThreadExecutor();
+		}
+
+		executor.execute(operation);
+	}
+}
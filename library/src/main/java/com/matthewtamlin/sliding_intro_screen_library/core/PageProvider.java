@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.support.v4.app.Fragment;
+
+/**
+ * Supplies the pages of an {@link IntroActivity} on demand. Unlike {@link
+ * IntroActivity#generatePages(android.os.Bundle)}, which must construct every page before the
+ * activity is first displayed, a PageProvider is only asked to create a page when it is actually
+ * needed. This is typically when the page is about to be attached to the ViewPager, or when it is
+ * explicitly requested (e.g. via {@link IntroActivity#getPage(int)}). How long the created pages
+ * are retained depends on the {@link PageAdapter.RetentionMode} of the activity:<ul> <li>{@link
+ * PageAdapter.RetentionMode#RETAIN_ALL} (the default): each page is created at most once, and the
+ * created instance is retained for future use.</li> <li>{@link
+ * PageAdapter.RetentionMode#RETAIN_WINDOW}: a page is released when it leaves the offscreen window
+ * of the ViewPager, and a new instance is created for the same index when the page is next
+ * needed. The saved state of the released page is restored into the new instance.</li></ul>
+ * Implementations should therefore not assume that a page is only created once, for example when
+ * caching pages or performing one-time setup.
+ */
+public interface PageProvider {
+	/**
+	 * Returns the total number of pages which can be supplied by this PageProvider. This method is
+	 * called once when the provider is first used, and the result is not expected to change.
+	 *
+	 * @return the number of pages, not negative
+	 */
+	int getPageCount();
+
+	/**
+	 * Creates the page at the supplied index. This method is called on the UI thread. It is called
+	 * at most once for each index when all pages are retained, but may be called again for an
+	 * index whose page was released (see {@link PageAdapter.RetentionMode#RETAIN_WINDOW}). A new
+	 * instance must be returned on each call.
+	 *
+	 * @param index
+	 * 		the index of the page to create, counting from zero
+	 * @return the page, not null
+	 */
+	Fragment createPage(int index);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+/**
+ * A page which can prepare its content before it is displayed. When a page of an {@link
+ * IntroActivity} implements this interface, the activity predicts when the page is about to be
+ * scrolled into view and calls {@link #prefetchContent()} on a background thread. This allows
+ * expensive work such as decoding bitmaps or laying out text to be completed before the page is
+ * attached, so that the first frame of the page does not need to wait for it.
+ */
+public interface PrefetchablePage {
+	/**
+	 * Prepares the content of this page. This method is called on a background thread, and is
+	 * called at most once for each page instance. Implementations must not access any Views, and
+	 * must synchronise access to any state which is shared with the UI thread. The page may be
+	 * displayed before this method completes, therefore the page must still be able to load its
+	 * content if prefetching has not finished.
+	 */
+	void prefetchContent();
+}
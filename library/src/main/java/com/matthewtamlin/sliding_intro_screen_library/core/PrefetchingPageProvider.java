@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+/**
+ * A {@link PageProvider} which can prepare the data of a page before the page is created. Pages
+ * supplied by a PageProvider do not exist until they are needed, so they cannot implement {@link
+ * PrefetchablePage} usefully. When the provider of an {@link IntroActivity} implements this
+ * interface instead, the activity predicts which uncreated pages are about to be scrolled into
+ * view and calls {@link #prefetchPageData(int)} on a background thread, so that {@link
+ * #createPage(int)} can use the prepared data rather than loading it on the UI thread.
+ */
+public interface PrefetchingPageProvider extends PageProvider {
+	/**
+	 * Prepares the data of the page at the supplied index. This method is called on a background
+	 * thread, only for pages which have not been created, and at most once for each index.
+	 * Implementations must not access any Views, and must synchronise access to any state which is
+	 * shared with {@link #createPage(int)}. The page may be created before this method completes,
+	 * therefore {@code createPage} must still work if prefetching has not finished.
+	 *
+	 * @param index
+	 * 		the index of the page to prepare, counting from zero
+	 */
+	void prefetchPageData(int index);
+}
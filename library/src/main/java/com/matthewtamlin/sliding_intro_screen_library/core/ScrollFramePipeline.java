@@ -0,0 +1,210 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.support.v4.view.ViewPager;
+import android.support.v4.view.ViewPager.OnPageChangeListener;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+
+/**
+ * Merges the scroll events of a ViewPager so that each registered listener receives at most one
+ * scroll event per frame. ViewPager can deliver several scroll events within a single frame, but
+ * only the final position in each frame is ever displayed. The pipeline records the most recent
+ * scroll event and dispatches it when the next frame begins, using a Choreographer frame callback.
+ * <p/>
+ * Page selection and scroll state events are dispatched immediately, and any pending scroll event
+ * is dispatched before them so that the listeners observe the events in their original order.
+ * While the pages settle, the ViewPager produces exactly one scroll event per frame while the
+ * frame is being drawn. Deferring those events would leave the listeners a frame behind the
+ * pages, so they are dispatched immediately instead. On API levels without Choreographer, scroll
+ * events are always dispatched immediately.
+ */
+final class ScrollFramePipeline implements OnPageChangeListener {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[ScrollFramePipeline]";
+
+	/**
+	 * The listeners to dispatch events to, in the order they were added.
+	 */
+	private final ArrayList<OnPageChangeListener> listeners = new ArrayList<>();
+
+	/**
+	 * Receives the frame callbacks, null if the API level does not support Choreographer.
+	 */
+	private final FrameDispatcher frameDispatcher;
+
+	/**
+	 * Whether or not the pages are settling, in which case scroll events are not deferred.
+	 */
+	private boolean settling = false;
+
+	/**
+	 * Whether or not a scroll event is waiting to be dispatched.
+	 */
+	private boolean scrollPending = false;
+
+	/**
+	 * The position of the pending scroll event.
+	 */
+	private int position;
+
+	/**
+	 * The position offset of the pending scroll event.
+	 */
+	private float positionOffset;
+
+	/**
+	 * The position offset of the pending scroll event, measured in pixels.
+	 */
+	private int positionOffsetPixels;
+
+	/**
+	 * Constructs a new ScrollFramePipeline instance.
+	 */
+	public ScrollFramePipeline() {
+		frameDispatcher = (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) ?
+				new FrameDispatcher() :
+				null;
+	}
+
+	/**
+	 * Registers a listener to receive the merged events. Registering the same listener more than
+	 * once has no effect.
+	 *
+	 * @param listener
+	 * 		the listener to register, null has no effect
+	 */
+	public void addListener(final OnPageChangeListener listener) {
+		if (listener != null && !listeners.contains(listener)) {
+			listeners.add(listener);
+		}
+	}
+
+	/**
+	 * Unregisters a listener so that it does not receive further events.
+	 *
+	 * @param listener
+	 * 		the listener to unregister
+	 */
+	public void removeListener(final OnPageChangeListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Dispatches the pending scroll event (if any) immediately, rather than waiting for the next
+	 * frame.
+	 */
+	public void flush() {
+		if (scrollPending) {
+			scrollPending = false;
+
+			for (int i = 0; i < listeners.size(); i++) {
+				listeners.get(i).onPageScrolled(position, positionOffset, positionOffsetPixels);
+			}
+		}
+	}
+
+	/**
+	 * Discards the pending scroll event (if any) and removes the posted frame callback.
+	 */
+	public void cancel() {
+		scrollPending = false;
+
+		if (frameDispatcher != null) {
+			frameDispatcher.stop();
+		}
+	}
+
+	@Override
+	public void onPageScrolled(final int position, final float positionOffset,
+			final int positionOffsetPixels) {
+		this.position = position;
+		this.positionOffset = positionOffset;
+		this.positionOffsetPixels = positionOffsetPixels;
+		scrollPending = true;
+
+		if (frameDispatcher == null || settling) {
+			flush();
+		} else {
+			frameDispatcher.start();
+		}
+	}
+
+	@Override
+	public void onPageSelected(final int position) {
+		flush();
+
+		for (int i = 0; i < listeners.size(); i++) {
+			listeners.get(i).onPageSelected(position);
+		}
+	}
+
+	@Override
+	public void onPageScrollStateChanged(final int state) {
+		flush();
+		settling = (state == ViewPager.SCROLL_STATE_SETTLING);
+
+		for (int i = 0; i < listeners.size(); i++) {
+			listeners.get(i).onPageScrollStateChanged(state);
+		}
+	}
+
+	/**
+	 * Dispatches the pending scroll event at the start of each frame. This class must only be
+	 * instantiated on API 16 and above.
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private final class FrameDispatcher implements Choreographer.FrameCallback {
+		/**
+		 * Whether or not a frame callback is currently posted.
+		 */
+		private boolean posted = false;
+
+		/**
+		 * Posts a frame callback if one is not already posted.
+		 */
+		private void start() {
+			if (!posted) {
+				posted = true;
+				Choreographer.getInstance().postFrameCallback(this);
+			}
+		}
+
+		/**
+		 * Removes the posted frame callback, if any.
+		 */
+		private void stop() {
+			if (posted) {
+				posted = false;
+				Choreographer.getInstance().removeFrameCallback(this);
+			}
+		}
+
+		@Override
+		public void doFrame(final long frameTimeNanos) {
+			posted = false;
+			flush();
+		}
+	}
+}
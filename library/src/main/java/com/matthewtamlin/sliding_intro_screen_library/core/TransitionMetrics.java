@@ -0,0 +1,194 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+/**
+ * Performance measurements of a single page transition in an {@link IntroActivity}. A transition
+ * starts when the pages start moving (either due to a drag or a programmatic page change) and
+ * finishes when they come to rest. Frame measurements are only available on API 16 and above,
+ * and are reported as zero on older versions. All durations are measured in nanoseconds.
+ */
+public final class TransitionMetrics {
+	/**
+	 * The duration of the transition.
+	 */
+	private long durationNs;
+
+	/**
+	 * The number of frames drawn during the transition.
+	 */
+	private int frameCount;
+
+	/**
+	 * The number of frames which should have been drawn but were skipped because the UI thread
+	 * was busy.
+	 */
+	private int droppedFrameCount;
+
+	/**
+	 * The longest time between two consecutive frames.
+	 */
+	private long worstFrameTimeNs;
+
+	/**
+	 * The total time spent updating the background.
+	 */
+	private long backgroundUpdateTimeNs;
+
+	/**
+	 * The total time spent transforming pages.
+	 */
+	private long pageTransformTimeNs;
+
+	/**
+	 * The total time spent updating the progress indicator.
+	 */
+	private long indicatorUpdateTimeNs;
+
+	/**
+	 * Constructs a new TransitionMetrics instance with all measurements set to zero.
+	 */
+	TransitionMetrics() {}
+
+	/**
+	 * @return the time from when the pages started moving until they came to rest
+	 */
+	public long getDurationNs() {
+		return durationNs;
+	}
+
+	/**
+	 * @return the number of frames drawn during the transition
+	 */
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * @return the number of frames which were skipped because the UI thread did not finish
+	 * drawing the previous frame in time
+	 */
+	public int getDroppedFrameCount() {
+		return droppedFrameCount;
+	}
+
+	/**
+	 * @return the longest time between two consecutive frames during the transition
+	 */
+	public long getWorstFrameTimeNs() {
+		return worstFrameTimeNs;
+	}
+
+	/**
+	 * @return the total time spent in {@link com.matthewtamlin.sliding_intro_screen_library
+	 * .background.BackgroundManager#updateBackground(android.view.View, int, float)}
+	 */
+	public long getBackgroundUpdateTimeNs() {
+		return backgroundUpdateTimeNs;
+	}
+
+	/**
+	 * @return the total time spent in {@link android.support.v4.view.ViewPager
+	 * .PageTransformer#transformPage(android.view.View, float)}
+	 */
+	public long getPageTransformTimeNs() {
+		return pageTransformTimeNs;
+	}
+
+	/**
+	 * @return the total time spent in {@link com.matthewtamlin.sliding_intro_screen_library
+	 * .indicators.SelectionIndicator#setSelectedItem(int, boolean)} and {@link
+	 * com.matthewtamlin.sliding_intro_screen_library.indicators.ScrollingSelectionIndicator
+	 * #onSelectionScrolled(int, float)}
+	 */
+	public long getIndicatorUpdateTimeNs() {
+		return indicatorUpdateTimeNs;
+	}
+
+	/**
+	 * Sets all measurements to zero.
+	 */
+	void reset() {
+		durationNs = 0;
+		frameCount = 0;
+		droppedFrameCount = 0;
+		worstFrameTimeNs = 0;
+		backgroundUpdateTimeNs = 0;
+		pageTransformTimeNs = 0;
+		indicatorUpdateTimeNs = 0;
+	}
+
+	/**
+	 * Sets the duration of the transition.
+	 *
+	 * @param durationNs
+	 * 		the duration, measured in nanoseconds
+	 */
+	void setDuration(final long durationNs) {
+		this.durationNs = durationNs;
+	}
+
+	/**
+	 * Records a frame which was drawn during the transition.
+	 *
+	 * @param frameTimeNs
+	 * 		the time since the previous frame, measured in nanoseconds
+	 * @param frameIntervalNs
+	 * 		the expected time between frames for the display, measured in nanoseconds
+	 */
+	void recordFrame(final long frameTimeNs, final long frameIntervalNs) {
+		frameCount++;
+		worstFrameTimeNs = Math.max(worstFrameTimeNs, frameTimeNs);
+
+		// Each whole interval beyond the first means a vsync passed without a new frame
+		final long missedIntervals = (frameTimeNs + (frameIntervalNs / 2)) / frameIntervalNs - 1;
+
+		if (missedIntervals > 0) {
+			droppedFrameCount += missedIntervals;
+		}
+	}
+
+	/**
+	 * Adds to the total time spent updating the background.
+	 *
+	 * @param timeNs
+	 * 		the time to add, measured in nanoseconds
+	 */
+	void addBackgroundUpdateTime(final long timeNs) {
+		backgroundUpdateTimeNs += timeNs;
+	}
+
+	/**
+	 * Adds to the total time spent transforming pages.
+	 *
+	 * @param timeNs
+	 * 		the time to add, measured in nanoseconds
+	 */
+	void addPageTransformTime(final long timeNs) {
+		pageTransformTimeNs += timeNs;
+	}
+
+	/**
+	 * Adds to the total time spent updating the progress indicator.
+	 *
+	 * @param timeNs
+	 * 		the time to add, measured in nanoseconds
+	 */
+	void addIndicatorUpdateTime(final long timeNs) {
+		indicatorUpdateTimeNs += timeNs;
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.support.v4.view.ViewPager;
+import android.view.Choreographer;
+
+/**
+ * Measures page transitions and delivers the measurements to an {@link IntroMetrics}. A transition
+ * is measured from when the scroll state of the ViewPager leaves idle until it returns to idle.
+ * While a transition is in progress, the time between frames is measured using a Choreographer
+ * frame callback (API 16 and above only), and the time spent in each UI update is accumulated
+ * using {@link #startTiming()} and the various record methods. Nothing is measured and no
+ * callbacks are posted while no IntroMetrics is registered or the ViewPager is idle.
+ */
+final class TransitionMonitor {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[TransitionMonitor]";
+
+	/**
+	 * The number of nanoseconds in one second.
+	 */
+	private static final long NANOS_PER_SECOND = 1000000000L;
+
+	/**
+	 * The measurements of the current transition. The same instance is reused for every
+	 * transition to avoid allocation.
+	 */
+	private final TransitionMetrics metrics = new TransitionMetrics();
+
+	/**
+	 * The expected time between frames for the display.
+	 */
+	private final long frameIntervalNs;
+
+	/**
+	 * Receives the frame callbacks, null if the API level does not support Choreographer.
+	 */
+	private final FrameTimer frameTimer;
+
+	/**
+	 * Receives the measurements, null if measurement is disabled.
+	 */
+	private IntroMetrics listener = null;
+
+	/**
+	 * Whether or not a transition is currently being measured.
+	 */
+	private boolean measuring = false;
+
+	/**
+	 * The value of {@link System#nanoTime()} when the current transition started. Choreographer
+	 * frame times use the same time base.
+	 */
+	private long transitionStartTimeNs;
+
+	/**
+	 * The time of the most recent frame in the current transition, 0 if no frame has occurred.
+	 */
+	private long lastFrameTimeNs;
+
+	/**
+	 * Constructs a new TransitionMonitor instance.
+	 *
+	 * @param refreshRate
+	 * 		the refresh rate of the display, measured in frames per second
+	 * @throws IllegalArgumentException
+	 * 		if {@code refreshRate} is not greater than 0
+	 */
+	public TransitionMonitor(final float refreshRate) {
+		if (refreshRate <= 0) {
+			throw new IllegalArgumentException("refreshRate must be greater than 0");
+		}
+
+		frameIntervalNs = (long) (NANOS_PER_SECOND / refreshRate);
+		frameTimer = (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) ? new FrameTimer() :
+				null;
+	}
+
+	/**
+	 * Sets the IntroMetrics to deliver measurements to. If a transition is currently being
+	 * measured, then the measurement is abandoned.
+	 *
+	 * @param listener
+	 * 		the IntroMetrics to deliver measurements to, null to disable measurement
+	 */
+	public void setListener(final IntroMetrics listener) {
+		cancel();
+		this.listener = listener;
+	}
+
+	/**
+	 * @return the IntroMetrics which receives measurements, null if measurement is disabled
+	 */
+	public IntroMetrics getListener() {
+		return listener;
+	}
+
+	/**
+	 * Starts or finishes measuring a transition when the scroll state of the ViewPager changes.
+	 *
+	 * @param state
+	 * 		the new scroll state, as defined by ViewPager
+	 */
+	public void onPageScrollStateChanged(final int state) {
+		if (listener == null) {
+			return;
+		}
+
+		if (state != ViewPager.SCROLL_STATE_IDLE && !measuring) {
+			measuring = true;
+			metrics.reset();
+			transitionStartTimeNs = System.nanoTime();
+			lastFrameTimeNs = 0;
+
+			if (frameTimer != null) {
+				frameTimer.start();
+			}
+		} else if (state == ViewPager.SCROLL_STATE_IDLE && measuring) {
+			metrics.setDuration(System.nanoTime() - transitionStartTimeNs);
+			cancel();
+			listener.onTransitionMeasured(metrics);
+		}
+	}
+
+	/**
+	 * Stops measuring the current transition (if any) without delivering the measurements.
+	 */
+	public void cancel() {
+		measuring = false;
+
+		if (frameTimer != null) {
+			frameTimer.stop();
+		}
+	}
+
+	/**
+	 * Marks the start of a UI update which is to be measured. The returned value must be passed
+	 * to one of the record methods when the update completes.
+	 *
+	 * @return the current value of {@link System#nanoTime()} if a transition is being measured,
+	 * otherwise 0
+	 */
+	public long startTiming() {
+		return measuring ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time spent updating the background.
+	 *
+	 * @param startTimeNs
+	 * 		the value returned by {@link #startTiming()} when the update started
+	 */
+	public void recordBackgroundUpdate(final long startTimeNs) {
+		if (measuring && startTimeNs != 0) {
+			metrics.addBackgroundUpdateTime(System.nanoTime() - startTimeNs);
+		}
+	}
+
+	/**
+	 * Records the time spent transforming a page.
+	 *
+	 * @param startTimeNs
+	 * 		the value returned by {@link #startTiming()} when the transformation started
+	 */
+	public void recordPageTransform(final long startTimeNs) {
+		if (measuring && startTimeNs != 0) {
+			metrics.addPageTransformTime(System.nanoTime() - startTimeNs);
+		}
+	}
+
+	/**
+	 * Records the time spent updating the progress indicator.
+	 *
+	 * @param startTimeNs
+	 * 		the value returned by {@link #startTiming()} when the update started
+	 */
+	public void recordIndicatorUpdate(final long startTimeNs) {
+		if (measuring && startTimeNs != 0) {
+			metrics.addIndicatorUpdateTime(System.nanoTime() - startTimeNs);
+		}
+	}
+
+	/**
+	 * Records the time between frames using Choreographer. This class must only be instantiated
+	 * on API 16 and above.
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private final class FrameTimer implements Choreographer.FrameCallback {
+		/**
+		 * Whether or not a frame callback is currently posted.
+		 */
+		private boolean posted = false;
+
+		/**
+		 * Posts a frame callback if one is not already posted.
+		 */
+		private void start() {
+			if (!posted) {
+				posted = true;
+				Choreographer.getInstance().postFrameCallback(this);
+			}
+		}
+
+		/**
+		 * Removes the posted frame callback, if any.
+		 */
+		private void stop() {
+			if (posted) {
+				posted = false;
+				Choreographer.getInstance().removeFrameCallback(this);
+			}
+		}
+
+		@Override
+		public void doFrame(final long frameTimeNanos) {
+			posted = false;
+
+			if (!measuring) {
+				return;
+			}
+
+			// The first frame is measured from the start of the transition. The frame time is the
+			// vsync time, which can slightly precede the start of the transition.
+			final long previousTimeNs = (lastFrameTimeNs == 0) ? transitionStartTimeNs :
+					lastFrameTimeNs;
+			metrics.recordFrame(Math.max(0, frameTimeNanos - previousTimeNs), frameIntervalNs);
+
+			lastFrameTimeNs = frameTimeNanos;
+			start();
+		}
+	}
+}
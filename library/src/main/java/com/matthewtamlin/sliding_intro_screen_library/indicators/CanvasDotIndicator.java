@@ -0,0 +1,688 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.indicators;
+
+import android.animation.ValueAnimator;
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.os.Build;
+import android.support.v4.view.ViewCompat;
+import android.util.AttributeSet;
+import android.view.View;
+
+import com.matthewtamlin.android_utilities_library.helpers.ColorHelper;
+import com.matthewtamlin.android_utilities_library.helpers.DimensionHelper;
+import com.matthewtamlin.sliding_intro_screen_library.R;
+
+/**
+ * Displays a set of dots to indicate the selected item in a set. This class is a drop-in
+ * alternative to {@link DotIndicator} which accepts the same attributes, however all dots are drawn
+ * directly onto the Canvas of this single View. Unlike DotIndicator, no child Views are created
+ * for the dots, so the cost of measuring, laying out and holding this View is the same regardless
+ * of the number of dots. Selection changes are animated by a single ValueAnimator which only
+ * invalidates this View, so animations never trigger a layout pass.
+ * <p/>
+ * The dots are centred within this View, and are ordered from right to left when the layout
+ * direction is right-to-left. When used as a {@link ScrollingSelectionIndicator}, the dots are
+ * drawn directly from the scroll position and no animator runs.
+ */
+public final class CanvasDotIndicator extends View implements ScrollingSelectionIndicator {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[CanvasDotIndicator]";
+
+	/**
+	 * Default value for the {@code numberOfDots} attribute. This value is used if the attribute is
+	 * not supplied.
+	 */
+	private static final int DEFAULT_NUMBER_OF_DOTS = 1;
+
+	/**
+	 * Default value for the {@code selectedDotIndex} attribute. This value is used if the attribute
+	 * is not supplied.
+	 */
+	private static final int DEFAULT_SELECTED_DOT_INDEX = 0;
+
+	/**
+	 * Default value for the {@code unselectedDotDiameter} attribute. This value is used if the
+	 * attribute is not supplied. This value has units of display-independent pixels.
+	 */
+	private static final int DEFAULT_UNSELECTED_DOT_DIAMETER_DP = 6;
+
+	/**
+	 * Default value for the {@code selectedDotDiameter} attribute. This value is used if the
+	 * attribute is not supplied. This value has units of display-independent pixels.
+	 */
+	private static final int DEFAULT_SELECTED_DOT_DIAMETER_DP = 9;
+
+	/**
+	 * Default value for the {@code unselectedDotColor} attribute. This value is used if the
+	 * attribute is not supplied. This value is an ARGB hex code.
+	 */
+	private static final int DEFAULT_UNSELECTED_DOT_COLOR = Color.WHITE;
+
+	/**
+	 * Default value for the {@code selectedDotColor} attribute. This value is used if the attribute
+	 * is not supplied. This value is an ARGB hex code.
+	 */
+	private static final int DEFAULT_SELECTED_DOT_COLOR = Color.WHITE;
+
+	/**
+	 * Default value for the {@code spacingBetweenDots} attribute. This value is used if the
+	 * attribute is not supplied. This value has units of display-independent pixels.
+	 */
+	private static final int DEFAULT_SPACING_BETWEEN_DOTS_DP = 7;
+
+	/**
+	 * Default value for the {@code dotTransitionDuration} attribute. This value is used if the
+	 * attribute is not supplied. This value has units of milliseconds.
+	 */
+	private static final int DEFAULT_DOT_TRANSITION_DURATION_MS = 200;
+
+	/**
+	 * The number of dots shown.
+	 */
+	private int numberOfDots;
+
+	/**
+	 * The index of the selected dot, counting from zero.
+	 */
+	private int selectedDotIndex;
+
+	/**
+	 * The index of the dot which is transitioning from selected to unselected, -1 if there is none.
+	 */
+	private int deselectingDotIndex = -1;
+
+	/**
+	 * The progress of the current selection transition, from 0 (the transition has just started)
+	 * to 1 (the transition is complete).
+	 */
+	private float transitionFraction = 1f;
+
+	/**
+	 * The index of the first of the two dots currently showing a scroll position, -1 if the dots
+	 * are not currently following a scroll.
+	 */
+	private int scrolledDotIndex = -1;
+
+	/**
+	 * How far the scroll position has moved from {@code scrolledDotIndex} towards the next dot.
+	 */
+	private float scrollOffset = 0f;
+
+	/**
+	 * The diameter to use for the unselected dots.
+	 */
+	private int unselectedDotDiameterPx;
+
+	/**
+	 * The diameter to use for the selected dot.
+	 */
+	private int selectedDotDiameterPx;
+
+	/**
+	 * The color to use for the unselected dots, as an ARGB hex code.
+	 */
+	private int unselectedDotColor;
+
+	/**
+	 * The colour to use for the selected dot, as an ARGB hex code.
+	 */
+	private int selectedDotColor;
+
+	/**
+	 * The spacing between dots. The spacing is measured as the distance between the edges of
+	 * consecutive dots. The spacing is applied as if all dots are unselected, and when a dot
+	 * changes size to become selected, it stays fixed at its centre.
+	 */
+	private int spacingBetweenDotsPx;
+
+	/**
+	 * The length of time for transitioning a dot between selected and unselected, measured in
+	 * milliseconds.
+	 */
+	private int dotTransitionDuration;
+
+	/**
+	 * Draws every dot. The color of the paint is changed before each dot is drawn.
+	 */
+	private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+	/**
+	 * Animates every selection transition, by updating {@code transitionFraction} and invalidating
+	 * this View.
+	 */
+	private final ValueAnimator transitionAnimator = ValueAnimator.ofFloat(0f, 1f);
+
+	/**
+	 * Constructs a new CanvasDotIndicator instance. The following default parameters are used:
+	 * <ul><li>numberOfDots: 1</li> <li>selectedDotIndex: 0</li> <li>unselectedDotDiameter: 6dp</li>
+	 * <li>selectedDotDiameter: 9dp</li> <li>unselectedDotColor: opaque white (i.e. ARGB
+	 * 0xFFFFFFFF)</li> <li>selectedDotColor: opaque white (i.e. ARGB 0xFFFFFFFF)</li>
+	 * <li>spacingBetweenDots: 7dp</li> <li>dotTransitionDuration: 200ms</li></ul>
+	 *
+	 * @param context
+	 * 		the Context in which this CanvasDotIndicator is operating, not null
+	 */
+	public CanvasDotIndicator(final Context context) {
+		super(context);
+		init(null, 0, 0);
+	}
+
+	/**
+	 * Constructs a new CanvasDotIndicator instance. The attributes of {@link DotIndicator} are
+	 * used, and if an attribute is not provided the relevant default is used. The defaults are the
+	 * same as for {@link #CanvasDotIndicator(Context)}.
+	 *
+	 * @param context
+	 * 		the Context in which this SelectionIndicator is operating, not null
+	 * @param attrs
+	 * 		configuration attributes, null allowed
+	 */
+	public CanvasDotIndicator(final Context context, final AttributeSet attrs) {
+		super(context, attrs);
+		init(attrs, 0, 0);
+	}
+
+	/**
+	 * Constructs a new CanvasDotIndicator instance. The attributes of {@link DotIndicator} are
+	 * used, and if an attribute is not provided the relevant default is used. The defaults are the
+	 * same as for {@link #CanvasDotIndicator(Context)}.
+	 *
+	 * @param context
+	 * 		the context in which this SelectionIndicator is operating
+	 * @param attrs
+	 * 		configuration attributes, null allowed
+	 * @param defStyleAttr
+	 * 		an attribute in the current theme which supplies default attributes, pass 0	to ignore
+	 */
+	public CanvasDotIndicator(final Context context, final AttributeSet attrs,
+			final int defStyleAttr) {
+		super(context, attrs, defStyleAttr);
+		init(attrs, defStyleAttr, 0);
+	}
+
+	/**
+	 * Constructs a new CanvasDotIndicator instance. The attributes of {@link DotIndicator} are
+	 * used, and if an attribute is not provided the relevant default is used. The defaults are the
+	 * same as for {@link #CanvasDotIndicator(Context)}.
+	 *
+	 * @param context
+	 * 		the context in which this SelectionIndicator is operating
+	 * @param attrs
+	 * 		configuration attributes, null allowed
+	 * @param defStyleAttr
+	 * 		an attribute in the current theme which supplies default attributes, pass 0	to ignore
+	 * @param defStyleRes
+	 * 		a resource which supplies default attributes, only used if {@code defStyleAttr}	is 0, pass
+	 * 		0 to ignore
+	 */
+	@TargetApi(21)
+	public CanvasDotIndicator(final Context context, final AttributeSet attrs,
+			final int defStyleAttr, final int defStyleRes) {
+		super(context, attrs, defStyleAttr, defStyleRes);
+		init(attrs, defStyleAttr, defStyleRes);
+	}
+
+	/**
+	 * Initialises the member variables of this CanvasDotIndicator. This method should only be
+	 * invoked during construction.
+	 *
+	 * @param attrs
+	 * 		configuration attributes, null allowed
+	 * @param defStyleAttr
+	 * 		an attribute in the current theme which supplies default attributes, pass 0	to ignore
+	 * @param defStyleRes
+	 * 		a resource which supplies default attributes, only used if {@code defStyleAttr}	is 0, pass
+	 * 		0 to ignore
+	 */
+	private void init(final AttributeSet attrs, final int defStyleAttr, final int defStyleRes) {
+		// Use a TypedArray to process attrs
+		final TypedArray attributes = getContext().obtainStyledAttributes(attrs, R.styleable
+				.DotIndicator, defStyleAttr, defStyleRes);
+
+		// Need to convert all default dimensions to px
+		final int defaultSelectedDotDiameterPx =
+				DimensionHelper.dpToPx(getContext(), DEFAULT_SELECTED_DOT_DIAMETER_DP);
+		final int defaultUnselectedDotDiameterPx = DimensionHelper.dpToPx(getContext(),
+				DEFAULT_UNSELECTED_DOT_DIAMETER_DP);
+		final int defaultSpacingBetweenDotsPx =
+				DimensionHelper.dpToPx(getContext(), DEFAULT_SPACING_BETWEEN_DOTS_DP);
+
+		// Assign provided attributes to member variables, or use the defaults if necessary
+		numberOfDots = attributes
+				.getInt(R.styleable.DotIndicator_numberOfDots, DEFAULT_NUMBER_OF_DOTS);
+		selectedDotIndex = attributes
+				.getInt(R.styleable.DotIndicator_selectedDotIndex, DEFAULT_SELECTED_DOT_INDEX);
+		unselectedDotDiameterPx = attributes
+				.getDimensionPixelSize(R.styleable.DotIndicator_unselectedDotDiameter,
+						defaultUnselectedDotDiameterPx);
+		selectedDotDiameterPx = attributes
+				.getDimensionPixelSize(R.styleable.DotIndicator_selectedDotDiameter,
+						defaultSelectedDotDiameterPx);
+		unselectedDotColor = attributes.getColor(R.styleable.DotIndicator_unselectedDotColor,
+				DEFAULT_UNSELECTED_DOT_COLOR);
+		selectedDotColor = attributes
+				.getColor(R.styleable.DotIndicator_selectedDotColor, DEFAULT_SELECTED_DOT_COLOR);
+		spacingBetweenDotsPx = attributes
+				.getDimensionPixelSize(R.styleable.DotIndicator_spacingBetweenDots,
+						defaultSpacingBetweenDotsPx);
+		dotTransitionDuration = attributes
+				.getInt(R.styleable.DotIndicator_dotTransitionDuration,
+						DEFAULT_DOT_TRANSITION_DURATION_MS);
+
+		// Attributes are no longer required
+		attributes.recycle();
+
+		transitionAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+			@Override
+			@TargetApi(Build.VERSION_CODES.HONEYCOMB_MR1)
+			public void onAnimationUpdate(final ValueAnimator animation) {
+				// The animated fraction avoids boxing a Float on every frame, but requires API 12
+				transitionFraction = (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB_MR1) ?
+						animation.getAnimatedFraction() :
+						(Float) animation.getAnimatedValue();
+				invalidate();
+			}
+		});
+	}
+
+	@Override
+	protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+		final int desiredWidth = getContentWidth() + getPaddingLeft() + getPaddingRight();
+		final int desiredHeight = getMaximumDiameter() + getPaddingTop() + getPaddingBottom();
+
+		setMeasuredDimension(resolveSize(desiredWidth, widthMeasureSpec),
+				resolveSize(desiredHeight, heightMeasureSpec));
+	}
+
+	@Override
+	protected void onDraw(final Canvas canvas) {
+		super.onDraw(canvas);
+
+		if (numberOfDots == 0) {
+			return;
+		}
+
+		// Centre the dots in the area inside the padding
+		final int availableWidth = getWidth() - getPaddingLeft() - getPaddingRight();
+		final int availableHeight = getHeight() - getPaddingTop() - getPaddingBottom();
+		final float firstCentreX = getPaddingLeft() + (availableWidth - getContentWidth()) / 2f +
+				getMaximumDiameter() / 2f;
+		final float centreY = getPaddingTop() + availableHeight / 2f;
+
+		// Dots are spaced as if all dots are unselected
+		final int distanceBetweenCentres = unselectedDotDiameterPx + spacingBetweenDotsPx;
+		final boolean rtl =
+				ViewCompat.getLayoutDirection(this) == ViewCompat.LAYOUT_DIRECTION_RTL;
+
+		for (int i = 0; i < numberOfDots; i++) {
+			final int position = rtl ? numberOfDots - 1 - i : i;
+			final float centreX = firstCentreX + position * distanceBetweenCentres;
+
+			paint.setColor(getCurrentColor(i));
+			canvas.drawCircle(centreX, centreY, getCurrentDiameter(i) / 2f, paint);
+		}
+	}
+
+	@Override
+	protected void onDetachedFromWindow() {
+		// Jump to the end of the transition so that the animator does not outlive this View
+		transitionAnimator.end();
+		super.onDetachedFromWindow();
+	}
+
+	/**
+	 * @return the width of the area occupied by the dots, measured in pixels
+	 */
+	private int getContentWidth() {
+		if (numberOfDots == 0) {
+			return 0;
+		}
+
+		// The selected dot may extend beyond the outer dots if it is larger
+		return (numberOfDots - 1) * (unselectedDotDiameterPx + spacingBetweenDotsPx) +
+				getMaximumDiameter();
+	}
+
+	/**
+	 * @return the larger of the selected and unselected diameters, measured in pixels
+	 */
+	private int getMaximumDiameter() {
+		return Math.max(selectedDotDiameterPx, unselectedDotDiameterPx);
+	}
+
+	/**
+	 * Returns how selected a dot currently is, from 0 (unselected) to 1 (selected).
+	 *
+	 * @param index
+	 * 		the index of the dot
+	 * @return the fraction of the selected appearance to draw the dot with
+	 */
+	private float getSelectionFraction(final int index) {
+		if (scrolledDotIndex != -1) {
+			if (index == scrolledDotIndex) {
+				return 1f - scrollOffset;
+			} else if (index == scrolledDotIndex + 1) {
+				return scrollOffset;
+			} else {
+				return 0f;
+			}
+		} else if (index == selectedDotIndex) {
+			return transitionFraction;
+		} else if (index == deselectingDotIndex) {
+			return 1f - transitionFraction;
+		} else {
+			return 0f;
+		}
+	}
+
+	/**
+	 * Returns the diameter a dot is currently drawn with. This method is also used for testing.
+	 *
+	 * @param index
+	 * 		the index of the dot
+	 * @return the current diameter, measured in pixels
+	 */
+	float getCurrentDiameter(final int index) {
+		return unselectedDotDiameterPx +
+				(selectedDotDiameterPx - unselectedDotDiameterPx) * getSelectionFraction(index);
+	}
+
+	/**
+	 * Returns the color a dot is currently drawn with. This method is also used for testing.
+	 *
+	 * @param index
+	 * 		the index of the dot
+	 * @return the current color, as an ARGB hex code
+	 */
+	int getCurrentColor(final int index) {
+		final float selectionFraction = getSelectionFraction(index);
+
+		if (selectionFraction == 0f) {
+			return unselectedDotColor;
+		} else if (selectionFraction == 1f) {
+			return selectedDotColor;
+		} else {
+			return ColorHelper.blendColors(unselectedDotColor, selectedDotColor,
+					selectionFraction);
+		}
+	}
+
+	/**
+	 * Sets the diameter to use for the unselected dots.
+	 *
+	 * @param unselectedDotDiameterPx
+	 * 		the diameter to use, measured in pixels
+	 */
+	public void setUnselectedDotDiameterPx(final int unselectedDotDiameterPx) {
+		this.unselectedDotDiameterPx = unselectedDotDiameterPx;
+		requestLayout();
+		invalidate();
+	}
+
+	/**
+	 * Sets the diameter to use for the unselected dots.
+	 *
+	 * @param unselectedDotDiameterDp
+	 * 		the diameter to use, measured in display-independent pixels
+	 */
+	public void setUnselectedDotDiameterDp(final int unselectedDotDiameterDp) {
+		final int diameterPx = DimensionHelper.dpToPx(getContext(), unselectedDotDiameterDp);
+		setUnselectedDotDiameterPx(diameterPx);
+	}
+
+	/**
+	 * @return the current unselected dot diameter, measured in pixels
+	 */
+	public int getUnselectedDotDiameter() {
+		return unselectedDotDiameterPx;
+	}
+
+	/**
+	 * Sets the diameter to use for the selected dot.
+	 *
+	 * @param selectedDotDiameterPx
+	 * 		the diameter to use, measured in pixels
+	 */
+	public void setSelectedDotDiameterPx(final int selectedDotDiameterPx) {
+		this.selectedDotDiameterPx = selectedDotDiameterPx;
+		requestLayout();
+		invalidate();
+	}
+
+	/**
+	 * Sets the diameter to use for the selected dot.
+	 *
+	 * @param selectedDotDiameterDp
+	 * 		the diameter to use, measured in display-independent pixels
+	 */
+	public void setSelectedDotDiameterDp(final int selectedDotDiameterDp) {
+		final int diameterPx = DimensionHelper.dpToPx(getContext(), selectedDotDiameterDp);
+		setSelectedDotDiameterPx(diameterPx);
+	}
+
+	/**
+	 * @return the current selected dot diameter, measured in pixels
+	 */
+	public int getSelectedDotDiameter() {
+		return selectedDotDiameterPx;
+	}
+
+	/**
+	 * Sets the color to use for the unselected dots.
+	 *
+	 * @param unselectedDotColor
+	 * 		the color to use, as an ARGB hex code
+	 */
+	public void setUnselectedDotColor(final int unselectedDotColor) {
+		this.unselectedDotColor = unselectedDotColor;
+		invalidate();
+	}
+
+	/**
+	 * @return the current unselected dot color, as an ARGB hex code
+	 */
+	public int getUnselectedDotColor() {
+		return unselectedDotColor;
+	}
+
+	/**
+	 * Sets the color to use for the selected dot.
+	 *
+	 * @param selectedDotColor
+	 * 		the color to use, as an ARGB hex code
+	 */
+	public void setSelectedDotColor(final int selectedDotColor) {
+		this.selectedDotColor = selectedDotColor;
+		invalidate();
+	}
+
+	/**
+	 * @return the current selected dot color, as an ARGB hex code
+	 */
+	public int getSelectedDotColor() {
+		return selectedDotColor;
+	}
+
+	/**
+	 * Sets the spacing between dots. The spacing is measured as the distance between the edges of
+	 * consecutive unselected dots. The spacing is applied as if all dots are unselected, and when a
+	 * dot changes size to become selected, it stays fixed at its centre.
+	 *
+	 * @param spacingBetweenDotsPx
+	 * 		the spacing to use, measured in pixels
+	 */
+	public void setSpacingBetweenDotsPx(final int spacingBetweenDotsPx) {
+		this.spacingBetweenDotsPx = spacingBetweenDotsPx;
+		requestLayout();
+		invalidate();
+	}
+
+	/**
+	 * Sets the spacing between dots. The spacing is measured as the distance between the edges of
+	 * consecutive unselected dots. The spacing is applied as if all dots are unselected, and when a
+	 * dot changes size to become selected, it stays fixed at its centre.
+	 *
+	 * @param spacingBetweenDotsDp
+	 * 		the spacing to use, measured in display-independent pixels
+	 */
+	public void setSpacingBetweenDotsDp(final int spacingBetweenDotsDp) {
+		final int spacingPx = DimensionHelper.dpToPx(getContext(), spacingBetweenDotsDp);
+		setSpacingBetweenDotsPx(spacingPx);
+	}
+
+	/**
+	 * Returns the current spacing between dots. The spacing is measured as the distance between the
+	 * edges of consecutive unselected dots.
+	 *
+	 * @return the current spacing, measured in pixels
+	 */
+	public int getSpacingBetweenDots() {
+		return spacingBetweenDotsPx;
+	}
+
+	@Override
+	public void setSelectedItem(final int index, final boolean animate) {
+		// If there are no dots, it doesn't make sense to perform an update
+		if (numberOfDots == 0) {
+			return;
+		}
+
+		if (index < 0 || index >= numberOfDots) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		// While following a scroll the dots are drawn from the scroll position
+		if (scrolledDotIndex != -1) {
+			selectedDotIndex = index;
+			return;
+		}
+
+		if (index == selectedDotIndex) {
+			// Let any transition to the dot continue, unless it should be instantaneous
+			if (!animate && transitionAnimator.isRunning()) {
+				transitionAnimator.end();
+			}
+
+			return;
+		}
+
+		// Any existing transition is replaced by the new transition
+		transitionAnimator.cancel();
+		deselectingDotIndex = selectedDotIndex;
+		selectedDotIndex = index;
+
+		if (animate && dotTransitionDuration > 0) {
+			transitionFraction = 0f;
+			transitionAnimator.setDuration(dotTransitionDuration);
+			transitionAnimator.start();
+		} else {
+			transitionFraction = 1f;
+			deselectingDotIndex = -1;
+			invalidate();
+		}
+	}
+
+	@Override
+	public int getSelectedItemIndex() {
+		return selectedDotIndex;
+	}
+
+	@Override
+	public void onSelectionScrolled(final int index, final float offset) {
+		// There is nothing to update if the dots are at rest and are not following a scroll
+		if (numberOfDots == 0 || (offset == 0 && scrolledDotIndex == -1)) {
+			return;
+		}
+
+		if (index < 0 || index >= numberOfDots) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		// The scroll position replaces any selection transition
+		transitionAnimator.cancel();
+		deselectingDotIndex = -1;
+		transitionFraction = 1f;
+
+		if (offset == 0) {
+			// The scroll has come to rest on a single dot
+			selectedDotIndex = index;
+			scrolledDotIndex = -1;
+		} else {
+			scrolledDotIndex = index;
+			scrollOffset = offset;
+		}
+
+		invalidate();
+	}
+
+	@Override
+	public void setNumberOfItems(final int numberOfItems) {
+		numberOfDots = numberOfItems;
+
+		// The scroll position no longer exists if its dot was removed
+		if (scrolledDotIndex >= numberOfDots) {
+			scrolledDotIndex = -1;
+		}
+
+		// If the selected dot was removed, select the last remaining dot without a transition
+		if (selectedDotIndex >= numberOfDots) {
+			transitionAnimator.cancel();
+			selectedDotIndex = Math.max(numberOfDots - 1, 0);
+			transitionFraction = 1f;
+			deselectingDotIndex = -1;
+		} else if (deselectingDotIndex >= numberOfDots) {
+			deselectingDotIndex = -1;
+		}
+
+		requestLayout();
+		invalidate();
+	}
+
+	@Override
+	public int getNumberOfItems() {
+		return numberOfDots;
+	}
+
+	@Override
+	public void setTransitionDuration(final int transitionDurationMs) {
+		dotTransitionDuration = transitionDurationMs;
+	}
+
+	@Override
+	public int getTransitionDuration() {
+		return dotTransitionDuration;
+	}
+
+	@Override
+	public void setVisibility(final boolean show) {
+		setVisibility(show ? VISIBLE : INVISIBLE);
+	}
+
+	@Override
+	public boolean isVisible() {
+		return (getVisibility() == VISIBLE);
+	}
+}
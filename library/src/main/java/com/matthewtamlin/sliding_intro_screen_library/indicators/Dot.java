@@ -18,18 +18,15 @@ package com.matthewtamlin.sliding_intro_screen_library.indicators;
 
 import android.animation.Animator;
 import android.animation.AnimatorListenerAdapter;
-import android.animation.AnimatorSet;
 import android.animation.ValueAnimator;
 import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.drawable.ShapeDrawable;
-import android.graphics.drawable.shapes.OvalShape;
+import android.graphics.Paint;
 import android.util.AttributeSet;
 import android.util.Log;
-import android.view.Gravity;
-import android.widget.ImageView;
 import android.widget.RelativeLayout;
 
 import com.matthewtamlin.android_utilities_library.helpers.ColorHelper;
@@ -40,6 +37,10 @@ import com.matthewtamlin.sliding_intro_screen_library.R;
  * A Dot is a {@code View} which shows a solid circular shape. Each Dot has two configurations,
  * active and inactive, and each configuration has two parameters, color and diameter. Dots can be
  * made to smoothly transition between the two configurations.
+ * <p/>
+ * The size of a Dot is always large enough to contain both diameters, and the circle is drawn
+ * directly onto the Canvas of the Dot. Transitions therefore only change the drawn radius and
+ * color, and never trigger a layout pass. A Dot does not display any children.
  */
 public final class Dot extends RelativeLayout {
 	/**
@@ -116,19 +117,52 @@ public final class Dot extends RelativeLayout {
 	private State state;
 
 	/**
-	 * The Drawable used to create the visible part of this Dot.
+	 * Draws the circle of this Dot. The color of the paint is the current color of this Dot.
 	 */
-	private ShapeDrawable shape;
+	private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
 
 	/**
-	 * Displays the drawable representing this Dot.
+	 * The diameter the circle of this Dot is currently drawn with, measured in pixels.
 	 */
-	private ImageView drawableHolder;
+	private float currentDiameterPx;
 
 	/**
-	 * The Animator currently acting on this Dot, null if not animating currently.
+	 * Animates every transition between active and inactive. The animator is created once and
+	 * reused, and each update only invalidates this Dot.
 	 */
-	private AnimatorSet currentAnimator = null;
+	private final ValueAnimator transitionAnimator = ValueAnimator.ofFloat(0f, 1f);
+
+	/**
+	 * The stable State the current transition ends in, either active or inactive.
+	 */
+	private State transitionTarget = State.INACTIVE;
+
+	/**
+	 * The diameter at the start of the current transition, measured in pixels. Transitions start
+	 * from the drawn diameter, which may be part way between the two diameters.
+	 */
+	private float transitionStartSizePx;
+
+	/**
+	 * The diameter at the end of the current transition, measured in pixels.
+	 */
+	private int transitionEndSizePx;
+
+	/**
+	 * The color at the start of the current transition, as an ARGB hex code. Transitions start
+	 * from the drawn color, which may be a blend of the two colors.
+	 */
+	private int transitionStartColor;
+
+	/**
+	 * The color at the end of the current transition, as an ARGB hex code.
+	 */
+	private int transitionEndColor;
+
+	/**
+	 * Whether or not the current transition has been cancelled.
+	 */
+	private boolean transitionCancelled = false;
 
 	/**
 	 * Constructs a new Dot instance. The following default parameters are used:<ul>
@@ -243,44 +277,137 @@ public final class Dot extends RelativeLayout {
 		// Attributes are no longer required
 		attributes.recycle();
 
+		// Layouts skip drawing by default, but the circle is drawn in onDraw
+		setWillNotDraw(false);
+
+		initialiseTransitionAnimator();
+
 		// Ensure the view reflects the attributes
-		reflectParametersInView();
+		reflectParametersInView(true);
 	}
 
 	/**
-	 * Recreates the UI to reflect the current values of the member variables.
+	 * Registers the listeners of {@code transitionAnimator}. This method should only be invoked
+	 * during construction.
 	 */
-	private void reflectParametersInView() {
-		// Reset root View so that the UI can be entirely recreated
-		removeAllViews();
+	private void initialiseTransitionAnimator() {
+		transitionAnimator.addListener(new AnimatorListenerAdapter() {
+			@Override
+			public void onAnimationStart(Animator animation) {
+				transitionCancelled = false;
 
-		// Make the root View bounds big enough to encompass the maximum diameter
+				// The state must be updated to reflect the transition
+				state = (transitionTarget == State.ACTIVE) ?
+						State.TRANSITIONING_TO_ACTIVE :
+						State.TRANSITIONING_TO_INACTIVE;
+			}
+
+			@Override
+			public void onAnimationEnd(Animator animation) {
+				// Cancelled transitions have already been reset
+				if (transitionCancelled) {
+					return;
+				}
+
+				// The state is defined by the direction of the transition, not the previous state
+				state = transitionTarget;
+
+				// Make sure the properties are correct
+				changeSize(transitionEndSizePx);
+				changeColor(transitionEndColor);
+			}
+
+			@Override
+			public void onAnimationCancel(Animator animation) {
+				transitionCancelled = true;
+
+				// The transition may have started part way, so return to the stable state it left
+				if (transitionTarget == State.ACTIVE) {
+					state = State.INACTIVE;
+					changeSize(inactiveDiameterPx);
+					changeColor(inactiveColor);
+				} else {
+					state = State.ACTIVE;
+					changeSize(activeDiameterPx);
+					changeColor(activeColor);
+				}
+			}
+		});
+
+		transitionAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+			@Override
+			public void onAnimationUpdate(ValueAnimator animation) {
+				final float fraction = (Float) animation.getAnimatedValue();
+
+				changeSize(transitionStartSizePx +
+						(transitionEndSizePx - transitionStartSizePx) * fraction);
+				changeColor(ColorHelper.blendColors(transitionStartColor, transitionEndColor,
+						fraction));
+			}
+		});
+	}
+
+	/**
+	 * Updates the UI to reflect the current values of the member variables.
+	 *
+	 * @param boundsChanged
+	 * 		whether or not either diameter may have changed, in which case the bounds must be
+	 * 		recalculated
+	 */
+	private void reflectParametersInView(final boolean boundsChanged) {
+		// The bounds must be big enough to encompass the maximum diameter
+		if (boundsChanged) {
+			requestLayout();
+		}
+
+		changeSize((state == State.ACTIVE) ? activeDiameterPx : inactiveDiameterPx);
+		changeColor((state == State.ACTIVE) ? activeColor : inactiveColor);
+	}
+
+	@Override
+	protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
 		final int maxDimension = Math.max(inactiveDiameterPx, activeDiameterPx);
-		setLayoutParams(new LayoutParams(maxDimension, maxDimension));
+		final int desiredWidth = maxDimension + getPaddingLeft() + getPaddingRight();
+		final int desiredHeight = maxDimension + getPaddingTop() + getPaddingBottom();
+
+		setMeasuredDimension(resolveSize(desiredWidth, widthMeasureSpec),
+				resolveSize(desiredHeight, heightMeasureSpec));
+	}
+
+	@Override
+	protected void onLayout(final boolean changed, final int l, final int t, final int r,
+			final int b) {
+		// There are no children to lay out
+	}
 
-		// Set the gravity to centre for simplicity
-		setGravity(Gravity.CENTER);
+	@Override
+	protected void onDraw(final Canvas canvas) {
+		super.onDraw(canvas);
 
-		// Create the drawable based on the current member variables
-		final int diameter = (state == State.ACTIVE) ? activeDiameterPx : inactiveDiameterPx;
-		final int color = (state == State.ACTIVE) ? activeColor : inactiveColor;
-		shape = new ShapeDrawable(new OvalShape());
-		shape.setIntrinsicWidth(diameter);
-		shape.setIntrinsicHeight(diameter);
-		shape.getPaint().setColor(color);
+		// Keep the circle centred in the area inside the padding
+		final int availableWidth = getWidth() - getPaddingLeft() - getPaddingRight();
+		final int availableHeight = getHeight() - getPaddingTop() - getPaddingBottom();
+		final float centreX = getPaddingLeft() + availableWidth / 2f;
+		final float centreY = getPaddingTop() + availableHeight / 2f;
 
-		// Add the drawable to the drawable holder
-		drawableHolder = new ImageView(getContext());
-		drawableHolder.setImageDrawable(null); // Forces redraw
-		drawableHolder.setImageDrawable(shape);
+		canvas.drawCircle(centreX, centreY, currentDiameterPx / 2f, paint);
+	}
 
-		// Add the drawable holder to root View
-		addView(drawableHolder);
+	@Override
+	protected void onDetachedFromWindow() {
+		// Jump to the end of the transition so that the animator does not outlive this Dot. Ending
+		// an animator which is not running would start it on some API levels.
+		if (transitionAnimator.isRunning()) {
+			transitionAnimator.end();
+		}
+		super.onDetachedFromWindow();
 	}
 
 	/**
 	 * Plays animations to transition the size and color of this Dot.
 	 *
+	 * @param target
+	 * 		the stable State this Dot is in at the end of the animation, either active or inactive
 	 * @param startSize
 	 * 		the width and height of this Dot at the start of the animation, measured in pixels
 	 * @param endSize
@@ -294,8 +421,8 @@ public final class Dot extends RelativeLayout {
 	 * @throws IllegalArgumentException
 	 * 		if startSize, endSize or duration are less than 0
 	 */
-	private void animateDotChange(final int startSize, final int endSize, final int startColor,
-			final int endColor, final int duration) {
+	private void animateDotChange(final State target, final float startSize, final int endSize,
+			final int startColor, final int endColor, final int duration) {
 		if (startSize < 0) {
 			throw new IllegalArgumentException("startSize cannot be less than 0");
 		} else if (endSize < 0) {
@@ -305,88 +432,30 @@ public final class Dot extends RelativeLayout {
 		}
 
 		// To avoid conflicting animations, cancel any existing animation
-		if (currentAnimator != null) {
-			currentAnimator.cancel();
-		}
-
-		// Use an animator set to coordinate shape and color change animations
-		currentAnimator = new AnimatorSet();
-		currentAnimator.setDuration(duration);
-		currentAnimator.addListener(new AnimatorListenerAdapter() {
-			@Override
-			public void onAnimationStart(Animator animation) {
-				// The state must be updated to reflect the transition
-				if (state == State.INACTIVE) {
-					state = State.TRANSITIONING_TO_ACTIVE;
-				} else if (state == State.ACTIVE) {
-					state = State.TRANSITIONING_TO_INACTIVE;
-				}
-			}
-
-			@Override
-			public void onAnimationEnd(Animator animation) {
-				// Make sure state is stable (i.e. unchanging) at the end of the animation
-				if (!state.isStable()) {
-					state = state.transitioningTo();
-				}
-
-				// Make sure the properties are correct
-				changeSize(endSize);
-				changeColor(endColor);
-
-				// Declare the animation finished
-				currentAnimator = null;
-			}
-
-			@Override
-			public void onAnimationCancel(Animator animation) {
-				// Make sure state is stable (i.e. unchanging) at the end of the animation
-				if (!state.isStable()) {
-					state = state.transitioningFrom();
-				}
+		transitionAnimator.cancel();
 
-				// Make sure the properties are correct
-				changeSize(startSize);
-				changeColor(startColor);
-
-				// Declare the animation finished
-				currentAnimator = null;
-			}
-		});
-
-		ValueAnimator transitionSize = ValueAnimator.ofInt(startSize, endSize);
-		transitionSize.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-			@Override
-			public void onAnimationUpdate(ValueAnimator animation) {
-				int size = (Integer) animation.getAnimatedValue();
-				changeSize(size);
-			}
-		});
-
-		ValueAnimator transitionColor = ValueAnimator.ofFloat(0f, 1f);
-		transitionColor.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-			@Override
-			public void onAnimationUpdate(ValueAnimator animation) {
-				float mixValue = (float) animation.getAnimatedValue();
-				changeColor(ColorHelper.blendColors(startColor, endColor, mixValue));
-			}
-		});
+		transitionTarget = target;
+		transitionStartSizePx = startSize;
+		transitionEndSizePx = endSize;
+		transitionStartColor = startColor;
+		transitionEndColor = endColor;
 
-		currentAnimator.playTogether(transitionSize, transitionColor);
-		currentAnimator.start();
+		transitionAnimator.setDuration(duration);
+		transitionAnimator.start();
 	}
 
 	/**
-	 * Utility for updating the size of the Dot and reflecting the change in the UI.
+	 * Utility for updating the drawn size of the Dot and reflecting the change in the UI. Only the
+	 * drawn circle changes, so the Dot is invalidated but not laid out again.
 	 *
 	 * @param newSizePx
 	 * 		the desired size, measured in pixels
 	 */
-	private void changeSize(final int newSizePx) {
-		shape.setIntrinsicWidth(newSizePx);
-		shape.setIntrinsicHeight(newSizePx);
-		drawableHolder.setImageDrawable(null); // Forces ImageView to update drawable
-		drawableHolder.setImageDrawable(shape);
+	private void changeSize(final float newSizePx) {
+		if (currentDiameterPx != newSizePx) {
+			currentDiameterPx = newSizePx;
+			invalidate();
+		}
 	}
 
 	/**
@@ -396,7 +465,10 @@ public final class Dot extends RelativeLayout {
 	 * 		the desired color, as an ARGB hex code
 	 */
 	private void changeColor(final int newColor) {
-		shape.getPaint().setColor(newColor);
+		if (paint.getColor() != newColor) {
+			paint.setColor(newColor);
+			invalidate();
+		}
 	}
 
 	/**
@@ -415,7 +487,7 @@ public final class Dot extends RelativeLayout {
 		}
 
 		this.inactiveDiameterPx = inactiveDiameterPx;
-		reflectParametersInView();
+		reflectParametersInView(true);
 		return this;
 	}
 
@@ -462,7 +534,7 @@ public final class Dot extends RelativeLayout {
 		}
 
 		this.activeDiameterPx = activeDiameterPx;
-		reflectParametersInView();
+		reflectParametersInView(true);
 		return this;
 	}
 
@@ -503,7 +575,7 @@ public final class Dot extends RelativeLayout {
 	 */
 	public Dot setInactiveColor(final int inactiveColor) {
 		this.inactiveColor = inactiveColor;
-		reflectParametersInView();
+		reflectParametersInView(false);
 		return this;
 	}
 
@@ -524,7 +596,7 @@ public final class Dot extends RelativeLayout {
 	 */
 	public Dot setActiveColor(final int activeColor) {
 		this.activeColor = activeColor;
-		reflectParametersInView();
+		reflectParametersInView(false);
 		return this;
 	}
 
@@ -561,6 +633,17 @@ public final class Dot extends RelativeLayout {
 		return transitionDurationMs;
 	}
 
+	/**
+	 * Returns an Editor for changing several parameters of this Dot at once. The changes are not
+	 * applied until {@link Editor#commit()} is called, and are then reflected in the UI in a single
+	 * pass. This is more efficient than calling several setters in succession.
+	 *
+	 * @return a new Editor which is initialised with the current parameters of this Dot, not null
+	 */
+	public Editor edit() {
+		return new Editor();
+	}
+
 	/**
 	 * Toggles the state of this Dot between active and inactive.
 	 *
@@ -568,9 +651,7 @@ public final class Dot extends RelativeLayout {
 	 * 		whether or not the transition should be animated
 	 */
 	public void toggleState(final boolean animate) {
-		if (currentAnimator != null) {
-			currentAnimator.cancel();
-		}
+		transitionAnimator.cancel();
 
 		if (state != State.ACTIVE) {
 			setActive(animate);
@@ -588,18 +669,21 @@ public final class Dot extends RelativeLayout {
 	 * 		whether or not the transition should be animated
 	 */
 	public void setInactive(final boolean animate) {
+		// Cancelling resets the UI, so the current appearance must be recorded first
+		final State startState = state;
+		final float startSizePx = currentDiameterPx;
+		final int startColor = paint.getColor();
+
 		// Any existing animation will conflict with this animations and must be cancelled
-		if (currentAnimator != null) {
-			currentAnimator.cancel();
-		}
+		transitionAnimator.cancel();
 
 		// Animate only if the animation is requested, is necessary, and will actually display
 		final boolean shouldAnimate =
-				animate && (state != State.INACTIVE) && (transitionDurationMs > 0);
+				animate && (startState != State.INACTIVE) && (transitionDurationMs > 0);
 
 		if (shouldAnimate) {
-			animateDotChange(activeDiameterPx, inactiveDiameterPx, activeColor, inactiveColor,
-					transitionDurationMs);
+			animateDotChange(State.INACTIVE, startSizePx, inactiveDiameterPx, startColor,
+					inactiveColor, transitionDurationMs);
 		} else {
 			// The UI must still be changed, just without animations
 			changeSize(inactiveDiameterPx);
@@ -615,18 +699,20 @@ public final class Dot extends RelativeLayout {
 	 * 		whether or not the transition should be animated
 	 */
 	public void setActive(final boolean animate) {
+		// Cancelling resets the UI, so the current appearance must be recorded first
+		final State startState = state;
+		final float startSizePx = currentDiameterPx;
+		final int startColor = paint.getColor();
+
 		// Any existing animation will conflict with this animations and must be cancelled
-		if (currentAnimator != null) {
-			currentAnimator.cancel();
-		}
+		transitionAnimator.cancel();
 
 		// Animate only if the animation is requested, is necessary, and will actually display
 		final boolean shouldAnimate =
-				animate && (state != State.ACTIVE) && (transitionDurationMs > 0);
-
+				animate && (startState != State.ACTIVE) && (transitionDurationMs > 0);
 
 		if (shouldAnimate) {
-			animateDotChange(inactiveDiameterPx, activeDiameterPx, inactiveColor, activeColor,
+			animateDotChange(State.ACTIVE, startSizePx, activeDiameterPx, startColor, activeColor,
 					transitionDurationMs);
 		} else {
 			// The UI must still be changed, just without animations
@@ -636,6 +722,34 @@ public final class Dot extends RelativeLayout {
 		}
 	}
 
+	/**
+	 * Shows this Dot part way between inactive and active, for example to follow a scroll gesture.
+	 * Any current animation is cancelled and the UI is updated immediately. A fraction of 0 or
+	 * less makes this Dot inactive, and a fraction of 1 or more makes this Dot active. Any other
+	 * fraction leaves this Dot transitioning towards active, so a subsequent call to {@link
+	 * #setActive(boolean)} or {@link #setInactive(boolean)} completes the transition.
+	 *
+	 * @param fraction
+	 * 		how far this Dot is from inactive (0) towards active (1)
+	 */
+	public void setActiveFraction(final float fraction) {
+		transitionAnimator.cancel();
+
+		if (fraction <= 0) {
+			state = State.INACTIVE;
+			changeSize(inactiveDiameterPx);
+			changeColor(inactiveColor);
+		} else if (fraction >= 1) {
+			state = State.ACTIVE;
+			changeSize(activeDiameterPx);
+			changeColor(activeColor);
+		} else {
+			state = State.TRANSITIONING_TO_ACTIVE;
+			changeSize(inactiveDiameterPx + (activeDiameterPx - inactiveDiameterPx) * fraction);
+			changeColor(ColorHelper.blendColors(inactiveColor, activeColor, fraction));
+		}
+	}
+
 	/**
 	 * Returns the current state of this Dot. This method exists for testing purposes only.
 	 *
@@ -653,7 +767,7 @@ public final class Dot extends RelativeLayout {
 	 * @return the current diameter, measured in pixels
 	 */
 	protected int getCurrentDiameter() {
-		return shape.getIntrinsicHeight();
+		return Math.round(currentDiameterPx);
 	}
 
 	/**
@@ -663,7 +777,7 @@ public final class Dot extends RelativeLayout {
 	 * @return the current color, as an ARGB hex code
 	 */
 	protected int getCurrentColor() {
-		return shape.getPaint().getColor();
+		return paint.getColor();
 	}
 
 	/**
@@ -721,6 +835,138 @@ public final class Dot extends RelativeLayout {
 		return DEFAULT_INITIALLY_ACTIVE;
 	}
 
+	/**
+	 * Accumulates changes to the parameters of a Dot, and applies them all at once when committed.
+	 * Each setter validates its argument immediately, so an invalid value never reaches the Dot.
+	 */
+	public final class Editor {
+		/**
+		 * The pending inactive diameter, measured in pixels.
+		 */
+		private int inactiveDiameterPx = Dot.this.inactiveDiameterPx;
+
+		/**
+		 * The pending active diameter, measured in pixels.
+		 */
+		private int activeDiameterPx = Dot.this.activeDiameterPx;
+
+		/**
+		 * The pending inactive color, as an ARGB hex code.
+		 */
+		private int inactiveColor = Dot.this.inactiveColor;
+
+		/**
+		 * The pending active color, as an ARGB hex code.
+		 */
+		private int activeColor = Dot.this.activeColor;
+
+		/**
+		 * The pending transition duration, measured in milliseconds.
+		 */
+		private int transitionDurationMs = Dot.this.transitionDurationMs;
+
+		/**
+		 * Constructs a new Editor instance. Use {@link Dot#edit()} to obtain an Editor.
+		 */
+		private Editor() {}
+
+		/**
+		 * Sets the inactive diameter to apply when this Editor is committed.
+		 *
+		 * @param inactiveDiameterPx
+		 * 		the diameter to use for the Dot when inactive, measured in pixels, not less than 0
+		 * @return this Editor
+		 * @throws IllegalArgumentException
+		 * 		if {@code inactiveDiameterPx} is less than 0
+		 */
+		public Editor setInactiveDiameterPx(final int inactiveDiameterPx) {
+			if (inactiveDiameterPx < 0) {
+				throw new IllegalArgumentException("inactiveDiameterPx cannot be less than 0");
+			}
+
+			this.inactiveDiameterPx = inactiveDiameterPx;
+			return this;
+		}
+
+		/**
+		 * Sets the active diameter to apply when this Editor is committed.
+		 *
+		 * @param activeDiameterPx
+		 * 		the diameter to use for the Dot when active, measured in pixels, not less than 0
+		 * @return this Editor
+		 * @throws IllegalArgumentException
+		 * 		if {@code activeDiameterPx} is less than 0
+		 */
+		public Editor setActiveDiameterPx(final int activeDiameterPx) {
+			if (activeDiameterPx < 0) {
+				throw new IllegalArgumentException("activeDiameterPx cannot be less than 0");
+			}
+
+			this.activeDiameterPx = activeDiameterPx;
+			return this;
+		}
+
+		/**
+		 * Sets the inactive color to apply when this Editor is committed.
+		 *
+		 * @param inactiveColor
+		 * 		the color to use for the Dot when inactive, as an ARGB hex code
+		 * @return this Editor
+		 */
+		public Editor setInactiveColor(final int inactiveColor) {
+			this.inactiveColor = inactiveColor;
+			return this;
+		}
+
+		/**
+		 * Sets the active color to apply when this Editor is committed.
+		 *
+		 * @param activeColor
+		 * 		the color to use for the Dot when active, as an ARGB hex code
+		 * @return this Editor
+		 */
+		public Editor setActiveColor(final int activeColor) {
+			this.activeColor = activeColor;
+			return this;
+		}
+
+		/**
+		 * Sets the transition duration to apply when this Editor is committed.
+		 *
+		 * @param transitionDurationMs
+		 * 		the length to use for the animations, measured in milliseconds, not less than 0
+		 * @return this Editor
+		 * @throws IllegalArgumentException
+		 * 		if {@code transitionDurationMs} is less than 0
+		 */
+		public Editor setTransitionDuration(final int transitionDurationMs) {
+			if (transitionDurationMs < 0) {
+				throw new IllegalArgumentException("transitionDurationMs cannot be less than 0");
+			}
+
+			this.transitionDurationMs = transitionDurationMs;
+			return this;
+		}
+
+		/**
+		 * Applies all changes to the Dot and updates the UI to reflect them. The update is
+		 * instantaneous and does not trigger any animations. The Dot is only laid out again if a
+		 * diameter has changed.
+		 */
+		public void commit() {
+			final boolean boundsChanged = (inactiveDiameterPx != Dot.this.inactiveDiameterPx) ||
+					(activeDiameterPx != Dot.this.activeDiameterPx);
+
+			Dot.this.inactiveDiameterPx = inactiveDiameterPx;
+			Dot.this.activeDiameterPx = activeDiameterPx;
+			Dot.this.inactiveColor = inactiveColor;
+			Dot.this.activeColor = activeColor;
+			Dot.this.transitionDurationMs = transitionDurationMs;
+
+			reflectParametersInView(boundsChanged);
+		}
+	}
+
 	/**
 	 * The possible states of a Dot.
 	 */
@@ -33,9 +33,11 @@ import java.util.ArrayList;
 import static android.widget.RelativeLayout.LayoutParams.MATCH_PARENT;
 
 /**
- * Displays a set of dots to indicate the selected item in a set.
+ * Displays a set of dots to indicate the selected item in a set. When used as a {@link
+ * ScrollingSelectionIndicator}, the size and color of the dots follow the scroll position
+ * directly.
  */
-public final class DotIndicator extends RelativeLayout implements SelectionIndicator {
+public final class DotIndicator extends RelativeLayout implements ScrollingSelectionIndicator {
 	/**
 	 * Used to identify this class during debugging.
 	 */
@@ -138,6 +140,18 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 	 */
 	private final ArrayList<Dot> dots = new ArrayList<>();
 
+	/**
+	 * Dots which were removed when the number of dots decreased. They are reused before new dots
+	 * are created, so that the number of dots can change repeatedly without allocating.
+	 */
+	private final ArrayList<Dot> recycledDots = new ArrayList<>();
+
+	/**
+	 * The index of the first of the two dots currently showing a scroll position, -1 if the dots
+	 * are not currently following a scroll.
+	 */
+	private int scrolledDotIndex = -1;
+
 	/**
 	 * Constructs a new DotIndicator instance. The following default parameters are used:
 	 * <ul><li>numberOfDots: 1</li> <li>selectedDotIndex: 0</li> <li>unselectedDotDiameter: 6dp</li>
@@ -281,43 +295,137 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 		// Reset the root View and the dot Collection so that the UI can be entirely recreated
 		removeAllViews();
 		dots.clear();
+		scrolledDotIndex = -1;
 
 		// Create the dots incrementally from left to right
 		for (int i = 0; i < numberOfDots; i++) {
-			// Create a dot and set its properties
-			final Dot dot = new Dot(getContext());
-			dot.setInactiveDiameterPx(unselectedDotDiameterPx)
-					.setActiveDiameterPx(selectedDotDiameterPx)
-					.setActiveColor(selectedDotColor)
-					.setInactiveColor(unselectedDotColor)
-					.setTransitionDuration(dotTransitionDuration);
-
-
-			// Make the dot active if necessary
-			if (i == selectedDotIndex) {
-				dot.setActive(false);
-			} else {
-				dot.setInactive(false);
+			addDot(new Dot(getContext()));
+		}
+	}
+
+	/**
+	 * Adds or removes dots at the end of the indicator until the number of dots matches {@code
+	 * numberOfDots}. The remaining dots are left untouched, so any transition they are showing
+	 * continues uninterrupted. If the selected dot is removed, the last remaining dot becomes
+	 * selected.
+	 */
+	private void resizeDots() {
+		final int targetSize = Math.max(numberOfDots, 0);
+
+		while (dots.size() > targetSize) {
+			final Dot dot = dots.remove(dots.size() - 1);
+			removeView(dot);
+			recycledDots.add(dot);
+		}
+
+		// The scroll position no longer exists if its dot was removed
+		if (scrolledDotIndex >= dots.size()) {
+			scrolledDotIndex = -1;
+		}
+
+		// If the selected dot was removed, select the last remaining dot instead
+		if (selectedDotIndex >= dots.size()) {
+			selectedDotIndex = Math.max(dots.size() - 1, 0);
+
+			if (!dots.isEmpty() && scrolledDotIndex == -1) {
+				dots.get(selectedDotIndex).setActive(false);
 			}
+		}
+
+		while (dots.size() < targetSize) {
+			final boolean canRecycle = !recycledDots.isEmpty();
+			addDot(canRecycle ? recycledDots.remove(recycledDots.size() - 1) : new Dot(getContext()));
+		}
+	}
 
-			// Create the positioning parameters
-			final int maxDiameterDim = Math.max(selectedDotDiameterPx, unselectedDotDiameterPx);
-			final int startMargin = i * (spacingBetweenDotsPx + unselectedDotDiameterPx);
-			LayoutParams params = new LayoutParams(maxDiameterDim, maxDiameterDim);
-			params.setMargins(startMargin, 0, 0, 0);
+	/**
+	 * Configures a dot for the next index, and adds it to the end of the indicator.
+	 *
+	 * @param dot
+	 * 		the dot to add, not null
+	 */
+	private void addDot(final Dot dot) {
+		final int index = dots.size();
+
+		configureDot(dot);
+
+		// Make the dot active if necessary
+		if (index == selectedDotIndex) {
+			dot.setActive(false);
+		} else {
+			dot.setInactive(false);
+		}
 
-			// RTL layout support
-			if (Build.VERSION.SDK_INT >= 17) {
-				params.setMarginStart(startMargin);
+		// Position the dot and add it to the UI
+		positionDot(dot, index);
+		addView(dot);
+
+		// Keep a record of the dot for later use
+		dots.add(dot);
+	}
+
+	/**
+	 * Updates the existing dots to reflect the current member variables, without recreating them.
+	 * The selection state of each dot is unchanged.
+	 *
+	 * @param positionsChanged
+	 * 		whether or not the diameters or spacing have changed, in which case the dots are
+	 * 		positioned again
+	 */
+	private void updateDotsInPlace(final boolean positionsChanged) {
+		for (int i = 0; i < dots.size(); i++) {
+			final Dot dot = dots.get(i);
+			configureDot(dot);
+
+			// Setting the layout parameters requests a layout, so avoid it when nothing has moved
+			if (positionsChanged) {
+				positionDot(dot, i);
 			}
+		}
+	}
 
-			// Apply the positioning parameters and add the dot to the UI
-			dot.setLayoutParams(params);
-			addView(dot);
+	/**
+	 * Applies the current dot parameters to a dot in a single pass.
+	 *
+	 * @param dot
+	 * 		the dot to configure, not null
+	 */
+	private void configureDot(final Dot dot) {
+		dot.edit()
+				.setInactiveDiameterPx(unselectedDotDiameterPx)
+				.setActiveDiameterPx(selectedDotDiameterPx)
+				.setActiveColor(selectedDotColor)
+				.setInactiveColor(unselectedDotColor)
+				.setTransitionDuration(dotTransitionDuration)
+				.commit();
+	}
 
-			// Keep a record of the dot for later use
-			dots.add(i, dot);
+	/**
+	 * Sizes and positions a dot according to its index. The existing layout parameters of the dot
+	 * are reused if possible.
+	 *
+	 * @param dot
+	 * 		the dot to position, not null
+	 * @param index
+	 * 		the index of the dot, counting from zero
+	 */
+	private void positionDot(final Dot dot, final int index) {
+		// Create the positioning parameters, or update the existing ones
+		final int maxDiameterDim = Math.max(selectedDotDiameterPx, unselectedDotDiameterPx);
+		final int startMargin = index * (spacingBetweenDotsPx + unselectedDotDiameterPx);
+		final LayoutParams params = (dot.getLayoutParams() instanceof LayoutParams) ?
+				(LayoutParams) dot.getLayoutParams() : new LayoutParams(0, 0);
+		params.width = maxDiameterDim;
+		params.height = maxDiameterDim;
+		params.setMargins(startMargin, 0, 0, 0);
+
+		// RTL layout support
+		if (Build.VERSION.SDK_INT >= 17) {
+			params.setMarginStart(startMargin);
 		}
+
+		// Apply the positioning parameters
+		dot.setLayoutParams(params);
 	}
 
 	/**
@@ -327,22 +435,45 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 		reflectParametersInView();
 	}
 
+	/**
+	 * Returns an Editor for changing several parameters of this DotIndicator at once. The changes
+	 * are not applied until {@link Editor#commit()} is called, and are then applied to the
+	 * existing dots in a single pass. This is more efficient than calling several setters in
+	 * succession. For example:
+	 * <pre>{@code
+	 * indicator.edit()
+	 *         .setSelectedDotColor(Color.WHITE)
+	 *         .setUnselectedDotColor(Color.GRAY)
+	 *         .setSelectedDotDiameterDp(10)
+	 *         .commit();
+	 * }</pre>
+	 *
+	 * @return a new Editor which is initialised with the current parameters of this
+	 * DotIndicator, not null
+	 */
+	public Editor edit() {
+		return new Editor();
+	}
+
 	/**
 	 * Sets the diameter to use for the unselected dots.
 	 *
 	 * @param unselectedDotDiameterPx
-	 * 		the diameter to use, measured in pixels
+	 * 		the diameter to use, measured in pixels, not less than 0
+	 * @throws IllegalArgumentException
+	 * 		if the diameter is less than 0
 	 */
 	public void setUnselectedDotDiameterPx(final int unselectedDotDiameterPx) {
-		this.unselectedDotDiameterPx = unselectedDotDiameterPx;
-		reflectParametersInView();
+		edit().setUnselectedDotDiameterPx(unselectedDotDiameterPx).commit();
 	}
 
 	/**
 	 * Sets the diameter to use for the unselected dots.
 	 *
 	 * @param unselectedDotDiameterDp
-	 * 		the diameter to use, measured in display-independent pixels
+	 * 		the diameter to use, measured in display-independent pixels, not less than 0
+	 * @throws IllegalArgumentException
+	 * 		if the diameter is less than 0
 	 */
 	public void setUnselectedDotDiameterDp(final int unselectedDotDiameterDp) {
 		final int diameterPx = DimensionHelper.dpToPx(getContext(), unselectedDotDiameterDp);
@@ -360,18 +491,21 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 	 * Sets the diameter to use for the selected dot.
 	 *
 	 * @param selectedDotDiameterPx
-	 * 		the diameter to use, measured in pixels
+	 * 		the diameter to use, measured in pixels, not less than 0
+	 * @throws IllegalArgumentException
+	 * 		if the diameter is less than 0
 	 */
 	public void setSelectedDotDiameterPx(final int selectedDotDiameterPx) {
-		this.selectedDotDiameterPx = selectedDotDiameterPx;
-		reflectParametersInView();
+		edit().setSelectedDotDiameterPx(selectedDotDiameterPx).commit();
 	}
 
 	/**
 	 * Sets the diameter to use for the selected dot.
 	 *
 	 * @param selectedDotDiameterDp
-	 * 		the diameter to use, measured in display-independent pixels
+	 * 		the diameter to use, measured in display-independent pixels, not less than 0
+	 * @throws IllegalArgumentException
+	 * 		if the diameter is less than 0
 	 */
 	public void setSelectedDotDiameterDp(final int selectedDotDiameterDp) {
 		final int diameterPx = DimensionHelper.dpToPx(getContext(), selectedDotDiameterDp);
@@ -392,8 +526,7 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 	 * 		the color to use, as an ARGB hex code
 	 */
 	public void setUnselectedDotColor(final int unselectedDotColor) {
-		this.unselectedDotColor = unselectedDotColor;
-		reflectParametersInView();
+		edit().setUnselectedDotColor(unselectedDotColor).commit();
 	}
 
 	/**
@@ -410,8 +543,7 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 	 * 		the color to use, as an ARGB hex code
 	 */
 	public void setSelectedDotColor(final int selectedDotColor) {
-		this.selectedDotColor = selectedDotColor;
-		reflectParametersInView();
+		edit().setSelectedDotColor(selectedDotColor).commit();
 	}
 
 	/**
@@ -430,8 +562,7 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 	 * 		the spacing to use, measured in pixels
 	 */
 	public void setSpacingBetweenDotsPx(final int spacingBetweenDotsPx) {
-		this.spacingBetweenDotsPx = spacingBetweenDotsPx;
-		reflectParametersInView();
+		edit().setSpacingBetweenDotsPx(spacingBetweenDotsPx).commit();
 	}
 
 	/**
@@ -460,6 +591,16 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 
 	@Override
 	public void setSelectedItem(final int index, final boolean animate) {
+		// While following a scroll the dots already reflect the scroll position
+		if (scrolledDotIndex != -1) {
+			if (index < 0 || index >= dots.size()) {
+				throw new IndexOutOfBoundsException();
+			}
+
+			selectedDotIndex = index;
+			return;
+		}
+
 		// If there are no dots, it doesn't make sense to perform an update
 		if (dots.size() > 0) {
 			try {
@@ -483,10 +624,68 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 		return selectedDotIndex;
 	}
 
+	@Override
+	public void onSelectionScrolled(final int index, final float offset) {
+		// There is nothing to update if the dots are at rest and are not following a scroll
+		if (dots.isEmpty() || (offset == 0 && scrolledDotIndex == -1)) {
+			return;
+		}
+
+		if (index < 0 || index >= dots.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		if (offset == 0) {
+			// The scroll may come to rest on either dot (e.g. when a swipe springs back), so every
+			// other dot must become unselected
+			for (int i = 0; i < dots.size(); i++) {
+				if (i != index) {
+					dots.get(i).setActiveFraction(0f);
+				}
+			}
+
+			dots.get(index).setActiveFraction(1f);
+			selectedDotIndex = index;
+			scrolledDotIndex = -1;
+		} else {
+			// Dots which are not part of the new scroll position must become unselected
+			if (scrolledDotIndex == -1) {
+				deselectUnlessScrolled(selectedDotIndex, index);
+			} else {
+				deselectUnlessScrolled(scrolledDotIndex, index);
+				deselectUnlessScrolled(scrolledDotIndex + 1, index);
+			}
+
+			dots.get(index).setActiveFraction(1f - offset);
+
+			if (index + 1 < dots.size()) {
+				dots.get(index + 1).setActiveFraction(offset);
+			}
+
+			scrolledDotIndex = index;
+		}
+	}
+
+	/**
+	 * Makes a dot unselected, unless it is one of the two dots showing a scroll position.
+	 *
+	 * @param dotIndex
+	 * 		the index of the dot to deselect, ignored if no such dot exists
+	 * @param scrolledIndex
+	 * 		the index of the first of the two dots showing the scroll position
+	 */
+	private void deselectUnlessScrolled(final int dotIndex, final int scrolledIndex) {
+		final boolean isScrolled = (dotIndex == scrolledIndex) || (dotIndex == scrolledIndex + 1);
+
+		if (!isScrolled && dotIndex >= 0 && dotIndex < dots.size()) {
+			dots.get(dotIndex).setActiveFraction(0f);
+		}
+	}
+
 	@Override
 	public void setNumberOfItems(final int numberOfItems) {
 		numberOfDots = numberOfItems;
-		reflectParametersInView();
+		resizeDots();
 	}
 
 	@Override
@@ -496,8 +695,7 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 
 	@Override
 	public void setTransitionDuration(final int transitionDurationMs) {
-		dotTransitionDuration = transitionDurationMs;
-		reflectParametersInView();
+		edit().setTransitionDuration(transitionDurationMs).commit();
 	}
 
 	@Override
@@ -514,4 +712,185 @@ public final class DotIndicator extends RelativeLayout implements SelectionIndic
 	public boolean isVisible() {
 		return (getVisibility() == VISIBLE);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Accumulates changes to the parameters of a DotIndicator, and applies them all at once when
+	 * committed.
+	 */
+	public final class Editor {
+		/**
+		 * The pending unselected dot diameter, measured in pixels.
+		 */
+		private int unselectedDotDiameterPx = DotIndicator.this.unselectedDotDiameterPx;
+
+		/**
+		 * The pending selected dot diameter, measured in pixels.
+		 */
+		private int selectedDotDiameterPx = DotIndicator.this.selectedDotDiameterPx;
+
+		/**
+		 * The pending unselected dot color, as an ARGB hex code.
+		 */
+		private int unselectedDotColor = DotIndicator.this.unselectedDotColor;
+
+		/**
+		 * The pending selected dot color, as an ARGB hex code.
+		 */
+		private int selectedDotColor = DotIndicator.this.selectedDotColor;
+
+		/**
+		 * The pending spacing between dots, measured in pixels.
+		 */
+		private int spacingBetweenDotsPx = DotIndicator.this.spacingBetweenDotsPx;
+
+		/**
+		 * The pending transition duration, measured in milliseconds.
+		 */
+		private int dotTransitionDuration = DotIndicator.this.dotTransitionDuration;
+
+		/**
+		 * Constructs a new Editor instance. Use {@link DotIndicator#edit()} to obtain an Editor.
+		 */
+		private Editor() {}
+
+		/**
+		 * Sets the diameter to use for the unselected dots.
+		 *
+		 * @param unselectedDotDiameterPx
+		 * 		the diameter to use, measured in pixels, not less than 0
+		 * @return this Editor
+		 */
+		public Editor setUnselectedDotDiameterPx(final int unselectedDotDiameterPx) {
+			this.unselectedDotDiameterPx = unselectedDotDiameterPx;
+			return this;
+		}
+
+		/**
+		 * Sets the diameter to use for the unselected dots.
+		 *
+		 * @param unselectedDotDiameterDp
+		 * 		the diameter to use, measured in display-independent pixels, not less than 0
+		 * @return this Editor
+		 */
+		public Editor setUnselectedDotDiameterDp(final int unselectedDotDiameterDp) {
+			return setUnselectedDotDiameterPx(
+					DimensionHelper.dpToPx(getContext(), unselectedDotDiameterDp));
+		}
+
+		/**
+		 * Sets the diameter to use for the selected dot.
+		 *
+		 * @param selectedDotDiameterPx
+		 * 		the diameter to use, measured in pixels, not less than 0
+		 * @return this Editor
+		 */
+		public Editor setSelectedDotDiameterPx(final int selectedDotDiameterPx) {
+			this.selectedDotDiameterPx = selectedDotDiameterPx;
+			return this;
+		}
+
+		/**
+		 * Sets the diameter to use for the selected dot.
+		 *
+		 * @param selectedDotDiameterDp
+		 * 		the diameter to use, measured in display-independent pixels, not less than 0
+		 * @return this Editor
+		 */
+		public Editor setSelectedDotDiameterDp(final int selectedDotDiameterDp) {
+			return setSelectedDotDiameterPx(
+					DimensionHelper.dpToPx(getContext(), selectedDotDiameterDp));
+		}
+
+		/**
+		 * Sets the color to use for the unselected dots.
+		 *
+		 * @param unselectedDotColor
+		 * 		the color to use, as an ARGB hex code
+		 * @return this Editor
+		 */
+		public Editor setUnselectedDotColor(final int unselectedDotColor) {
+			this.unselectedDotColor = unselectedDotColor;
+			return this;
+		}
+
+		/**
+		 * Sets the color to use for the selected dot.
+		 *
+		 * @param selectedDotColor
+		 * 		the color to use, as an ARGB hex code
+		 * @return this Editor
+		 */
+		public Editor setSelectedDotColor(final int selectedDotColor) {
+			this.selectedDotColor = selectedDotColor;
+			return this;
+		}
+
+		/**
+		 * Sets the spacing between dots. See {@link DotIndicator#setSpacingBetweenDotsPx(int)}.
+		 *
+		 * @param spacingBetweenDotsPx
+		 * 		the spacing to use, measured in pixels
+		 * @return this Editor
+		 */
+		public Editor setSpacingBetweenDotsPx(final int spacingBetweenDotsPx) {
+			this.spacingBetweenDotsPx = spacingBetweenDotsPx;
+			return this;
+		}
+
+		/**
+		 * Sets the spacing between dots. See {@link DotIndicator#setSpacingBetweenDotsPx(int)}.
+		 *
+		 * @param spacingBetweenDotsDp
+		 * 		the spacing to use, measured in display-independent pixels
+		 * @return this Editor
+		 */
+		public Editor setSpacingBetweenDotsDp(final int spacingBetweenDotsDp) {
+			return setSpacingBetweenDotsPx(
+					DimensionHelper.dpToPx(getContext(), spacingBetweenDotsDp));
+		}
+
+		/**
+		 * Sets the duration to use when animating dots between selected and unselected.
+		 *
+		 * @param transitionDurationMs
+		 * 		the duration to use, measured in milliseconds, not less than 0
+		 * @return this Editor
+		 */
+		public Editor setTransitionDuration(final int transitionDurationMs) {
+			dotTransitionDuration = transitionDurationMs;
+			return this;
+		}
+
+		/**
+		 * Applies all changes to the DotIndicator, and updates the existing dots in place to
+		 * reflect them. The dots are only positioned again if a diameter or the spacing has
+		 * changed. If any pending value is invalid, then no changes are applied.
+		 *
+		 * @throws IllegalArgumentException
+		 * 		if either diameter or the transition duration is less than 0
+		 */
+		public void commit() {
+			if (unselectedDotDiameterPx < 0) {
+				throw new IllegalArgumentException("unselectedDotDiameterPx cannot be less than 0");
+			} else if (selectedDotDiameterPx < 0) {
+				throw new IllegalArgumentException("selectedDotDiameterPx cannot be less than 0");
+			} else if (dotTransitionDuration < 0) {
+				throw new IllegalArgumentException("transitionDurationMs cannot be less than 0");
+			}
+
+			final boolean positionsChanged =
+					(unselectedDotDiameterPx != DotIndicator.this.unselectedDotDiameterPx) ||
+					(selectedDotDiameterPx != DotIndicator.this.selectedDotDiameterPx) ||
+					(spacingBetweenDotsPx != DotIndicator.this.spacingBetweenDotsPx);
+
+			DotIndicator.this.unselectedDotDiameterPx = unselectedDotDiameterPx;
+			DotIndicator.this.selectedDotDiameterPx = selectedDotDiameterPx;
+			DotIndicator.this.unselectedDotColor = unselectedDotColor;
+			DotIndicator.this.selectedDotColor = selectedDotColor;
+			DotIndicator.this.spacingBetweenDotsPx = spacingBetweenDotsPx;
+			DotIndicator.this.dotTransitionDuration = dotTransitionDuration;
+
+			updateDotsInPlace(positionsChanged);
+		}
+	}
+}
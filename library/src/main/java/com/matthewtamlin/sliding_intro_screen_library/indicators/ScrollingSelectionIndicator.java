@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.indicators;
+
+/**
+ * A SelectionIndicator which can follow a continuous scroll between items, rather than only
+ * jumping from one selected item to the next. The IntroActivity passes every scroll event of its
+ * pages to a ScrollingSelectionIndicator, so that the indicator tracks the finger exactly instead
+ * of animating after each page change.
+ * <p/>
+ * While the scroll offset is non-zero the indicator is drawn from the scroll position alone, and
+ * calls to {@link #setSelectedItem(int, boolean)} only record the selected index. When the scroll
+ * comes to rest (i.e. the offset returns to 0) the item at the supplied index becomes selected,
+ * and the indicator behaves as a normal SelectionIndicator until the next scroll begins.
+ */
+public interface ScrollingSelectionIndicator extends SelectionIndicator {
+	/**
+	 * Updates the UI to show a position part way between two items. The UI is updated immediately
+	 * and no animations are played.
+	 *
+	 * @param index
+	 * 		the index of the first of the two items, counting from zero
+	 * @param offset
+	 * 		how far the selection has moved from the item at {@code index} towards the next item,
+	 * 		from 0 (inclusive) to 1 (exclusive)
+	 */
+	void onSelectionScrolled(int index, float offset);
+}
@@ -0,0 +1,586 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.transformers;
+
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+/**
+ * A ViewPager transformer which animates the properties of the Views in each page according to
+ * the scroll position of the page. The animation is declared as a set of keyframes, where each
+ * keyframe specifies the value of one property of the Views with one resource ID at one scroll
+ * position. Between keyframes the value is interpolated using the {@link Easing} of the later
+ * keyframe, and beyond the first and last keyframes the value is held constant.
+ * <p/>
+ * The scroll position of a page is 0 when the page is selected, -1 when the page is one page to the
+ * left of the selected position, and 1 when the page is one page to the right. For example, the
+ * following transformer fades in the Views with the resource ID {@code R.id.title} as they scroll
+ * into the center, and fades them out again as they scroll away:
+ * <pre>{@code
+ * new KeyframeTransformer()
+ *         .withKeyframe(R.id.title, Property.ALPHA, -1, 0)
+ *         .withKeyframe(R.id.title, Property.ALPHA, 0, 1, Easing.EASE_OUT)
+ *         .withKeyframe(R.id.title, Property.ALPHA, 1, 0, Easing.EASE_IN);
+ * }</pre>
+ * The keyframes are compiled into flat arrays the next time a page is transformed after they
+ * change, so transforming a page does not perform any hash lookups or allocate any objects. It is
+ * recommended that the keyframes not be changed while the Views are being transformed.
+ * <p/>
+ * The animated Views can also be rendered into hardware layers while the pages are moving, see
+ * {@link #withLayerPromotion(LayerPromotion)}.
+ */
+public class KeyframeTransformer implements ScrollStateAwareTransformer {
+	/**
+	 * Orders keyframes by resource ID, then property, then position, so that the keyframes of each
+	 * track are contiguous and sorted.
+	 */
+	private static final Comparator<Keyframe> KEYFRAME_ORDER = new Comparator<Keyframe>() {
+		@Override
+		public int compare(final Keyframe lhs, final Keyframe rhs) {
+			if (lhs.id != rhs.id) {
+				return lhs.id < rhs.id ? -1 : 1;
+			} else if (lhs.property != rhs.property) {
+				return lhs.property.compareTo(rhs.property);
+			} else {
+				return Float.compare(lhs.position, rhs.position);
+			}
+		}
+	};
+
+	/**
+	 * The declared keyframes, in no particular order.
+	 */
+	private final ArrayList<Keyframe> keyframes = new ArrayList<>();
+
+	/**
+	 * Holds a ChildViewCache for the root View of each recently transformed page.
+	 */
+	private final PageViewCaches savedViews = new PageViewCaches();
+
+	/**
+	 * Switches the animated Views to hardware layers while the pages are moving.
+	 */
+	private final LayerPromoter layerPromoter = new LayerPromoter();
+
+	/**
+	 * Whether or not the keyframes have changed since they were last compiled.
+	 */
+	private boolean compiledKeyframesStale = true;
+
+	/**
+	 * Incremented whenever the tracks are compiled, so that each ChildViewCache knows to look up
+	 * its Views again.
+	 */
+	private int compiledVersion = 0;
+
+	// Compiled tracks. A track is the keyframes of one property of the Views with one resource ID.
+
+	/**
+	 * The number of compiled tracks.
+	 */
+	private int trackCount = 0;
+
+	/**
+	 * The resource ID of the Views animated by each track.
+	 */
+	private int[] trackIds = new int[0];
+
+	/**
+	 * The property animated by each track.
+	 */
+	private Property[] trackProperties = new Property[0];
+
+	/**
+	 * The index of the first keyframe of each track in the keyframe arrays.
+	 */
+	private int[] trackStarts = new int[0];
+
+	/**
+	 * The index after the last keyframe of each track in the keyframe arrays.
+	 */
+	private int[] trackEnds = new int[0];
+
+	/**
+	 * The scroll position of each compiled keyframe.
+	 */
+	private float[] keyframePositions = new float[0];
+
+	/**
+	 * The property value of each compiled keyframe.
+	 */
+	private float[] keyframeValues = new float[0];
+
+	/**
+	 * The easing of each compiled keyframe, applied between the previous keyframe and this one.
+	 */
+	private Easing[] keyframeEasings = new Easing[0];
+
+	@Override
+	public void transformPage(final View page, final float position) {
+		if (compiledKeyframesStale) {
+			compileKeyframes();
+		}
+
+		final ChildViewCache childViews = savedViews.get(page);
+		childViews.bind(trackIds, trackCount, compiledVersion);
+
+		// Pages which are not visible do not benefit from layers
+		final boolean pageIsVisible = (-1f < position && position < 1f);
+
+		for (int track = 0; track < trackCount; track++) {
+			final View view = childViews.getChildView(track);
+
+			if (view != null) {
+				final float value = evaluateTrack(track, position);
+				final Property property = trackProperties[track];
+
+				if (property.get(view) != value) {
+					property.set(view, value);
+				}
+
+				if (pageIsVisible) {
+					layerPromoter.promoteTransformedView(view);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void onPageScrollStateChanged(final int state) {
+		layerPromoter.onPageScrollStateChanged(state);
+	}
+
+	/**
+	 * Declares a keyframe with linear easing. See {@link #withKeyframe(int, Property, float,
+	 * float, Easing)}.
+	 *
+	 * @param id
+	 * 		the resource ID of the Views to animate
+	 * @param property
+	 * 		the property to animate, not null
+	 * @param position
+	 * 		the scroll position of the keyframe
+	 * @param value
+	 * 		the value of the property at the scroll position
+	 * @return this KeyframeTransformer
+	 * @throws IllegalArgumentException
+	 * 		if {@code property} is null
+	 */
+	public KeyframeTransformer withKeyframe(final int id, final Property property,
+			final float position, final float value) {
+		return withKeyframe(id, property, position, value, Easing.LINEAR);
+	}
+
+	/**
+	 * Declares a keyframe, which sets the value of a property of the Views with a resource ID at a
+	 * scroll position. The supplied easing is used to interpolate from the previous keyframe of
+	 * the same property and resource ID to this keyframe, and is ignored if there is no previous
+	 * keyframe. Any existing keyframe for the same resource ID, property and position is replaced.
+	 *
+	 * @param id
+	 * 		the resource ID of the Views to animate
+	 * @param property
+	 * 		the property to animate, not null
+	 * @param position
+	 * 		the scroll position of the keyframe
+	 * @param value
+	 * 		the value of the property at the scroll position
+	 * @param easing
+	 * 		the easing to use when approaching this keyframe, not null
+	 * @return this KeyframeTransformer
+	 * @throws IllegalArgumentException
+	 * 		if {@code property} or {@code easing} is null
+	 */
+	public KeyframeTransformer withKeyframe(final int id, final Property property,
+			final float position, final float value, final Easing easing) {
+		if (property == null) {
+			throw new IllegalArgumentException("property cannot be null");
+		} else if (easing == null) {
+			throw new IllegalArgumentException("easing cannot be null");
+		}
+
+		for (int i = keyframes.size() - 1; i >= 0; i--) {
+			final Keyframe existing = keyframes.get(i);
+
+			if (existing.id == id && existing.property == property &&
+					existing.position == position) {
+				keyframes.remove(i);
+			}
+		}
+
+		keyframes.add(new Keyframe(id, property, position, value, easing));
+		compiledKeyframesStale = true;
+
+		return this;
+	}
+
+	/**
+	 * Removes all keyframes for the Views with the supplied resource ID. The properties of the
+	 * Views are left at their current values.
+	 *
+	 * @param id
+	 * 		the resource ID of the Views to stop animating
+	 * @return this KeyframeTransformer
+	 */
+	public KeyframeTransformer withoutKeyframes(final int id) {
+		for (int i = keyframes.size() - 1; i >= 0; i--) {
+			if (keyframes.get(i).id == id) {
+				keyframes.remove(i);
+			}
+		}
+
+		compiledKeyframesStale = true;
+
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of pages to cache child Views for. See {@link
+	 * MultiViewParallaxTransformer#withMaximumCachedPages(int)}.
+	 *
+	 * @param maximumCachedPages
+	 * 		the maximum number of pages to cache child Views for, at least 1
+	 * @return this KeyframeTransformer
+	 * @throws IllegalArgumentException
+	 * 		if {@code maximumCachedPages} is less than 1
+	 */
+	public KeyframeTransformer withMaximumCachedPages(final int maximumCachedPages) {
+		savedViews.setMaximumSize(maximumCachedPages);
+		return this;
+	}
+
+	/**
+	 * Sets which Views are rendered into hardware layers while the pages are moving. See {@link
+	 * MultiViewParallaxTransformer#withLayerPromotion(LayerPromotion)}. Layers are most effective
+	 * for the {@link Property#ALPHA} property, since fading a View without a layer requires it to
+	 * be redrawn into an offscreen buffer on every frame.
+	 *
+	 * @param layerPromotion
+	 * 		determines which Views are rendered into hardware layers, not null
+	 * @return this KeyframeTransformer
+	 * @throws IllegalArgumentException
+	 * 		if {@code layerPromotion} is null
+	 */
+	public KeyframeTransformer withLayerPromotion(final LayerPromotion layerPromotion) {
+		layerPromoter.setLayerPromotion(layerPromotion);
+		return this;
+	}
+
+	/**
+	 * Compiles the declared keyframes into the track and keyframe arrays.
+	 */
+	private void compileKeyframes() {
+		final ArrayList<Keyframe> sortedKeyframes = new ArrayList<>(keyframes);
+		Collections.sort(sortedKeyframes, KEYFRAME_ORDER);
+
+		final int keyframeCount = sortedKeyframes.size();
+		keyframePositions = new float[keyframeCount];
+		keyframeValues = new float[keyframeCount];
+		keyframeEasings = new Easing[keyframeCount];
+
+		// There are at most as many tracks as keyframes
+		trackIds = new int[keyframeCount];
+		trackProperties = new Property[keyframeCount];
+		trackStarts = new int[keyframeCount];
+		trackEnds = new int[keyframeCount];
+		trackCount = 0;
+
+		for (int i = 0; i < keyframeCount; i++) {
+			final Keyframe keyframe = sortedKeyframes.get(i);
+			final boolean newTrack = trackCount == 0 ||
+					trackIds[trackCount - 1] != keyframe.id ||
+					trackProperties[trackCount - 1] != keyframe.property;
+
+			if (newTrack) {
+				trackIds[trackCount] = keyframe.id;
+				trackProperties[trackCount] = keyframe.property;
+				trackStarts[trackCount] = i;
+				trackCount++;
+			}
+
+			trackEnds[trackCount - 1] = i + 1;
+			keyframePositions[i] = keyframe.position;
+			keyframeValues[i] = keyframe.value;
+			keyframeEasings[i] = keyframe.easing;
+		}
+
+		compiledKeyframesStale = false;
+		compiledVersion++;
+	}
+
+	/**
+	 * Calculates the value of a track at a scroll position.
+	 *
+	 * @param track
+	 * 		the index of the track
+	 * @param position
+	 * 		the scroll position
+	 * @return the value of the track's property
+	 */
+	private float evaluateTrack(final int track, final float position) {
+		final int start = trackStarts[track];
+		final int end = trackEnds[track];
+
+		if (position <= keyframePositions[start]) {
+			return keyframeValues[start];
+		}
+
+		for (int i = start + 1; i < end; i++) {
+			if (position <= keyframePositions[i]) {
+				final float previousPosition = keyframePositions[i - 1];
+				final float previousValue = keyframeValues[i - 1];
+				final float fraction = (position - previousPosition) /
+						(keyframePositions[i] - previousPosition);
+
+				return previousValue + (keyframeValues[i] - previousValue) *
+						keyframeEasings[i].apply(fraction);
+			}
+		}
+
+		return keyframeValues[end - 1];
+	}
+
+	/**
+	 * The properties which can be animated by a {@link KeyframeTransformer}.
+	 */
+	public enum Property {
+		/**
+		 * The X translation, measured in pixels.
+		 */
+		TRANSLATION_X {
+			@Override
+			float get(final View view) {
+				return view.getTranslationX();
+			}
+
+			@Override
+			void set(final View view, final float value) {
+				view.setTranslationX(value);
+			}
+		},
+
+		/**
+		 * The Y translation, measured in pixels.
+		 */
+		TRANSLATION_Y {
+			@Override
+			float get(final View view) {
+				return view.getTranslationY();
+			}
+
+			@Override
+			void set(final View view, final float value) {
+				view.setTranslationY(value);
+			}
+		},
+
+		/**
+		 * The opacity, from 0 (transparent) to 1 (opaque).
+		 */
+		ALPHA {
+			@Override
+			float get(final View view) {
+				return view.getAlpha();
+			}
+
+			@Override
+			void set(final View view, final float value) {
+				view.setAlpha(value);
+			}
+		},
+
+		/**
+		 * The horizontal scale, where 1 is the natural size.
+		 */
+		SCALE_X {
+			@Override
+			float get(final View view) {
+				return view.getScaleX();
+			}
+
+			@Override
+			void set(final View view, final float value) {
+				view.setScaleX(value);
+			}
+		},
+
+		/**
+		 * The vertical scale, where 1 is the natural size.
+		 */
+		SCALE_Y {
+			@Override
+			float get(final View view) {
+				return view.getScaleY();
+			}
+
+			@Override
+			void set(final View view, final float value) {
+				view.setScaleY(value);
+			}
+		},
+
+		/**
+		 * The rotation about the pivot point, measured in degrees.
+		 */
+		ROTATION {
+			@Override
+			float get(final View view) {
+				return view.getRotation();
+			}
+
+			@Override
+			void set(final View view, final float value) {
+				view.setRotation(value);
+			}
+		};
+
+		/**
+		 * Returns the current value of this property.
+		 *
+		 * @param view
+		 * 		the View to get the value from, not null
+		 * @return the value
+		 */
+		abstract float get(View view);
+
+		/**
+		 * Sets the value of this property.
+		 *
+		 * @param view
+		 * 		the View to set the value on, not null
+		 * @param value
+		 * 		the value to set
+		 */
+		abstract void set(View view, float value);
+	}
+
+	/**
+	 * The easing curves which can be used to interpolate between keyframes.
+	 */
+	public enum Easing {
+		/**
+		 * Changes at a constant rate.
+		 */
+		LINEAR {
+			@Override
+			float apply(final float fraction) {
+				return fraction;
+			}
+		},
+
+		/**
+		 * Starts slowly and accelerates.
+		 */
+		EASE_IN {
+			@Override
+			float apply(final float fraction) {
+				return fraction * fraction;
+			}
+		},
+
+		/**
+		 * Starts quickly and decelerates.
+		 */
+		EASE_OUT {
+			@Override
+			float apply(final float fraction) {
+				final float remaining = 1 - fraction;
+				return 1 - remaining * remaining;
+			}
+		},
+
+		/**
+		 * Starts slowly, accelerates through the middle, and then decelerates.
+		 */
+		EASE_IN_OUT {
+			@Override
+			float apply(final float fraction) {
+				if (fraction < 0.5f) {
+					return 2 * fraction * fraction;
+				} else {
+					final float remaining = 1 - fraction;
+					return 1 - 2 * remaining * remaining;
+				}
+			}
+		};
+
+		/**
+		 * Maps the linear progress between two keyframes to the eased progress.
+		 *
+		 * @param fraction
+		 * 		the linear progress, from 0 to 1
+		 * @return the eased progress, from 0 to 1
+		 */
+		abstract float apply(float fraction);
+	}
+
+	/**
+	 * A declared keyframe.
+	 */
+	private static final class Keyframe {
+		/**
+		 * The resource ID of the Views to animate.
+		 */
+		private final int id;
+
+		/**
+		 * The property to animate.
+		 */
+		private final Property property;
+
+		/**
+		 * The scroll position of the keyframe.
+		 */
+		private final float position;
+
+		/**
+		 * The value of the property at the scroll position.
+		 */
+		private final float value;
+
+		/**
+		 * The easing to use when approaching this keyframe.
+		 */
+		private final Easing easing;
+
+		/**
+		 * Constructs a new Keyframe instance.
+		 *
+		 * @param id
+		 * 		the resource ID of the Views to animate
+		 * @param property
+		 * 		the property to animate, not null
+		 * @param position
+		 * 		the scroll position of the keyframe
+		 * @param value
+		 * 		the value of the property at the scroll position
+		 * @param easing
+		 * 		the easing to use when approaching this keyframe, not null
+		 */
+		private Keyframe(final int id, final Property property, final float position,
+				final float value, final Easing easing) {
+			this.id = id;
+			this.property = property;
+			this.position = position;
+			this.value = value;
+			this.easing = easing;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.transformers;
+
+import android.support.v4.view.ViewPager;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Switches Views to hardware layers while the pages of a ViewPager are moving, and restores their
+ * original layer types when the pages come to rest.
+ */
+final class LayerPromoter {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[LayerPromoter]";
+
+	/**
+	 * The Views which have been switched to hardware layers.
+	 */
+	private final ArrayList<View> promotedViews = new ArrayList<>();
+
+	/**
+	 * The layer type of each promoted View before it was promoted, at the same index.
+	 */
+	private int[] originalLayerTypes = new int[8];
+
+	/**
+	 * Determines which Views are promoted.
+	 */
+	private LayerPromotion layerPromotion = LayerPromotion.NONE;
+
+	/**
+	 * Whether or not the pages are currently moving.
+	 */
+	private boolean scrolling = false;
+
+	/**
+	 * Sets which Views are promoted. Any currently promoted Views are restored.
+	 *
+	 * @param layerPromotion
+	 * 		determines which Views are promoted, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code layerPromotion} is null
+	 */
+	public void setLayerPromotion(final LayerPromotion layerPromotion) {
+		if (layerPromotion == null) {
+			throw new IllegalArgumentException("layerPromotion cannot be null");
+		}
+
+		restoreAll();
+		this.layerPromotion = layerPromotion;
+	}
+
+	/**
+	 * @return which Views are promoted, not null
+	 */
+	public LayerPromotion getLayerPromotion() {
+		return layerPromotion;
+	}
+
+	/**
+	 * Records the scroll state of the ViewPager, and restores all promoted Views when the pages
+	 * come to rest.
+	 *
+	 * @param state
+	 * 		the new scroll state of the ViewPager
+	 */
+	public void onPageScrollStateChanged(final int state) {
+		scrolling = (state != ViewPager.SCROLL_STATE_IDLE);
+
+		if (!scrolling) {
+			restoreAll();
+		}
+	}
+
+	/**
+	 * Promotes a transformed View, if transformed Views should currently be promoted.
+	 *
+	 * @param view
+	 * 		the transformed View, null has no effect
+	 */
+	public void promoteTransformedView(final View view) {
+		if (scrolling && layerPromotion == LayerPromotion.TRANSFORMED_VIEWS) {
+			promote(view);
+		}
+	}
+
+	/**
+	 * Switches a View to a hardware layer, unless it already has one.
+	 *
+	 * @param view
+	 * 		the View to promote, null has no effect
+	 */
+	private void promote(final View view) {
+		if (view == null || view.getLayerType() == View.LAYER_TYPE_HARDWARE) {
+			return;
+		}
+
+		final int index = promotedViews.size();
+
+		if (index == originalLayerTypes.length) {
+			originalLayerTypes = Arrays.copyOf(originalLayerTypes, index * 2);
+		}
+
+		originalLayerTypes[index] = view.getLayerType();
+		promotedViews.add(view);
+		view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+	}
+
+	/**
+	 * Restores the original layer type of every promoted View.
+	 */
+	private void restoreAll() {
+		for (int i = 0; i < promotedViews.size(); i++) {
+			promotedViews.get(i).setLayerType(originalLayerTypes[i], null);
+		}
+
+		promotedViews.clear();
+	}
+}
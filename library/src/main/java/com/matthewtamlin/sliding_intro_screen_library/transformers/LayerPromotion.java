@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.transformers;
+
+/**
+ * Determines which Views a transformer renders into hardware layers while the pages are moving.
+ * A View with a hardware layer is only re-rendered when its content changes, so moving, fading,
+ * scaling or rotating it only requires the layer to be composited. This greatly reduces the cost of
+ * transforming large or complex Views (such as images) on every frame, at the cost of the memory
+ * used by the layers. The layers are removed as soon as the pages stop moving.
+ */
+public enum LayerPromotion {
+	/**
+	 * Do not use hardware layers.
+	 */
+	NONE,
+
+	/**
+	 * Use a hardware layer for each View which is transformed. The layer of a View is reused for
+	 * every frame, since the transformer only changes properties which are applied when the layer
+	 * is composited (such as translation and alpha). Promoting the root View of each page instead
+	 * would not help, because transforming the children of a page invalidates its layer.
+	 */
+	TRANSFORMED_VIEWS
+}
@@ -16,10 +16,9 @@
 
 package com.matthewtamlin.sliding_intro_screen_library.transformers;
 
-import android.support.v4.view.ViewPager;
 import android.view.View;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
 /**
  * A ViewPager transformer which can apply parallax effects to the Views it transforms. By assigning
@@ -31,21 +30,51 @@ import java.util.HashMap;
  * then all Views with that resource ID will have a 20% parallax effect. This means that the Views
  * will appear to scroll 20% faster than views with no parallax effect.
  * <p/>
+ * The transformer can also render the transformed Views into hardware layers while the pages are
+ * moving, see {@link #withLayerPromotion(LayerPromotion)}. This requires the scroll state of the
+ * ViewPager, which the IntroActivity supplies automatically.
  */
-public class MultiViewParallaxTransformer implements ViewPager.PageTransformer {
+public class MultiViewParallaxTransformer implements ScrollStateAwareTransformer {
 	/**
-	 * Stores the parallax factors, and maps each parallax factor to the resource ID of the View(s)
-	 * it should be applied to. If a resource ID does not exist in the keyset, then Views with that
-	 * ID should have a parallax factor of 1 applied (i.e normal scrolling without parallax).
+	 * The number of parallax factors the arrays can hold until they are first enlarged.
 	 */
-	private final HashMap<Integer, Float> parallaxFactors = new HashMap<>();
+	private static final int INITIAL_CAPACITY = 4;
 
 	/**
-	 * Maps the root View of each page to a ChildViewCache. This allows the child Views of each page
-	 * to be efficiently accessed, which is necessary considering how frequently the Views are
-	 * accessed when the transformer is in use.
+	 * The resource IDs of the Views to apply parallax factors to. Only the first {@code
+	 * parallaxViewCount} elements are used. If a resource ID is not in the array, then Views with
+	 * that ID have a parallax factor of 1 applied (i.e normal scrolling without parallax).
 	 */
-	private final HashMap<View, ChildViewCache> savedViews = new HashMap<>();
+	private int[] parallaxIds = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The parallax factor to apply to the Views with each resource ID in {@code parallaxIds}, at
+	 * the same index.
+	 */
+	private float[] parallaxFactors = new float[INITIAL_CAPACITY];
+
+	/**
+	 * The number of parallax factors which have been assigned.
+	 */
+	private int parallaxViewCount = 0;
+
+	/**
+	 * Incremented whenever the resource IDs change, so that each ChildViewCache knows to look up
+	 * its Views again.
+	 */
+	private int parallaxIdsVersion = 0;
+
+	/**
+	 * Holds a ChildViewCache for the root View of each recently transformed page. This allows the
+	 * child Views of each page to be efficiently accessed, which is necessary considering how
+	 * frequently the Views are accessed when the transformer is in use.
+	 */
+	private final PageViewCaches savedViews = new PageViewCaches();
+
+	/**
+	 * Switches the transformed Views to hardware layers while the pages are moving.
+	 */
+	private final LayerPromoter layerPromoter = new LayerPromoter();
 
 	@Override
 	public void transformPage(final View page, final float position) {
@@ -56,29 +85,29 @@ public class MultiViewParallaxTransformer implements ViewPager.PageTransformer {
 		if (pageIsSelected) {
 			page.invalidate(); // Make sure page displays correctly
 		} else if (pageIsScrolling) {
-			// For every resource ID which has been nominated for a parallax factor
-			for (final Integer id : parallaxFactors.keySet()) {
-				// Check to see if the current page has a View with that resource ID
-				final View viewToTransform = getViewToTransform(page, id);
-
-				// If the parallax factor is applicable, apply the parallax effect
-				if (viewToTransform != null) {
-					final float parallaxFactor = parallaxFactors.get(id);
+			// Find the Views of this page which have been nominated for a parallax factor
+			final ChildViewCache childViews = getChildViews(page);
 
-					// The displacement which is automatically applied by the transformer superclass
-					final float nominalDisplacement = (page.getWidth() / 2) * position;
+			// The displacement which is automatically applied by the transformer superclass
+			final float nominalDisplacement = (page.getWidth() / 2) * position;
 
-					// Subtract 1 from the parallax factor because the View is already moved the
-					// nominal displacement by the transformer superclass
-					final float modifiedDisplacement = nominalDisplacement * (parallaxFactor - 1);
+			for (int i = 0; i < parallaxViewCount; i++) {
+				// Subtract 1 from the parallax factor because the View is already moved the
+				// nominal displacement by the transformer superclass
+				final float modifiedDisplacement = nominalDisplacement * (parallaxFactors[i] - 1);
 
-					// Apply the extra displacement using the X translation method
-					viewToTransform.setTranslationX(modifiedDisplacement);
-				}
+				// Apply the extra displacement using the X translation method
+				childViews.setTranslationX(i, modifiedDisplacement);
+				layerPromoter.promoteTransformedView(childViews.getChildView(i));
 			}
 		}
 	}
 
+	@Override
+	public void onPageScrollStateChanged(final int state) {
+		layerPromoter.onPageScrollStateChanged(state);
+	}
+
 	/**
 	 * Applies a parallax effect to all Views with the provided resource ID. The parallax factor
 	 * determines how fast the affected views are translated, relative to a View with no parallax
@@ -102,7 +131,24 @@ public class MultiViewParallaxTransformer implements ViewPager.PageTransformer {
 	 * @return this MultiViewParallaxTransformer
 	 */
 	public MultiViewParallaxTransformer withParallaxView(final int id, final float parallaxFactor) {
-		parallaxFactors.put(id, parallaxFactor);
+		final int index = indexOfParallaxId(id);
+
+		if (index != -1) {
+			// The Views are unchanged so the caches remain valid
+			parallaxFactors[index] = parallaxFactor;
+			return this;
+		}
+
+		if (parallaxViewCount == parallaxIds.length) {
+			parallaxIds = Arrays.copyOf(parallaxIds, parallaxViewCount * 2);
+			parallaxFactors = Arrays.copyOf(parallaxFactors, parallaxViewCount * 2);
+		}
+
+		parallaxIds[parallaxViewCount] = id;
+		parallaxFactors[parallaxViewCount] = parallaxFactor;
+		parallaxViewCount++;
+		parallaxIdsVersion++;
+
 		return this;
 	}
 
@@ -115,42 +161,102 @@ public class MultiViewParallaxTransformer implements ViewPager.PageTransformer {
 	 * @return this MultiViewParallaxTransformer
 	 */
 	public MultiViewParallaxTransformer withoutParallaxView(final int id) {
-		parallaxFactors.remove(id);
+		final int index = indexOfParallaxId(id);
+
+		if (index != -1) {
+			final int trailingCount = parallaxViewCount - index - 1;
+			System.arraycopy(parallaxIds, index + 1, parallaxIds, index, trailingCount);
+			System.arraycopy(parallaxFactors, index + 1, parallaxFactors, index, trailingCount);
+			parallaxViewCount--;
+			parallaxIdsVersion++;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of pages to cache child Views for. The cached Views of the least
+	 * recently transformed pages are released when the maximum is exceeded, and the cached Views of
+	 * a page are also released when the page is detached from the window (API 12 and above). The
+	 * maximum should be at least the number of pages the ViewPager keeps attached, which is {@code
+	 * 2 * offscreenPageLimit + 1}. The default maximum is 6.
+	 *
+	 * @param maximumCachedPages
+	 * 		the maximum number of pages to cache child Views for, at least 1
+	 * @return this MultiViewParallaxTransformer
+	 * @throws IllegalArgumentException
+	 * 		if {@code maximumCachedPages} is less than 1
+	 */
+	public MultiViewParallaxTransformer withMaximumCachedPages(final int maximumCachedPages) {
+		savedViews.setMaximumSize(maximumCachedPages);
 		return this;
 	}
 
 	/**
-	 * Returns a reference to the child View of {@code parentView} with the resource ID of {@code
-	 * id}. Using this method is more efficient that frequent calls to {@link
+	 * Sets which Views are rendered into hardware layers while the pages are moving. Moving a View
+	 * which has a hardware layer only requires the layer to be composited, rather than the View to
+	 * be redrawn, which greatly reduces the cost of moving large Views such as images. The layers
+	 * are removed when the pages stop moving. The default is {@link LayerPromotion#NONE}.
+	 *
+	 * @param layerPromotion
+	 * 		determines which Views are rendered into hardware layers, not null
+	 * @return this MultiViewParallaxTransformer
+	 * @throws IllegalArgumentException
+	 * 		if {@code layerPromotion} is null
+	 */
+	public MultiViewParallaxTransformer withLayerPromotion(final LayerPromotion layerPromotion) {
+		layerPromoter.setLayerPromotion(layerPromotion);
+		return this;
+	}
+
+	/**
+	 * Returns the position of a resource ID in {@code parallaxIds}.
+	 *
+	 * @param id
+	 * 		the resource ID to find
+	 * @return the index of the resource ID, -1 if it has not been assigned a parallax factor
+	 */
+	private int indexOfParallaxId(final int id) {
+		for (int i = 0; i < parallaxViewCount; i++) {
+			if (parallaxIds[i] == id) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the cache of the child Views of {@code rootView}, with one View for each resource ID
+	 * in {@code parallaxIds}. Using this method is more efficient that frequent calls to {@link
 	 * View#findViewById(int)}.
 	 *
 	 * @param rootView
-	 * 		the View to get the child view from, not null
-	 * @param id
-	 * 		the resource ID of the child View
-	 * @return the child view of {@code parentView} with the resource ID of {@code id}, null if no
-	 * such child view exists
-	 * @throws IllegalArgumentException if {@code rootView} is null
+	 * 		the View to get the child views from, not null
+	 * @return the cache of the child Views, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code rootView} is null
 	 */
-	private View getViewToTransform(final View rootView, final int id) {
+	private ChildViewCache getChildViews(final View rootView) {
 		if (rootView == null) {
 			throw new IllegalArgumentException("rootView cannot be null");
 		}
 
-		// Create a new ChildViewCache if none exists for the root View
-		if (!savedViews.containsKey(rootView)) {
-			savedViews.put(rootView, new ChildViewCache(rootView));
-		}
+		final ChildViewCache cache = savedViews.get(rootView);
 
-		// Use the ChildViewCache to efficiently access the requested View
-		return savedViews.get(rootView).getChildView(id);
-	}
+		// Only looks up the Views if the resource IDs have changed since the last call
+		cache.bind(parallaxIds, parallaxViewCount, parallaxIdsVersion);
 
+		return cache;
+	}
 }
 
 /**
  * A cache for efficiently retrieving the children of a single parent View. Using this class is more
- * efficient that frequently calling {@link View#findViewById(int)}.
+ * efficient that frequently calling {@link View#findViewById(int)}. The cache holds the children
+ * with a supplied list of resource IDs in an array, so that they can be accessed by index without
+ * hashing or boxing. The X translation most recently applied to each child is also recorded, so
+ * that unchanged translations are not reapplied.
  */
 class ChildViewCache {
 	/**
@@ -159,10 +265,22 @@ class ChildViewCache {
 	private final View parentView;
 
 	/**
-	 * Stores the children of the parent View, so that they can be efficiently retrieved by their
-	 * resource ID.
+	 * The cached children, indexed in the same order as the resource IDs supplied to {@link
+	 * #bind(int[], int, int)}. Elements are null if the parent has no child with the resource ID.
+	 */
+	private View[] childViews = new View[0];
+
+	/**
+	 * The X translation most recently applied to each child, NaN if no translation has been
+	 * applied.
 	 */
-	private final HashMap<Integer, View> cachedViews = new HashMap<>();
+	private float[] translations = new float[0];
+
+	/**
+	 * The version of the resource IDs which the children were looked up for, -1 if the children
+	 * have not been looked up.
+	 */
+	private int version = -1;
 
 	/**
 	 * Constructs a new ChildViewCache instance.
@@ -181,21 +299,59 @@ class ChildViewCache {
 	}
 
 	/**
-	 * Provides efficient access to the children of the parent View provided to the constructor. If
-	 * the View being accessed has not yet been cached, then it will be accessed using {@link
-	 * View#findViewById(int)}. Subsequent calls will return the cached View.
+	 * Looks up the children with the supplied resource IDs using {@link View#findViewById(int)},
+	 * unless the children were already looked up for the same version of the IDs.
 	 *
-	 * @param id
-	 * 		the resource ID of the child View to access
-	 * @return the child of the parent View with the provided resource ID, null if the parent View
-	 * has no such child
+	 * @param ids
+	 * 		the resource IDs of the children to cache, not null
+	 * @param count
+	 * 		the number of elements of {@code ids} to use
+	 * @param version
+	 * 		identifies the contents of {@code ids}, and must change whenever the contents change
 	 */
-	public final View getChildView(final int id) {
-		if (!cachedViews.containsKey(id)) {
-			cachedViews.put(id, parentView.findViewById(id));
+	public final void bind(final int[] ids, final int count, final int version) {
+		if (version == this.version) {
+			return;
+		}
+
+		childViews = new View[count];
+		translations = new float[count];
+
+		for (int i = 0; i < count; i++) {
+			childViews[i] = parentView.findViewById(ids[i]);
+			translations[i] = Float.NaN;
 		}
 
-		return cachedViews.get(id);
+		this.version = version;
+	}
+
+	/**
+	 * Returns a cached child.
+	 *
+	 * @param index
+	 * 		the index of the child's resource ID in the most recently bound IDs
+	 * @return the child, null if the parent View has no child with the resource ID
+	 */
+	public final View getChildView(final int index) {
+		return childViews[index];
+	}
+
+	/**
+	 * Sets the X translation of a cached child, unless the child already has that translation or
+	 * does not exist.
+	 *
+	 * @param index
+	 * 		the index of the child's resource ID in the most recently bound IDs
+	 * @param translationX
+	 * 		the X translation to apply, measured in pixels
+	 */
+	public final void setTranslationX(final int index, final float translationX) {
+		final View childView = childViews[index];
+
+		if (childView != null && translations[index] != translationX) {
+			childView.setTranslationX(translationX);
+			translations[index] = translationX;
+		}
 	}
 
 	/**
@@ -206,9 +362,12 @@ class ChildViewCache {
 	}
 
 	/**
-	 * Clears the cache entirely.
+	 * Clears the cache entirely. The children are looked up again on the next call to {@link
+	 * #bind(int[], int, int)}.
 	 */
 	public void reset() {
-		cachedViews.clear();
+		childViews = new View[0];
+		translations = new float[0];
+		version = -1;
 	}
-}
+}
\ No newline at end of file
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.transformers;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.View;
+import android.view.View.OnAttachStateChangeListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds a {@link ChildViewCache} for each page root View which has recently been transformed. The
+ * number of caches is bounded, and the caches of the least recently transformed pages are evicted
+ * when the bound is exceeded. On API 12 and above, the cache of a page is also evicted as soon as
+ * the page is detached from the window. This prevents pages which have been discarded by the
+ * adapter, or recreated by a configuration change, from being kept in memory by a transformer.
+ */
+final class PageViewCaches {
+	/**
+	 * Used to identify this class during debugging.
+	 */
+	@SuppressWarnings("unused")
+	private static final String TAG = "[PageViewCaches]";
+
+	/**
+	 * The maximum number of caches to hold until explicitly set.
+	 */
+	static final int DEFAULT_MAXIMUM_SIZE = 6;
+
+	/**
+	 * The maximum number of caches to hold.
+	 */
+	private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	/**
+	 * Maps each page root View to its cache, ordered from least to most recently accessed.
+	 */
+	private final LinkedHashMap<View, ChildViewCache> caches = new LinkedHashMap<View,
+			ChildViewCache>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<View, ChildViewCache> eldest) {
+			if (size() > maximumSize) {
+				stopObservingDetach(eldest.getKey());
+				return true;
+			}
+
+			return false;
+		}
+	};
+
+	/**
+	 * Evicts the cache of each page which is detached from the window, null if the API level does
+	 * not support attach state listeners.
+	 */
+	private final Object detachObserver = (Build.VERSION.SDK_INT >=
+			Build.VERSION_CODES.HONEYCOMB_MR1) ? new DetachObserver() : null;
+
+	/**
+	 * Returns the cache for the supplied page root View, creating it if necessary.
+	 *
+	 * @param page
+	 * 		the root View of the page, not null
+	 * @return the cache, not null
+	 * @throws IllegalArgumentException
+	 * 		if {@code page} is null
+	 */
+	public ChildViewCache get(final View page) {
+		if (page == null) {
+			throw new IllegalArgumentException("page cannot be null");
+		}
+
+		ChildViewCache cache = caches.get(page);
+
+		if (cache == null) {
+			cache = new ChildViewCache(page);
+			caches.put(page, cache);
+			startObservingDetach(page);
+		}
+
+		return cache;
+	}
+
+	/**
+	 * Sets the maximum number of caches to hold. If more caches are currently held, then the least
+	 * recently accessed caches are evicted when the next cache is created.
+	 *
+	 * @param maximumSize
+	 * 		the maximum number of caches, at least 1
+	 * @throws IllegalArgumentException
+	 * 		if {@code maximumSize} is less than 1
+	 */
+	public void setMaximumSize(final int maximumSize) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("maximumSize cannot be less than 1");
+		}
+
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * @return the maximum number of caches to hold
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return the number of caches currently held
+	 */
+	public int size() {
+		return caches.size();
+	}
+
+	/**
+	 * Evicts every cache.
+	 */
+	public void clear() {
+		for (final View page : caches.keySet()) {
+			stopObservingDetach(page);
+		}
+
+		caches.clear();
+	}
+
+	/**
+	 * Evicts the cache of the supplied page when it is detached from the window, if supported.
+	 *
+	 * @param page
+	 * 		the root View of the page, not null
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB_MR1)
+	private void startObservingDetach(final View page) {
+		if (detachObserver != null) {
+			page.addOnAttachStateChangeListener((OnAttachStateChangeListener) detachObserver);
+		}
+	}
+
+	/**
+	 * Stops evicting the cache of the supplied page when it is detached from the window.
+	 *
+	 * @param page
+	 * 		the root View of the page, not null
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB_MR1)
+	private void stopObservingDetach(final View page) {
+		if (detachObserver != null) {
+			page.removeOnAttachStateChangeListener((OnAttachStateChangeListener) detachObserver);
+		}
+	}
+
+	/**
+	 * Evicts the cache of each page which is detached from the window. This class must only be
+	 * instantiated on API 12 and above.
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB_MR1)
+	private final class DetachObserver implements OnAttachStateChangeListener {
+		@Override
+		public void onViewAttachedToWindow(final View v) {}
+
+		@Override
+		public void onViewDetachedFromWindow(final View v) {
+			v.removeOnAttachStateChangeListener(this);
+			caches.remove(v);
+		}
+	}
+}
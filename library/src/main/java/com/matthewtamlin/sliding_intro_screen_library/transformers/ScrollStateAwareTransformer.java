@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.transformers;
+
+import android.support.v4.view.ViewPager;
+
+/**
+ * A ViewPager transformer which needs to know when the pages start and stop moving. The
+ * IntroActivity passes the scroll state of its ViewPager to the transformer supplied to {@link
+ * com.matthewtamlin.sliding_intro_screen_library.core.IntroActivity#setPageTransformer(boolean,
+ * ViewPager.PageTransformer)} if it implements this interface.
+ */
+public interface ScrollStateAwareTransformer extends ViewPager.PageTransformer {
+	/**
+	 * Called when the scroll state of the ViewPager changes.
+	 *
+	 * @param state
+	 * 		the new scroll state, one of {@link ViewPager#SCROLL_STATE_IDLE}, {@link
+	 * 		ViewPager#SCROLL_STATE_DRAGGING} or {@link ViewPager#SCROLL_STATE_SETTLING}
+	 */
+	void onPageScrollStateChanged(int state);
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.background;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.view.View;
+
+import com.matthewtamlin.android_utilities_library.helpers.ColorHelper;
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the {@link ColorBlender} class.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestColorBlender {
+	/**
+	 * The colors of the pages, one per page.
+	 */
+	private static final int[] COLORS = {Color.RED, Color.GREEN, Color.BLUE};
+
+	/**
+	 * The resolution to use when testing the lookup table.
+	 */
+	private static final int RESOLUTION = 4;
+
+	/**
+	 * The View to apply the backgrounds to.
+	 */
+	private RecordingView background;
+
+	@Before
+	public void init() {
+		background = new RecordingView(RuntimeEnvironment.application);
+	}
+
+	@Test
+	public void updateBackground_exactBlending_shouldBlendAdjacentColors() {
+		new ColorBlender(COLORS).updateBackground(background, 1, 0.3f);
+
+		assertThat(background.color, is(ColorHelper.blendColors(COLORS[1], COLORS[2], 0.3f)));
+	}
+
+	@Test
+	public void updateBackground_exactBlendingOnLastPage_shouldUseLastColor() {
+		new ColorBlender(COLORS).updateBackground(background, 2, 0.5f);
+
+		assertThat(background.color, is(COLORS[2]));
+	}
+
+	@Test
+	public void updateBackground_lookupTable_shouldUseNearestPrecomputedColor() {
+		final ColorBlender blender = new ColorBlender(COLORS, RESOLUTION);
+
+		// 0.6 of the way between pages is nearest to the step at 0.5
+		blender.updateBackground(background, 1, 0.6f);
+
+		assertThat(background.color, is(ColorHelper.blendColors(COLORS[1], COLORS[2], 0.5f)));
+	}
+
+	@Test
+	public void updateBackground_lookupTableAtPageBoundary_shouldUsePageColor() {
+		final ColorBlender blender = new ColorBlender(COLORS, RESOLUTION);
+
+		blender.updateBackground(background, 1, 0f);
+		assertThat(background.color, is(COLORS[1]));
+
+		// An offset which rounds up to the next step must use the color of the next page
+		blender.updateBackground(background, 0, 0.99f);
+		assertThat(background.color, is(COLORS[1]));
+	}
+
+	@Test
+	public void updateBackground_lookupTableOnLastPage_shouldUseLastColor() {
+		final ColorBlender blender = new ColorBlender(COLORS, RESOLUTION);
+
+		blender.updateBackground(background, 2, 0f);
+
+		assertThat(background.color, is(COLORS[2]));
+	}
+
+	@Test
+	public void updateBackground_lookupTableWithSinglePage_shouldUseOnlyColor() {
+		final ColorBlender blender = new ColorBlender(new int[]{Color.RED}, RESOLUTION);
+
+		blender.updateBackground(background, 0, 0f);
+
+		assertThat(background.color, is(Color.RED));
+	}
+
+	@Test
+	public void updateBackground_colorUnchanged_shouldNotReapplyBackground() {
+		final ColorBlender blender = new ColorBlender(COLORS, RESOLUTION);
+
+		// Both offsets round to the same precomputed color
+		blender.updateBackground(background, 0, 0.5f);
+		blender.updateBackground(background, 0, 0.51f);
+
+		assertThat(background.colorCount, is(1));
+	}
+
+	@Test
+	public void updateBackground_differentView_shouldApplyBackground() {
+		final ColorBlender blender = new ColorBlender(COLORS);
+		final RecordingView otherBackground = new RecordingView(RuntimeEnvironment.application);
+
+		blender.updateBackground(background, 0, 0f);
+		blender.updateBackground(otherBackground, 0, 0f);
+
+		assertThat(otherBackground.color, is(COLORS[0]));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void updateBackground_indexTooLarge_shouldThrowException() {
+		new ColorBlender(COLORS).updateBackground(background, 3, 0f); // Should throw exception
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_emptyColors_shouldThrowException() {
+		new ColorBlender(new int[0]); // Should throw exception
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_invalidResolution_shouldThrowException() {
+		new ColorBlender(COLORS, 0); // Should throw exception
+	}
+
+	/**
+	 * A View which records the background colors applied to it.
+	 */
+	private static class RecordingView extends View {
+		private int color = Color.TRANSPARENT;
+
+		private int colorCount = 0;
+
+		public RecordingView(final Context context) {
+			super(context);
+		}
+
+		@Override
+		public void setBackgroundColor(final int color) {
+			super.setBackgroundColor(color);
+			this.color = color;
+			colorCount++;
+		}
+	}
+}
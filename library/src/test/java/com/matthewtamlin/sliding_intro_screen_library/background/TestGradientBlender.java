@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.background;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.GradientDrawable.Orientation;
+import android.view.View;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for the {@link GradientBlender} class.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestGradientBlender {
+	/**
+	 * The gradients of the pages, one per page.
+	 */
+	private static final int[][] GRADIENTS = {
+			{Color.RED, Color.GREEN},
+			{Color.GREEN, Color.BLUE},
+			{Color.BLUE, Color.RED, Color.GREEN}};
+
+	/**
+	 * The View to apply the backgrounds to.
+	 */
+	private RecordingView background;
+
+	/**
+	 * The GradientBlender under test.
+	 */
+	private GradientBlender blender;
+
+	@Before
+	public void init() {
+		background = new RecordingView(RuntimeEnvironment.application);
+		blender = new GradientBlender(GRADIENTS, Orientation.LEFT_RIGHT);
+	}
+
+	@Test
+	public void updateBackground_manyUpdates_shouldInstallDrawableOnce() {
+		blender.updateBackground(background, 0, 0f);
+		final Drawable drawable = background.getBackground();
+
+		blender.updateBackground(background, 0, 0.5f);
+		blender.updateBackground(background, 1, 0.25f);
+		blender.updateBackground(background, 2, 0f);
+
+		assertThat(background.backgroundCount, is(1));
+		assertThat(background.getBackground(), is(sameInstance(drawable)));
+	}
+
+	@Test
+	public void updateBackground_positionChanged_shouldInvalidateDrawable() {
+		blender.updateBackground(background, 0, 0f);
+		blender.updateBackground(background, 0, 0.5f);
+		blender.updateBackground(background, 1, 0.5f);
+
+		assertThat(background.invalidationCount, is(2));
+	}
+
+	@Test
+	public void updateBackground_positionUnchanged_shouldNotInvalidateDrawable() {
+		blender.updateBackground(background, 1, 0.5f);
+		blender.updateBackground(background, 1, 0.5f);
+		blender.updateBackground(background, 1, 0.5f);
+
+		assertThat(background.invalidationCount, is(1));
+	}
+
+	@Test
+	public void updateBackground_backgroundReplaced_shouldReinstallDrawable() {
+		blender.updateBackground(background, 0, 0f);
+		final Drawable drawable = background.getBackground();
+
+		background.setBackgroundColor(Color.BLACK);
+		blender.updateBackground(background, 0, 0.5f);
+
+		assertThat(background.getBackground(), is(sameInstance(drawable)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void updateBackground_indexTooLarge_shouldThrowException() {
+		blender.updateBackground(background, 3, 0f); // Should throw exception
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_nullGradients_shouldThrowException() {
+		new GradientBlender(null, Orientation.LEFT_RIGHT); // Should throw exception
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_emptyGradients_shouldThrowException() {
+		new GradientBlender(new int[0][], Orientation.LEFT_RIGHT); // Should throw exception
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_gradientWithOneColor_shouldThrowException() {
+		new GradientBlender(new int[][]{{Color.RED}}, Orientation.LEFT_RIGHT); // Should throw
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_nullOrientation_shouldThrowException() {
+		new GradientBlender(GRADIENTS, null); // Should throw exception
+	}
+
+	/**
+	 * A View which counts the number of times its background Drawable is set or invalidated.
+	 */
+	private static class RecordingView extends View {
+		private int backgroundCount = 0;
+
+		private int invalidationCount = 0;
+
+		public RecordingView(final Context context) {
+			super(context);
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public void setBackgroundDrawable(final Drawable background) {
+			super.setBackgroundDrawable(background);
+			backgroundCount++;
+		}
+
+		@Override
+		public void invalidateDrawable(final Drawable drawable) {
+			super.invalidateDrawable(drawable);
+			invalidationCount++;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.background;
+
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.ImageView;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+import com.matthewtamlin.sliding_intro_screen_library.background.ImageBlender.ImageLoader;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Unit tests for the {@link ImageBlender} class. The images are loaded on a real background
+ * thread, so the main looper is paused and the delivered images are polled for.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestImageBlender {
+	/**
+	 * The number of pages in the introduction.
+	 */
+	private static final int PAGE_COUNT = 3;
+
+	/**
+	 * The width and height of the background, measured in pixels.
+	 */
+	private static final int BACKGROUND_SIZE = 50;
+
+	/**
+	 * The maximum time to wait for an image to be delivered, measured in milliseconds.
+	 */
+	private static final long TIMEOUT_MS = 5000;
+
+	/**
+	 * The View to display the images in, laid out at {@code BACKGROUND_SIZE}.
+	 */
+	private FrameLayout background;
+
+	/**
+	 * The ImageBlender under test, null until created by the test.
+	 */
+	private ImageBlender blender;
+
+	@Before
+	public void init() {
+		ShadowLooper.pauseMainLooper();
+
+		background = new FrameLayout(RuntimeEnvironment.application);
+		background.measure(
+				View.MeasureSpec.makeMeasureSpec(BACKGROUND_SIZE, View.MeasureSpec.EXACTLY),
+				View.MeasureSpec.makeMeasureSpec(BACKGROUND_SIZE, View.MeasureSpec.EXACTLY));
+		background.layout(0, 0, BACKGROUND_SIZE, BACKGROUND_SIZE);
+	}
+
+	@After
+	public void tearDown() {
+		if (blender != null) {
+			blender.shutdown();
+		}
+	}
+
+	@Test
+	public void updateBackground_imageLargerThanBackground_shouldCropToBackgroundSize() {
+		blender = new ImageBlender(PAGE_COUNT, new ImageLoader() {
+			@Override
+			public Bitmap loadImage(final int index, final int width, final int height) {
+				return Bitmap.createBitmap(200, 100, Bitmap.Config.ARGB_8888);
+			}
+		});
+
+		blender.updateBackground(background, 0, 0f);
+
+		final Bitmap image = awaitImage(getBackImageView());
+		assertThat(image.getWidth(), is(BACKGROUND_SIZE));
+		assertThat(image.getHeight(), is(BACKGROUND_SIZE));
+	}
+
+	@Test
+	public void updateBackground_loadFailed_shouldRetryWhenPageRevisited() {
+		final AtomicInteger firstPageLoadCount = new AtomicInteger();
+
+		blender = new ImageBlender(PAGE_COUNT, new ImageLoader() {
+			@Override
+			public Bitmap loadImage(final int index, final int width, final int height) {
+				if (index == 0 && firstPageLoadCount.incrementAndGet() == 1) {
+					throw new RuntimeException("first load of page 0 fails");
+				}
+
+				return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+			}
+		});
+
+		// An exception which escapes the background thread would kill the process on Android
+		final AtomicInteger uncaughtExceptionCount = new AtomicInteger();
+		final Thread.UncaughtExceptionHandler originalHandler =
+				Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+			@Override
+			public void uncaughtException(final Thread thread, final Throwable throwable) {
+				uncaughtExceptionCount.incrementAndGet();
+			}
+		});
+
+		try {
+			blender.updateBackground(background, 0, 0f);
+
+			// Images are loaded in order, so the failure of page 0 has been delivered by now
+			awaitImage(getFrontImageView());
+		} finally {
+			Thread.setDefaultUncaughtExceptionHandler(originalHandler);
+		}
+
+		assertThat(uncaughtExceptionCount.get(), is(0));
+		assertThat(getImage(getBackImageView()) == null, is(true));
+
+		blender.updateBackground(background, 1, 0f);
+		blender.updateBackground(background, 0, 0f);
+
+		assertThat(awaitImage(getBackImageView()), is(notNullValue()));
+		assertThat(firstPageLoadCount.get(), is(2));
+	}
+
+	/**
+	 * @return the ImageView which displays the image of the left page, not null
+	 */
+	private ImageView getBackImageView() {
+		return (ImageView) background.getChildAt(0);
+	}
+
+	/**
+	 * @return the ImageView which displays the image of the right page, not null
+	 */
+	private ImageView getFrontImageView() {
+		return (ImageView) background.getChildAt(1);
+	}
+
+	/**
+	 * Runs the tasks posted to the main looper until the supplied ImageView displays an image.
+	 *
+	 * @param imageView
+	 * 		the ImageView to check, not null
+	 * @return the displayed image, not null
+	 * @throws AssertionError
+	 * 		if no image is displayed before the timeout elapses
+	 */
+	private static Bitmap awaitImage(final ImageView imageView) {
+		final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+
+		while (System.currentTimeMillis() < deadline) {
+			ShadowLooper.runUiThreadTasks();
+
+			final Bitmap image = getImage(imageView);
+
+			if (image != null) {
+				return image;
+			}
+
+			try {
+				Thread.sleep(10);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+
+		throw new AssertionError("no image was displayed");
+	}
+
+	/**
+	 * @param imageView
+	 * 		the ImageView to check, not null
+	 * @return the image displayed by the ImageView, null if there is none
+	 */
+	private static Bitmap getImage(final ImageView imageView) {
+		final Drawable drawable = imageView.getDrawable();
+
+		return (drawable instanceof BitmapDrawable) ?
+				((BitmapDrawable) drawable).getBitmap() :
+				null;
+	}
+}
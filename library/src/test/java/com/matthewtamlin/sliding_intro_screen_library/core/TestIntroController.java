@@ -0,0 +1,322 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import com.matthewtamlin.sliding_intro_screen_library.core.LockableViewPager.LockMode;
+import com.matthewtamlin.sliding_intro_screen_library.indicators.SelectionIndicator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the {@link IntroController} class. These tests run on the plain JVM.
+ */
+public class TestIntroController {
+	/**
+	 * The number of pages to use during testing.
+	 */
+	private static final int PAGE_COUNT = 3;
+
+	/**
+	 * The buttons which are visible on the first page with the default flags.
+	 */
+	private static final int FIRST_PAGE_BUTTONS =
+			IntroController.LEFT_BUTTON | IntroController.RIGHT_BUTTON;
+
+	/**
+	 * A pager for use during tests.
+	 */
+	private FakePager pager;
+
+	/**
+	 * A button switcher for use during tests.
+	 */
+	private FakeButtonSwitcher buttonSwitcher;
+
+	/**
+	 * A selection indicator for use during tests.
+	 */
+	private FakeSelectionIndicator indicator;
+
+	/**
+	 * The controller under test.
+	 */
+	private IntroController controller;
+
+	@Before
+	public void init() {
+		pager = new FakePager();
+		buttonSwitcher = new FakeButtonSwitcher();
+		indicator = new FakeSelectionIndicator();
+
+		controller = new IntroController(pager, buttonSwitcher, FIRST_PAGE_BUTTONS);
+		controller.setSelectionIndicator(indicator);
+		controller.onDatasetChanged();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_nullPager_shouldThrowException() {
+		new IntroController(null, buttonSwitcher, 0); // Should throw exception
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_nullButtonSwitcher_shouldThrowException() {
+		new IntroController(pager, null, 0); // Should throw exception
+	}
+
+	@Test
+	public void onDatasetChanged_shouldResizeIndicator() {
+		assertThat("indicator was not resized", indicator.numberOfItems == PAGE_COUNT);
+	}
+
+	@Test
+	public void reflectStateInButtons_stateUnchanged_shouldNotDispatch() {
+		controller.reflectStateInButtons();
+
+		assertThat("buttons were changed unnecessarily", buttonSwitcher.calls.isEmpty());
+	}
+
+	@Test
+	public void onPageSelected_lastPage_shouldSwapButtons() {
+		pager.currentPage = PAGE_COUNT - 1;
+		controller.onPageSelected(PAGE_COUNT - 1);
+
+		assertThat(buttonSwitcher.calls.size(), is(3));
+		assertThat(controller.getVisibleButtons(), is(IntroController.FINAL_BUTTON));
+		assertThat(indicator.selectedItem, is(PAGE_COUNT - 1));
+		assertThat(indicator.lastSelectionAnimated, is(true));
+	}
+
+	@Test
+	public void onPageSelected_middlePage_shouldNotDispatch() {
+		pager.currentPage = 1;
+		controller.onPageSelected(1);
+
+		assertThat("buttons were changed unnecessarily", buttonSwitcher.calls.isEmpty());
+		assertThat(indicator.selectedItem, is(1));
+	}
+
+	@Test
+	public void setRightButtonDisabled_shouldOnlyDispatchRightButton() {
+		controller.setRightButtonDisabled(true);
+
+		assertThat(buttonSwitcher.calls.size(), is(1));
+		assertThat(buttonSwitcher.calls.get(0), is(-IntroController.RIGHT_BUTTON));
+		assertThat(controller.isRightButtonDisabled(), is(true));
+	}
+
+	@Test
+	public void setLeftButtonDisabledOnLastPage_false_shouldKeepLeftButtonOnLastPage() {
+		controller.setLeftButtonDisabledOnLastPage(false);
+		pager.currentPage = PAGE_COUNT - 1;
+		controller.onPageSelected(PAGE_COUNT - 1);
+
+		assertThat(controller.getVisibleButtons(),
+				is(IntroController.LEFT_BUTTON | IntroController.FINAL_BUTTON));
+	}
+
+	@Test
+	public void goToNextPage_unlocked_shouldChangePage() {
+		controller.goToNextPage();
+
+		assertThat(pager.currentPage, is(1));
+	}
+
+	@Test
+	public void goToNextPage_lastPage_shouldNotChangePage() {
+		pager.currentPage = PAGE_COUNT - 1;
+		controller.goToNextPage();
+
+		assertThat(pager.currentPage, is(PAGE_COUNT - 1));
+	}
+
+	@Test
+	public void goToLastPage_commandLocked_shouldNotChangePage() {
+		controller.setLockMode(LockMode.COMMAND_LOCKED);
+		controller.goToLastPage();
+
+		assertThat(pager.currentPage, is(0));
+		assertThat(pager.lockMode, is(LockMode.COMMAND_LOCKED));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setLockMode_null_shouldThrowException() {
+		controller.setLockMode(null); // Should throw exception
+	}
+
+	@Test
+	public void onBackPressed_firstPage_shouldNotConsume() {
+		assertThat(controller.onBackPressed(), is(false));
+	}
+
+	@Test
+	public void onBackPressed_laterPage_shouldGoBack() {
+		pager.currentPage = 2;
+
+		assertThat(controller.onBackPressed(), is(true));
+		assertThat(pager.currentPage, is(1));
+	}
+
+	@Test
+	public void onBackPressed_touchLocked_shouldGoBack() {
+		pager.currentPage = 2;
+		controller.setLockMode(LockMode.TOUCH_LOCKED);
+
+		assertThat(controller.onBackPressed(), is(true));
+	}
+
+	@Test
+	public void syncSelectionIndicator_shouldSelectWithoutAnimation() {
+		pager.currentPage = 1;
+		controller.syncSelectionIndicator();
+
+		assertThat(indicator.selectedItem, is(1));
+		assertThat(indicator.lastSelectionAnimated, is(false));
+	}
+
+	@Test
+	public void restoreState_savedState_shouldRestoreFlagsWithoutDispatching() {
+		pager.currentPage = 1;
+		controller.setRightButtonDisabled(true);
+		controller.setLockMode(LockMode.TOUCH_LOCKED);
+		controller.enableSelectionIndicatorAnimations(false);
+		final IntroState state = controller.saveState();
+
+		init();
+		controller.restoreState(state);
+
+		assertThat(state.getCurrentPageIndex(), is(1));
+		assertThat(controller.isRightButtonDisabled(), is(true));
+		assertThat(controller.isLeftButtonDisabledOnLastPage(), is(true));
+		assertThat(controller.getLockMode(), is(LockMode.TOUCH_LOCKED));
+		assertThat(pager.lockMode, is(LockMode.TOUCH_LOCKED));
+		assertThat(controller.selectionIndicatorAnimationsAreEnabled(), is(false));
+		assertThat("buttons were changed before being reflected", buttonSwitcher.calls.isEmpty());
+
+		controller.reflectStateInButtons();
+
+		assertThat(controller.getVisibleButtons(), is(IntroController.LEFT_BUTTON));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void restoreState_null_shouldThrowException() {
+		controller.restoreState(null); // Should throw exception
+	}
+
+	/**
+	 * A Pager which records its state in fields.
+	 */
+	private static class FakePager implements IntroController.Pager {
+		private int currentPage = 0;
+
+		private LockMode lockMode = LockMode.UNLOCKED;
+
+		@Override
+		public int getPageCount() {
+			return PAGE_COUNT;
+		}
+
+		@Override
+		public int getCurrentPage() {
+			return currentPage;
+		}
+
+		@Override
+		public void setCurrentPage(final int pageIndex, final boolean smoothScroll) {
+			currentPage = pageIndex;
+		}
+
+		@Override
+		public void setLockMode(final LockMode lockMode) {
+			this.lockMode = lockMode;
+		}
+	}
+
+	/**
+	 * A ButtonSwitcher which records each call. Shown buttons are recorded as positive values and
+	 * hidden buttons as negative values.
+	 */
+	private static class FakeButtonSwitcher implements IntroController.ButtonSwitcher {
+		private final ArrayList<Integer> calls = new ArrayList<>();
+
+		@Override
+		public void setButtonVisible(final int button, final boolean visible) {
+			calls.add(visible ? button : -button);
+		}
+	}
+
+	/**
+	 * A SelectionIndicator which records its state in fields.
+	 */
+	private static class FakeSelectionIndicator implements SelectionIndicator {
+		private int numberOfItems;
+
+		private int selectedItem;
+
+		private boolean lastSelectionAnimated;
+
+		private int transitionDuration;
+
+		private boolean visible = true;
+
+		@Override
+		public void setSelectedItem(final int index, final boolean animate) {
+			selectedItem = index;
+			lastSelectionAnimated = animate;
+		}
+
+		@Override
+		public int getSelectedItemIndex() {
+			return selectedItem;
+		}
+
+		@Override
+		public void setNumberOfItems(final int numberOfItems) {
+			this.numberOfItems = numberOfItems;
+		}
+
+		@Override
+		public int getNumberOfItems() {
+			return numberOfItems;
+		}
+
+		@Override
+		public void setTransitionDuration(final int durationMs) {
+			transitionDuration = durationMs;
+		}
+
+		@Override
+		public int getTransitionDuration() {
+			return transitionDuration;
+		}
+
+		@Override
+		public void setVisibility(final boolean show) {
+			visible = show;
+		}
+
+		@Override
+		public boolean isVisible() {
+			return visible;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.os.Bundle;
+import android.support.v4.app.Fragment;
+import android.support.v4.app.FragmentActivity;
+import android.support.v4.app.FragmentManager;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton;
+import com.matthewtamlin.sliding_intro_screen_library.buttons.IntroButton.Behaviour;
+import com.matthewtamlin.sliding_intro_screen_library.core.TestIntroView.TestPage;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for the {@link IntroFragment} class.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestIntroFragment {
+	/**
+	 * The number of pages displayed by the fragment.
+	 */
+	private static final int PAGE_COUNT = 3;
+
+	/**
+	 * The FragmentManager of the activity which hosts the fragment.
+	 */
+	private FragmentManager fragmentManager;
+
+	/**
+	 * The fragment under test.
+	 */
+	private ThreePageIntroFragment fragment;
+
+	@Before
+	public void init() {
+		fragmentManager = Robolectric.setupActivity(FragmentActivity.class)
+				.getSupportFragmentManager();
+		fragment = new ThreePageIntroFragment();
+
+		fragmentManager.beginTransaction()
+				.add(android.R.id.content, fragment)
+				.commitNow();
+	}
+
+	@Test
+	public void onCreateView_shouldCreateIntroViewWithPages() {
+		final IntroView introView = fragment.getIntroView();
+
+		assertThat(introView, is(notNullValue()));
+		assertThat(introView.numberOfPages(), is(PAGE_COUNT));
+		assertThat(introView.getFinalButtonAccessor().getBehaviour(),
+				is(sameInstance(fragment.finalButtonBehaviour)));
+	}
+
+	@Test
+	public void goToNextPage_shouldDelegateToIntroView() {
+		fragment.goToNextPage();
+
+		assertThat(fragment.getIntroView().getIndexOfCurrentPage(), is(1));
+	}
+
+	@Test
+	public void goToNextPage_viewDestroyed_shouldDoNothing() {
+		fragmentManager.beginTransaction().detach(fragment).commitNow();
+
+		fragment.goToNextPage();
+
+		assertThat(fragment.getIntroView(), is(nullValue()));
+	}
+
+	@Test
+	public void onCreateView_afterViewDestroyed_shouldRestorePage() {
+		fragment.goToPage(2);
+
+		fragmentManager.beginTransaction().detach(fragment).commitNow();
+		fragmentManager.beginTransaction().attach(fragment).commitNow();
+
+		assertThat(fragment.getIntroView().getIndexOfCurrentPage(), is(2));
+	}
+
+	@Test
+	public void onSaveInstanceState_shouldSaveIntroState() {
+		fragment.goToPage(2);
+
+		final Bundle outState = new Bundle();
+		fragment.onSaveInstanceState(outState);
+
+		assertThat(findIntroState(outState).getCurrentPageIndex(), is(2));
+	}
+
+	@Test
+	public void onSaveInstanceState_viewDestroyed_shouldSaveLastIntroState() {
+		fragment.goToPage(2);
+		fragmentManager.beginTransaction().detach(fragment).commitNow();
+
+		final Bundle outState = new Bundle();
+		fragment.onSaveInstanceState(outState);
+
+		assertThat(findIntroState(outState).getCurrentPageIndex(), is(2));
+	}
+
+	/**
+	 * Finds the IntroState in a Bundle saved by the fragment.
+	 *
+	 * @param savedState
+	 * 		the Bundle to search, not null
+	 * @return the IntroState, not null
+	 * @throws AssertionError
+	 * 		if the Bundle does not contain an IntroState
+	 */
+	private static IntroState findIntroState(final Bundle savedState) {
+		for (final String key : savedState.keySet()) {
+			final Object value = savedState.get(key);
+
+			if (value instanceof IntroState) {
+				return (IntroState) value;
+			}
+		}
+
+		throw new AssertionError("no IntroState was saved");
+	}
+
+	/**
+	 * An IntroFragment which displays three empty pages.
+	 */
+	public static class ThreePageIntroFragment extends IntroFragment {
+		/**
+		 * The Behaviour of the final button.
+		 */
+		private final Behaviour finalButtonBehaviour = new IntroButton.DoNothing();
+
+		@Override
+		protected Collection<? extends Fragment> generatePages(final Bundle savedInstanceState) {
+			final ArrayList<Fragment> pages = new ArrayList<>();
+
+			for (int i = 0; i < PAGE_COUNT; i++) {
+				pages.add(new TestPage());
+			}
+
+			return pages;
+		}
+
+		@Override
+		protected Behaviour generateFinalButtonBehaviour() {
+			return finalButtonBehaviour;
+		}
+	}
+}
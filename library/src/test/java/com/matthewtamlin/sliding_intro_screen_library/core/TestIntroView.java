@@ -0,0 +1,212 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.os.Bundle;
+import android.os.Parcelable;
+import android.support.v4.app.Fragment;
+import android.support.v4.app.FragmentActivity;
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+import com.matthewtamlin.sliding_intro_screen_library.R;
+import com.matthewtamlin.sliding_intro_screen_library.core.LockableViewPager.LockMode;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the {@link IntroView} class.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestIntroView {
+	/**
+	 * The number of pages to display in each IntroView.
+	 */
+	private static final int PAGE_COUNT = 3;
+
+	/**
+	 * The resource ID to give an IntroView when its state is saved with the View hierarchy.
+	 */
+	private static final int INTRO_VIEW_ID = 1;
+
+	/**
+	 * The IntroView under test, attached to an activity but without pages.
+	 */
+	private IntroView introView;
+
+	/**
+	 * The activity which hosts {@code introView}.
+	 */
+	private FragmentActivity activity;
+
+	@Before
+	public void init() {
+		activity = Robolectric.setupActivity(FragmentActivity.class);
+		introView = new IntroView(activity);
+		activity.setContentView(introView);
+	}
+
+	@Test
+	public void setPages_shouldDisplayFirstPage() {
+		introView.setPages(activity.getSupportFragmentManager(), newPages());
+
+		assertThat(introView.numberOfPages(), is(PAGE_COUNT));
+		assertThat(introView.getIndexOfCurrentPage(), is(0));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void setPages_calledTwice_shouldThrowException() {
+		introView.setPages(activity.getSupportFragmentManager(), newPages());
+		introView.setPages(activity.getSupportFragmentManager(), newPages()); // Should throw
+	}
+
+	@Test
+	public void goToNextPage_shouldDisplayNextPage() {
+		introView.setPages(activity.getSupportFragmentManager(), newPages());
+
+		introView.goToNextPage();
+
+		assertThat(introView.getIndexOfCurrentPage(), is(1));
+	}
+
+	@Test
+	public void restoreState_afterPagesSet_shouldRestorePageAndLockMode() {
+		final IntroState state = createSavedState();
+
+		introView.setPages(activity.getSupportFragmentManager(), newPages());
+		introView.restoreState(state);
+
+		assertThat(introView.getIndexOfCurrentPage(), is(2));
+		assertThat(introView.getController().getLockMode(), is(LockMode.FULLY_LOCKED));
+	}
+
+	@Test
+	public void restoreState_beforePagesSet_shouldApplyOncePagesSet() {
+		final IntroState state = createSavedState();
+
+		introView.restoreState(state);
+		introView.setPages(activity.getSupportFragmentManager(), newPages());
+
+		assertThat(introView.getIndexOfCurrentPage(), is(2));
+		assertThat(introView.getController().getLockMode(), is(LockMode.FULLY_LOCKED));
+	}
+
+	@Test
+	public void restoreState_smallerDataset_shouldDisplayLastPage() {
+		final IntroState state = createSavedState();
+		final ArrayList<Fragment> pages = newPages();
+		pages.remove(2);
+
+		introView.setPages(activity.getSupportFragmentManager(), pages);
+		introView.restoreState(state);
+
+		assertThat(introView.getIndexOfCurrentPage(), is(1));
+	}
+
+	@Test
+	public void restoreHierarchyState_withId_shouldRestoreState() {
+		final FragmentActivity savedActivity = Robolectric.setupActivity(FragmentActivity.class);
+		final IntroView savedView = new IntroView(savedActivity);
+		savedView.setId(INTRO_VIEW_ID);
+		savedActivity.setContentView(savedView);
+		savedView.setPages(savedActivity.getSupportFragmentManager(), newPages());
+		savedView.goToPage(2);
+		savedView.getController().setRightButtonDisabled(true);
+
+		final SparseArray<Parcelable> container = new SparseArray<>();
+		savedView.saveHierarchyState(container);
+
+		introView.setId(INTRO_VIEW_ID);
+		introView.setPages(activity.getSupportFragmentManager(), newPages());
+		introView.restoreHierarchyState(container);
+
+		assertThat(introView.getIndexOfCurrentPage(), is(2));
+		assertThat(introView.getController().isRightButtonDisabled(), is(true));
+	}
+
+	@Test
+	public void onWindowFocusChanged_notLastPage_shouldHideFinalButtonWithoutTransition() {
+		introView.setPages(activity.getSupportFragmentManager(), newPages());
+		final View finalButton = introView.findViewById(R.id.intro_activity_finalButton);
+
+		introView.onWindowFocusChanged(true);
+
+		assertThat(finalButton.getVisibility(), is(View.INVISIBLE));
+		assertThat(finalButton.getAlpha(), is(0f));
+		assertThat(finalButton.isEnabled(), is(false));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void restoreState_null_shouldThrowException() {
+		introView.restoreState(null); // Should throw exception
+	}
+
+	/**
+	 * Displays the third page in a separate IntroView, locks it, and saves its state.
+	 *
+	 * @return the saved state, not null
+	 */
+	private IntroState createSavedState() {
+		final FragmentActivity savedActivity = Robolectric.setupActivity(FragmentActivity.class);
+		final IntroView savedView = new IntroView(savedActivity);
+		savedActivity.setContentView(savedView);
+		savedView.setPages(savedActivity.getSupportFragmentManager(), newPages());
+
+		savedView.goToPage(2);
+		savedView.getController().setLockMode(LockMode.FULLY_LOCKED);
+
+		return savedView.saveState();
+	}
+
+	/**
+	 * @return a new dataset of {@code PAGE_COUNT} pages, not null
+	 */
+	private static ArrayList<Fragment> newPages() {
+		final ArrayList<Fragment> pages = new ArrayList<>();
+
+		for (int i = 0; i < PAGE_COUNT; i++) {
+			pages.add(new TestPage());
+		}
+
+		return pages;
+	}
+
+	/**
+	 * A page which displays an empty View.
+	 */
+	public static class TestPage extends Fragment {
+		@Override
+		public View onCreateView(final LayoutInflater inflater, final ViewGroup container,
+				final Bundle savedInstanceState) {
+			return new View(inflater.getContext());
+		}
+	}
+}
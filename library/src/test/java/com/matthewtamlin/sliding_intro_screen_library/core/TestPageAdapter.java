@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.support.v4.app.Fragment;
+import android.support.v4.app.FragmentActivity;
+import android.support.v4.app.FragmentManager;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for restoring pages into the {@link PageAdapter} class.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestPageAdapter {
+	/**
+	 * The resource ID of the ViewPager the restored pages were displayed in.
+	 */
+	private static final int CONTAINER_ID = 1;
+
+	/**
+	 * The FragmentManager which holds the restored pages.
+	 */
+	private FragmentManager fragmentManager;
+
+	/**
+	 * The pages restored by the FragmentManager, as if the first two pages of a three page
+	 * dataset were restored.
+	 */
+	private List<Fragment> restoredPages;
+
+	@Before
+	public void init() {
+		fragmentManager = Robolectric.setupActivity(FragmentActivity.class)
+				.getSupportFragmentManager();
+
+		restoredPages = Arrays.asList(new Fragment(), new Fragment(), null);
+
+		for (int i = 0; i < 2; i++) {
+			fragmentManager.beginTransaction()
+					.add(restoredPages.get(i), PageAdapter.makePageTag(CONTAINER_ID, i))
+					.commitNow();
+		}
+	}
+
+	@Test
+	public void restorePages_matchingDataset_shouldUseRestoredPages() {
+		final PageAdapter adapter = new PageAdapter(fragmentManager, newDataset(3));
+
+		assertThat(adapter.restorePages(new long[]{0, 1, 2}, restoredPages), is(true));
+		assertThat(adapter.getItem(0), is(sameInstance(restoredPages.get(0))));
+		assertThat(adapter.getItem(1), is(sameInstance(restoredPages.get(1))));
+	}
+
+	@Test
+	public void restorePages_sizeMismatch_shouldRejectRestore() {
+		final PageAdapter adapter = new PageAdapter(fragmentManager, newDataset(4));
+
+		assertThat(adapter.restorePages(new long[]{0, 1, 2}, restoredPages), is(false));
+		assertThat(adapter.getItemId(3), is(3L));
+	}
+
+	@Test
+	public void discardPages_afterRejectedRestore_shouldRemoveStalePages() {
+		final PageAdapter adapter = new PageAdapter(fragmentManager, newDataset(4));
+		adapter.restorePages(new long[]{0, 1, 2}, restoredPages);
+
+		adapter.discardPages(restoredPages);
+
+		// The new pages use the same tags, so the stale pages must not be found
+		assertThat(fragmentManager.findFragmentByTag(PageAdapter.makePageTag(CONTAINER_ID, 0)),
+				is(nullValue()));
+		assertThat(fragmentManager.findFragmentByTag(PageAdapter.makePageTag(CONTAINER_ID, 1)),
+				is(nullValue()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void discardPages_null_shouldThrowException() {
+		new PageAdapter(fragmentManager, newDataset(1)).discardPages(null); // Should throw
+	}
+
+	/**
+	 * Creates a dataset of new pages.
+	 *
+	 * @param size
+	 * 		the number of pages to create
+	 * @return the dataset, not null
+	 */
+	private static ArrayList<Fragment> newDataset(final int size) {
+		final ArrayList<Fragment> pages = new ArrayList<>();
+
+		for (int i = 0; i < size; i++) {
+			pages.add(new Fragment());
+		}
+
+		return pages;
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import android.support.v4.view.ViewPager;
+import android.support.v4.view.ViewPager.OnPageChangeListener;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the {@link ScrollFramePipeline} class. The main looper is paused so that the
+ * frame callbacks never run, which means that pending scroll events are only dispatched when
+ * the pipeline is flushed.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestScrollFramePipeline {
+	/**
+	 * The pipeline under test.
+	 */
+	private ScrollFramePipeline pipeline;
+
+	/**
+	 * Receives the events dispatched by the pipeline.
+	 */
+	private RecordingListener listener;
+
+	@Before
+	public void init() {
+		ShadowLooper.pauseMainLooper();
+
+		pipeline = new ScrollFramePipeline();
+		listener = new RecordingListener();
+		pipeline.addListener(listener);
+	}
+
+	@After
+	public void tearDown() {
+		pipeline.cancel();
+	}
+
+	@Test
+	public void onPageScrolled_dragging_shouldDeferEvent() {
+		pipeline.onPageScrollStateChanged(ViewPager.SCROLL_STATE_DRAGGING);
+		listener.events.clear();
+
+		pipeline.onPageScrolled(0, 0.25f, 25);
+
+		assertThat(listener.events, is(empty()));
+	}
+
+	@Test
+	public void flush_severalScrollEvents_shouldDispatchOnlyLatestEvent() {
+		pipeline.onPageScrolled(0, 0.25f, 25);
+		pipeline.onPageScrolled(0, 0.5f, 50);
+		pipeline.onPageScrolled(1, 0.1f, 10);
+
+		pipeline.flush();
+
+		assertThat(listener.events, contains("scrolled 1 0.1 10"));
+	}
+
+	@Test
+	public void flush_calledTwice_shouldDispatchEventOnce() {
+		pipeline.onPageScrolled(0, 0.5f, 50);
+
+		pipeline.flush();
+		pipeline.flush();
+
+		assertThat(listener.events, contains("scrolled 0 0.5 50"));
+	}
+
+	@Test
+	public void onPageSelected_scrollPending_shouldDispatchScrollFirst() {
+		pipeline.onPageScrolled(0, 0.75f, 75);
+
+		pipeline.onPageSelected(1);
+
+		assertThat(listener.events, contains("scrolled 0 0.75 75", "selected 1"));
+	}
+
+	@Test
+	public void onPageScrollStateChanged_scrollPending_shouldDispatchScrollFirst() {
+		pipeline.onPageScrolled(0, 0.75f, 75);
+
+		pipeline.onPageScrollStateChanged(ViewPager.SCROLL_STATE_IDLE);
+
+		assertThat(listener.events, contains("scrolled 0 0.75 75", "state 0"));
+	}
+
+	@Test
+	public void onPageScrolled_settling_shouldDispatchImmediately() {
+		pipeline.onPageScrollStateChanged(ViewPager.SCROLL_STATE_SETTLING);
+
+		pipeline.onPageScrolled(0, 0.25f, 25);
+		pipeline.onPageScrolled(0, 0.5f, 50);
+
+		assertThat(listener.events,
+				contains("state 2", "scrolled 0 0.25 25", "scrolled 0 0.5 50"));
+	}
+
+	@Test
+	public void onPageScrolled_afterSettling_shouldDeferEvent() {
+		pipeline.onPageScrollStateChanged(ViewPager.SCROLL_STATE_SETTLING);
+		pipeline.onPageScrollStateChanged(ViewPager.SCROLL_STATE_DRAGGING);
+		listener.events.clear();
+
+		pipeline.onPageScrolled(0, 0.25f, 25);
+
+		assertThat(listener.events, is(empty()));
+	}
+
+	@Test
+	public void cancel_scrollPending_shouldDiscardEvent() {
+		pipeline.onPageScrolled(0, 0.5f, 50);
+
+		pipeline.cancel();
+		pipeline.flush();
+
+		assertThat(listener.events, is(empty()));
+	}
+
+	@Test
+	public void removeListener_shouldStopDispatchingToListener() {
+		pipeline.removeListener(listener);
+
+		pipeline.onPageSelected(1);
+
+		assertThat(listener.events, is(empty()));
+	}
+
+	@Test
+	public void addListener_calledTwice_shouldDispatchOnce() {
+		pipeline.addListener(listener);
+
+		pipeline.onPageSelected(1);
+
+		assertThat(listener.events, contains("selected 1"));
+	}
+
+	/**
+	 * An OnPageChangeListener which records a description of each event it receives.
+	 */
+	private static class RecordingListener implements OnPageChangeListener {
+		private final List<String> events = new ArrayList<>();
+
+		@Override
+		public void onPageScrolled(final int position, final float positionOffset,
+				final int positionOffsetPixels) {
+			events.add("scrolled " + position + " " + positionOffset + " " + positionOffsetPixels);
+		}
+
+		@Override
+		public void onPageSelected(final int position) {
+			events.add("selected " + position);
+		}
+
+		@Override
+		public void onPageScrollStateChanged(final int state) {
+			events.add("state " + state);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the {@link TransitionMetrics} class. These tests run on the plain JVM.
+ */
+public class TestTransitionMetrics {
+	/**
+	 * The expected time between frames, equivalent to a 60Hz display.
+	 */
+	private static final long FRAME_INTERVAL_NS = 16_666_667L;
+
+	/**
+	 * The metrics under test.
+	 */
+	private TransitionMetrics metrics;
+
+	@Before
+	public void init() {
+		metrics = new TransitionMetrics();
+	}
+
+	@Test
+	public void recordFrame_shouldCountEachFrame() {
+		metrics.recordFrame(FRAME_INTERVAL_NS, FRAME_INTERVAL_NS);
+		metrics.recordFrame(FRAME_INTERVAL_NS, FRAME_INTERVAL_NS);
+		metrics.recordFrame(2 * FRAME_INTERVAL_NS, FRAME_INTERVAL_NS);
+
+		assertThat(metrics.getFrameCount(), is(3));
+	}
+
+	@Test
+	public void recordFrame_onTime_shouldNotDropFrames() {
+		metrics.recordFrame(FRAME_INTERVAL_NS, FRAME_INTERVAL_NS);
+
+		// Jitter of less than half an interval must not count as a dropped frame
+		metrics.recordFrame(FRAME_INTERVAL_NS + (FRAME_INTERVAL_NS / 3), FRAME_INTERVAL_NS);
+		metrics.recordFrame(FRAME_INTERVAL_NS / 2, FRAME_INTERVAL_NS);
+
+		assertThat(metrics.getDroppedFrameCount(), is(0));
+	}
+
+	@Test
+	public void recordFrame_late_shouldCountMissedIntervals() {
+		metrics.recordFrame(3 * FRAME_INTERVAL_NS, FRAME_INTERVAL_NS);
+		assertThat(metrics.getDroppedFrameCount(), is(2));
+
+		// Just over one and a half intervals rounds up to two intervals
+		metrics.recordFrame(FRAME_INTERVAL_NS + (FRAME_INTERVAL_NS * 2 / 3), FRAME_INTERVAL_NS);
+		assertThat(metrics.getDroppedFrameCount(), is(3));
+	}
+
+	@Test
+	public void recordFrame_shouldKeepWorstFrameTime() {
+		metrics.recordFrame(FRAME_INTERVAL_NS, FRAME_INTERVAL_NS);
+		metrics.recordFrame(4 * FRAME_INTERVAL_NS, FRAME_INTERVAL_NS);
+		metrics.recordFrame(2 * FRAME_INTERVAL_NS, FRAME_INTERVAL_NS);
+
+		assertThat(metrics.getWorstFrameTimeNs(), is(4 * FRAME_INTERVAL_NS));
+	}
+
+	@Test
+	public void addTimes_shouldAccumulate() {
+		metrics.addBackgroundUpdateTime(10);
+		metrics.addBackgroundUpdateTime(5);
+		metrics.addPageTransformTime(20);
+		metrics.addPageTransformTime(7);
+		metrics.addIndicatorUpdateTime(30);
+		metrics.addIndicatorUpdateTime(3);
+
+		assertThat(metrics.getBackgroundUpdateTimeNs(), is(15L));
+		assertThat(metrics.getPageTransformTimeNs(), is(27L));
+		assertThat(metrics.getIndicatorUpdateTimeNs(), is(33L));
+	}
+
+	@Test
+	public void reset_shouldClearAllMeasurements() {
+		metrics.setDuration(100);
+		metrics.recordFrame(3 * FRAME_INTERVAL_NS, FRAME_INTERVAL_NS);
+		metrics.addBackgroundUpdateTime(10);
+		metrics.addPageTransformTime(20);
+		metrics.addIndicatorUpdateTime(30);
+
+		metrics.reset();
+
+		assertThat(metrics.getDurationNs(), is(0L));
+		assertThat(metrics.getFrameCount(), is(0));
+		assertThat(metrics.getDroppedFrameCount(), is(0));
+		assertThat(metrics.getWorstFrameTimeNs(), is(0L));
+		assertThat(metrics.getBackgroundUpdateTimeNs(), is(0L));
+		assertThat(metrics.getPageTransformTimeNs(), is(0L));
+		assertThat(metrics.getIndicatorUpdateTimeNs(), is(0L));
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.indicators;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.view.View.MeasureSpec;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the {@link CanvasDotIndicator} class.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestCanvasDotIndicator {
+	/**
+	 * Unselected diameter to use during testing, measured in pixels.
+	 */
+	private static final int UNSELECTED_DIAMETER_PX = 10;
+
+	/**
+	 * Selected diameter to use during testing, measured in pixels.
+	 */
+	private static final int SELECTED_DIAMETER_PX = 20;
+
+	/**
+	 * Spacing between dots to use during testing, measured in pixels.
+	 */
+	private static final int SPACING_PX = 5;
+
+	/**
+	 * Unselected color to use during testing, as an ARGB hex code.
+	 */
+	private static final int UNSELECTED_COLOR = Color.CYAN;
+
+	/**
+	 * Selected color to use during testing, as an ARGB hex code.
+	 */
+	private static final int SELECTED_COLOR = Color.RED;
+
+	/**
+	 * The indicator under test.
+	 */
+	private CanvasDotIndicator indicator;
+
+	@Before
+	public void init() {
+		final Context context = RuntimeEnvironment.application;
+
+		indicator = new CanvasDotIndicator(context);
+		indicator.setUnselectedDotDiameterPx(UNSELECTED_DIAMETER_PX);
+		indicator.setSelectedDotDiameterPx(SELECTED_DIAMETER_PX);
+		indicator.setSpacingBetweenDotsPx(SPACING_PX);
+		indicator.setUnselectedDotColor(UNSELECTED_COLOR);
+		indicator.setSelectedDotColor(SELECTED_COLOR);
+		indicator.setNumberOfItems(4);
+	}
+
+	@Test
+	public void onMeasure_unspecified_shouldWrapDots() {
+		final int unspecified = MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED);
+		indicator.measure(unspecified, unspecified);
+
+		// Three gaps between unselected dots, plus room for the largest dot
+		assertThat(indicator.getMeasuredWidth(),
+				is(3 * (UNSELECTED_DIAMETER_PX + SPACING_PX) + SELECTED_DIAMETER_PX));
+		assertThat(indicator.getMeasuredHeight(), is(SELECTED_DIAMETER_PX));
+	}
+
+	@Test
+	public void setSelectedItem_noAnimation_shouldReflectSelection() {
+		indicator.setSelectedItem(2, false);
+
+		assertThat(indicator.getSelectedItemIndex(), is(2));
+		assertThat(indicator.getCurrentDiameter(2), is((float) SELECTED_DIAMETER_PX));
+		assertThat(indicator.getCurrentColor(2), is(SELECTED_COLOR));
+		assertThat(indicator.getCurrentDiameter(0), is((float) UNSELECTED_DIAMETER_PX));
+		assertThat(indicator.getCurrentColor(0), is(UNSELECTED_COLOR));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void setSelectedItem_indexTooLarge_shouldThrowException() {
+		indicator.setSelectedItem(4, false); // Should throw exception
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void setSelectedItem_negativeIndex_shouldThrowException() {
+		indicator.setSelectedItem(-1, false); // Should throw exception
+	}
+
+	@Test
+	public void onSelectionScrolled_partialOffset_shouldShareSelectionBetweenDots() {
+		indicator.setSelectedItem(1, false);
+		indicator.onSelectionScrolled(1, 0.25f);
+
+		assertThat(indicator.getCurrentDiameter(1), is(17.5f));
+		assertThat(indicator.getCurrentDiameter(2), is(12.5f));
+		assertThat(indicator.getCurrentDiameter(0), is((float) UNSELECTED_DIAMETER_PX));
+	}
+
+	@Test
+	public void onSelectionScrolled_cameToRest_shouldSelectDot() {
+		indicator.setSelectedItem(1, false);
+		indicator.onSelectionScrolled(1, 0.75f);
+		indicator.setSelectedItem(2, true);
+		indicator.onSelectionScrolled(2, 0f);
+
+		assertThat(indicator.getSelectedItemIndex(), is(2));
+		assertThat(indicator.getCurrentColor(2), is(SELECTED_COLOR));
+		assertThat(indicator.getCurrentColor(1), is(UNSELECTED_COLOR));
+	}
+
+	@Test
+	public void setNumberOfItems_decreasedPastSelectedThenIncreased_shouldSelectLastRemainingDot() {
+		indicator.setSelectedItem(3, false);
+
+		indicator.setNumberOfItems(2);
+
+		assertThat(indicator.getSelectedItemIndex(), is(1));
+		assertThat(indicator.getCurrentColor(1), is(SELECTED_COLOR));
+
+		indicator.setNumberOfItems(4);
+
+		assertThat(indicator.getSelectedItemIndex(), is(1));
+		assertThat(indicator.getCurrentColor(1), is(SELECTED_COLOR));
+		assertThat(indicator.getCurrentColor(3), is(UNSELECTED_COLOR));
+	}
+}
@@ -18,6 +18,7 @@ package com.matthewtamlin.sliding_intro_screen_library.indicators;
 
 import android.content.Context;
 import android.graphics.Color;
+import android.view.View.MeasureSpec;
 
 import com.matthewtamlin.android_utilities_library.helpers.DimensionHelper;
 import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
@@ -235,4 +236,105 @@ public class TestDot {
 			throw new RuntimeException("state after toggling must be stable");
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void toggleState_boolean_afterLayout_shouldNotRequestLayout() {
+		final int unspecified = MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED);
+		dot.measure(unspecified, unspecified);
+		dot.layout(0, 0, dot.getMeasuredWidth(), dot.getMeasuredHeight());
+
+		dot.toggleState(false);
+
+		assertThat("state change requested a layout pass", !dot.isLayoutRequested());
+		assertThat("dot was not sized for the larger diameter", dot.getMeasuredWidth() ==
+				Math.max(dot.getActiveDiameter(), dot.getInactiveDiameter()));
+	}
+
+	@Test
+	public void edit_commit_shouldApplyAllChanges() {
+		dot.edit()
+				.setInactiveDiameterPx(INACTIVE_DIAMETER_PX)
+				.setActiveDiameterPx(ACTIVE_DIAMETER_PX)
+				.setInactiveColor(INACTIVE_COLOR)
+				.setActiveColor(ACTIVE_COLOR)
+				.setTransitionDuration(TRANSITION_DURATION_MS)
+				.commit();
+
+		assertThat(dot.getInactiveDiameter(), is(INACTIVE_DIAMETER_PX));
+		assertThat(dot.getActiveDiameter(), is(ACTIVE_DIAMETER_PX));
+		assertThat(dot.getInactiveColor(), is(INACTIVE_COLOR));
+		assertThat(dot.getActiveColor(), is(ACTIVE_COLOR));
+		assertThat(dot.getTransitionDuration(), is(TRANSITION_DURATION_MS));
+		assertThat(dot.getCurrentDiameter(), is(INACTIVE_DIAMETER_PX));
+		assertThat(dot.getCurrentColor(), is(INACTIVE_COLOR));
+	}
+
+	@Test
+	public void edit_withoutCommit_shouldNotApplyChanges() {
+		final int originalColor = dot.getInactiveColor();
+
+		dot.edit().setInactiveColor(INACTIVE_COLOR);
+
+		assertThat(dot.getInactiveColor(), is(originalColor));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void edit_invalidDiameter_shouldThrowException() {
+		dot.edit().setActiveDiameterPx(-1); // Should throw exception
+	}
+
+	@Test
+	public void constructor_shouldDrawAsLayout() {
+		assertThat("dot would skip onDraw", !dot.willNotDraw());
+	}
+
+	@Test
+	public void setInactive_animatedAfterPartialFraction_shouldStartFromCurrentSize() {
+		configureForTransitions();
+		dot.setActiveFraction(0.5f);
+		final int partialDiameter = dot.getCurrentDiameter();
+
+		dot.setInactive(true);
+
+		assertThat(dot.getCurrentState(), is(State.TRANSITIONING_TO_INACTIVE));
+		assertThat(dot.getCurrentDiameter(), is(partialDiameter));
+	}
+
+	@Test
+	public void setActive_animatedWhileDeactivating_shouldAnimateTowardsActive() {
+		configureForTransitions();
+		dot.setActiveFraction(0.5f);
+		dot.setInactive(true);
+		final int partialDiameter = dot.getCurrentDiameter();
+
+		dot.setActive(true);
+
+		assertThat(dot.getCurrentState(), is(State.TRANSITIONING_TO_ACTIVE));
+		assertThat(dot.getCurrentDiameter(), is(partialDiameter));
+	}
+
+	@Test
+	public void setInactive_notAnimatedAfterPartialFraction_shouldBecomeInactive() {
+		configureForTransitions();
+		dot.setActiveFraction(0.5f);
+
+		dot.setInactive(false);
+
+		assertThat(dot.getCurrentState(), is(State.INACTIVE));
+		assertThat(dot.getCurrentDiameter(), is(INACTIVE_DIAMETER_PX));
+		assertThat(dot.getCurrentColor(), is(INACTIVE_COLOR));
+	}
+
+	/**
+	 * Applies the test diameters, colors and transition duration to {@code dot}.
+	 */
+	private void configureForTransitions() {
+		dot.edit()
+				.setInactiveDiameterPx(INACTIVE_DIAMETER_PX)
+				.setActiveDiameterPx(ACTIVE_DIAMETER_PX)
+				.setInactiveColor(INACTIVE_COLOR)
+				.setActiveColor(ACTIVE_COLOR)
+				.setTransitionDuration(TRANSITION_DURATION_MS)
+				.commit();
+	}
+}
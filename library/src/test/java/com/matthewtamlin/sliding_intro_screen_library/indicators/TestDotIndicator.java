@@ -0,0 +1,219 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.indicators;
+
+import android.graphics.Color;
+import android.view.View;
+import android.view.View.MeasureSpec;
+import android.widget.RelativeLayout.LayoutParams;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+import com.matthewtamlin.sliding_intro_screen_library.indicators.Dot.State;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for the {@link DotIndicator} class.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestDotIndicator {
+	/**
+	 * The indicator under test.
+	 */
+	private DotIndicator indicator;
+
+	@Before
+	public void init() {
+		indicator = new DotIndicator(RuntimeEnvironment.application);
+		indicator.setNumberOfItems(3);
+		indicator.setSelectedItem(1, false);
+	}
+
+	@Test
+	public void setNumberOfItems_increased_shouldKeepExistingDots() {
+		final View firstDot = indicator.getChildAt(0);
+		final View selectedDot = indicator.getChildAt(1);
+
+		indicator.setNumberOfItems(5);
+
+		assertThat(indicator.getChildCount(), is(5));
+		assertThat(indicator.getChildAt(0), is(sameInstance(firstDot)));
+		assertThat(indicator.getChildAt(1), is(sameInstance(selectedDot)));
+		assertThat(((Dot) selectedDot).getCurrentState(), is(State.ACTIVE));
+		assertThat(((Dot) indicator.getChildAt(4)).getCurrentState(), is(State.INACTIVE));
+	}
+
+	@Test
+	public void setNumberOfItems_decreased_shouldRemoveTrailingDots() {
+		final View firstDot = indicator.getChildAt(0);
+
+		indicator.setNumberOfItems(1);
+
+		assertThat(indicator.getChildCount(), is(1));
+		assertThat(indicator.getChildAt(0), is(sameInstance(firstDot)));
+	}
+
+	@Test
+	public void setNumberOfItems_decreasedThenIncreased_shouldReuseDots() {
+		final View lastDot = indicator.getChildAt(2);
+
+		indicator.setNumberOfItems(2);
+		indicator.setNumberOfItems(3);
+
+		assertThat(indicator.getChildAt(2), is(sameInstance(lastDot)));
+		assertThat(((Dot) lastDot).getCurrentState(), is(State.INACTIVE));
+	}
+
+	@Test
+	public void setNumberOfItems_decreasedPastSelectedThenIncreased_shouldSelectLastRemainingDot() {
+		indicator.setSelectedItem(2, false);
+
+		indicator.setNumberOfItems(2);
+
+		assertThat(indicator.getSelectedItemIndex(), is(1));
+		assertThat(((Dot) indicator.getChildAt(1)).getCurrentState(), is(State.ACTIVE));
+
+		indicator.setNumberOfItems(4);
+
+		assertThat(indicator.getSelectedItemIndex(), is(1));
+		assertThat(((Dot) indicator.getChildAt(1)).getCurrentState(), is(State.ACTIVE));
+		assertThat(((Dot) indicator.getChildAt(2)).getCurrentState(), is(State.INACTIVE));
+		assertThat(((Dot) indicator.getChildAt(3)).getCurrentState(), is(State.INACTIVE));
+	}
+
+	@Test
+	public void setSelectedItem_afterResize_shouldUpdateDots() {
+		indicator.setNumberOfItems(4);
+		indicator.setSelectedItem(3, false);
+
+		assertThat(((Dot) indicator.getChildAt(1)).getCurrentState(), is(State.INACTIVE));
+		assertThat(((Dot) indicator.getChildAt(3)).getCurrentState(), is(State.ACTIVE));
+	}
+
+	@Test
+	public void onSelectionScrolled_partialOffset_shouldShareSelectionBetweenDots() {
+		indicator.onSelectionScrolled(1, 0.5f);
+
+		final Dot selectedDot = (Dot) indicator.getChildAt(1);
+		final Dot nextDot = (Dot) indicator.getChildAt(2);
+		final int midpointDiameter =
+				Math.round((selectedDot.getActiveDiameter() + selectedDot.getInactiveDiameter()) / 2f);
+
+		assertThat(selectedDot.getCurrentDiameter(), is(midpointDiameter));
+		assertThat(nextDot.getCurrentDiameter(), is(midpointDiameter));
+	}
+
+	@Test
+	public void onSelectionScrolled_cameToRest_shouldSelectDot() {
+		indicator.onSelectionScrolled(1, 0.5f);
+		indicator.setSelectedItem(2, true);
+		indicator.onSelectionScrolled(2, 0f);
+
+		assertThat(indicator.getSelectedItemIndex(), is(2));
+		assertThat(((Dot) indicator.getChildAt(1)).getCurrentState(), is(State.INACTIVE));
+		assertThat(((Dot) indicator.getChildAt(2)).getCurrentState(), is(State.ACTIVE));
+	}
+
+	@Test
+	public void onSelectionScrolled_cameToRestOnSameDot_shouldDeselectNextDot() {
+		indicator.onSelectionScrolled(1, 0.3f);
+		indicator.onSelectionScrolled(1, 0f);
+
+		final Dot nextDot = (Dot) indicator.getChildAt(2);
+
+		assertThat(((Dot) indicator.getChildAt(1)).getCurrentState(), is(State.ACTIVE));
+		assertThat(nextDot.getCurrentState(), is(State.INACTIVE));
+		assertThat(nextDot.getCurrentDiameter(), is(nextDot.getInactiveDiameter()));
+		assertThat(indicator.getSelectedItemIndex(), is(1));
+	}
+
+	@Test
+	public void onSelectionScrolled_atRestWithoutScroll_shouldNotChangeDots() {
+		indicator.onSelectionScrolled(0, 0f);
+
+		assertThat(indicator.getSelectedItemIndex(), is(1));
+		assertThat(((Dot) indicator.getChildAt(1)).getCurrentState(), is(State.ACTIVE));
+	}
+
+	@Test
+	public void setSelectedDotColor_shouldNotRequestLayout() {
+		layOutIndicator();
+
+		indicator.setSelectedDotColor(Color.RED);
+
+		assertThat(indicator.isLayoutRequested(), is(false));
+		assertThat(((Dot) indicator.getChildAt(1)).getActiveColor(), is(Color.RED));
+	}
+
+	@Test
+	public void setSpacingBetweenDotsPx_shouldRepositionDots() {
+		final int originalMargin = ((LayoutParams) indicator.getChildAt(2).getLayoutParams())
+				.leftMargin;
+
+		indicator.setSpacingBetweenDotsPx(indicator.getSpacingBetweenDots() + 10);
+
+		final int newMargin = ((LayoutParams) indicator.getChildAt(2).getLayoutParams())
+				.leftMargin;
+		assertThat(newMargin, is(originalMargin + 20));
+	}
+
+	@Test
+	public void commit_invalidValue_shouldNotApplyAnyChanges() {
+		final int originalColor = indicator.getSelectedDotColor();
+		final int originalDiameter = indicator.getSelectedDotDiameter();
+
+		try {
+			indicator.edit()
+					.setSelectedDotColor(Color.RED)
+					.setSelectedDotDiameterPx(originalDiameter + 1)
+					.setTransitionDuration(-1)
+					.commit();
+		} catch (final IllegalArgumentException e) {
+			// Expected
+		}
+
+		assertThat(indicator.getSelectedDotColor(), is(originalColor));
+		assertThat(indicator.getSelectedDotDiameter(), is(originalDiameter));
+		assertThat(((Dot) indicator.getChildAt(1)).getActiveColor(), is(originalColor));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setUnselectedDotDiameterPx_negative_shouldThrowException() {
+		indicator.setUnselectedDotDiameterPx(-1); // Should throw exception
+	}
+
+	/**
+	 * Measures and lays out the indicator, so that any subsequent layout request can be detected.
+	 */
+	private void layOutIndicator() {
+		final int widthSpec = MeasureSpec.makeMeasureSpec(1000, MeasureSpec.EXACTLY);
+		final int heightSpec = MeasureSpec.makeMeasureSpec(100, MeasureSpec.EXACTLY);
+
+		indicator.measure(widthSpec, heightSpec);
+		indicator.layout(0, 0, 1000, 100);
+	}
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.transformers;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+import com.matthewtamlin.sliding_intro_screen_library.transformers.KeyframeTransformer.Easing;
+import com.matthewtamlin.sliding_intro_screen_library.transformers.KeyframeTransformer.Property;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the {@link KeyframeTransformer} class.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestKeyframeTransformer {
+	/**
+	 * Resource ID of the first animated View.
+	 */
+	private static final int FIRST_ID = 1;
+
+	/**
+	 * Resource ID of the second animated View.
+	 */
+	private static final int SECOND_ID = 2;
+
+	/**
+	 * The number of transformations to perform when checking that the cached Views are reused.
+	 */
+	private static final int TRANSFORM_COUNT = 1000;
+
+	/**
+	 * The root View of the page to transform.
+	 */
+	private FrameLayout page;
+
+	/**
+	 * A child of the page with resource ID {@code FIRST_ID}.
+	 */
+	private RecordingView firstView;
+
+	/**
+	 * A child of the page with resource ID {@code SECOND_ID}.
+	 */
+	private RecordingView secondView;
+
+	/**
+	 * The transformer under test.
+	 */
+	private KeyframeTransformer transformer;
+
+	@Before
+	public void init() {
+		final Context context = RuntimeEnvironment.application;
+
+		page = new FrameLayout(context);
+		firstView = new RecordingView(context);
+		firstView.setId(FIRST_ID);
+		secondView = new RecordingView(context);
+		secondView.setId(SECOND_ID);
+		page.addView(firstView);
+		page.addView(secondView);
+
+		transformer = new KeyframeTransformer()
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, -1, 0)
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 0, 100)
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 1, 40);
+	}
+
+	@Test
+	public void transformPage_betweenKeyframes_shouldInterpolateLinearly() {
+		transformer.transformPage(page, -0.5f);
+		assertThat(firstView.getTranslationX(), is(50f));
+
+		transformer.transformPage(page, 0.5f);
+		assertThat(firstView.getTranslationX(), is(70f));
+	}
+
+	@Test
+	public void transformPage_atKeyframe_shouldUseKeyframeValue() {
+		transformer.transformPage(page, 0f);
+
+		assertThat(firstView.getTranslationX(), is(100f));
+	}
+
+	@Test
+	public void transformPage_outsideKeyframes_shouldHoldNearestValue() {
+		transformer.transformPage(page, -2f);
+		assertThat(firstView.getTranslationX(), is(0f));
+
+		transformer.transformPage(page, 2f);
+		assertThat(firstView.getTranslationX(), is(40f));
+	}
+
+	@Test
+	public void transformPage_keyframesDeclaredOutOfOrder_shouldSortByPosition() {
+		transformer = new KeyframeTransformer()
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 1, 100)
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 0, 0);
+
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getTranslationX(), is(50f));
+	}
+
+	@Test
+	public void transformPage_easeIn_shouldApplyEasing() {
+		transformer = new KeyframeTransformer()
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 0, 0)
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 1, 100, Easing.EASE_IN);
+
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getTranslationX(), is(25f));
+	}
+
+	@Test
+	public void transformPage_easeOut_shouldApplyEasing() {
+		transformer = new KeyframeTransformer()
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 0, 0)
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 1, 100, Easing.EASE_OUT);
+
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getTranslationX(), is(75f));
+	}
+
+	@Test
+	public void transformPage_easeInOut_shouldApplyEasing() {
+		transformer = new KeyframeTransformer()
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 0, 0)
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 1, 100, Easing.EASE_IN_OUT);
+
+		transformer.transformPage(page, 0.25f);
+		assertThat(firstView.getTranslationX(), is(12.5f));
+
+		transformer.transformPage(page, 0.75f);
+		assertThat(firstView.getTranslationX(), is(87.5f));
+	}
+
+	@Test
+	public void transformPage_easingOnFirstKeyframe_shouldBeIgnored() {
+		transformer = new KeyframeTransformer()
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 0, 0, Easing.EASE_IN)
+				.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 1, 100);
+
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getTranslationX(), is(50f));
+	}
+
+	@Test
+	public void transformPage_multipleTracks_shouldAnimateEachIndependently() {
+		transformer
+				.withKeyframe(FIRST_ID, Property.ALPHA, 0, 0)
+				.withKeyframe(FIRST_ID, Property.ALPHA, 1, 1)
+				.withKeyframe(SECOND_ID, Property.TRANSLATION_X, 0, -100)
+				.withKeyframe(SECOND_ID, Property.TRANSLATION_X, 1, 100);
+
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getTranslationX(), is(70f));
+		assertThat(firstView.getAlpha(), is(0.5f));
+		assertThat(secondView.getTranslationX(), is(0f));
+	}
+
+	@Test
+	public void transformPage_samePosition_shouldNotReapplyValue() {
+		transformer.transformPage(page, 0.5f);
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.translationCount, is(1));
+	}
+
+	@Test
+	public void transformPage_keyframeReplacedWhileAttached_shouldUseNewValue() {
+		transformer.transformPage(page, 0.5f);
+		transformer.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 1, 200);
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getTranslationX(), is(150f));
+	}
+
+	@Test
+	public void transformPage_trackAddedWhileAttached_shouldAnimateNewView() {
+		transformer.transformPage(page, 0.5f);
+		transformer
+				.withKeyframe(SECOND_ID, Property.TRANSLATION_X, 0, 0)
+				.withKeyframe(SECOND_ID, Property.TRANSLATION_X, 1, 10);
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getTranslationX(), is(70f));
+		assertThat(secondView.getTranslationX(), is(5f));
+	}
+
+	@Test
+	public void transformPage_trackRemovedWhileAttached_shouldLeaveViewUnchanged() {
+		transformer.transformPage(page, 0.5f);
+		transformer.withoutKeyframes(FIRST_ID);
+		transformer.transformPage(page, -0.5f);
+
+		assertThat(firstView.translationCount, is(1));
+		assertThat(firstView.getTranslationX(), is(70f));
+	}
+
+	@Test
+	public void transformPage_keyframesUnchanged_shouldReuseCachedViews() {
+		transformer.transformPage(page, 0.5f);
+
+		// If the cache were rebuilt, the replacement would be found instead of the original View
+		final RecordingView replacementView = replaceChild(firstView);
+
+		for (int i = 0; i < TRANSFORM_COUNT; i++) {
+			transformer.transformPage(page, ((i % 200) - 100) / 100.5f);
+		}
+
+		assertThat(firstView.translationCount, is(TRANSFORM_COUNT + 1));
+		assertThat(replacementView.translationCount, is(0));
+	}
+
+	@Test
+	public void transformPage_keyframesChanged_shouldLookUpViewsAgain() {
+		transformer.transformPage(page, 0.5f);
+
+		final RecordingView replacementView = replaceChild(firstView);
+
+		transformer.withKeyframe(FIRST_ID, Property.TRANSLATION_X, 1, 200);
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.translationCount, is(1));
+		assertThat(replacementView.translationCount, is(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withKeyframe_nullProperty_shouldThrowException() {
+		transformer.withKeyframe(FIRST_ID, null, 0, 0); // Should throw exception
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withKeyframe_nullEasing_shouldThrowException() {
+		transformer.withKeyframe(FIRST_ID, Property.ALPHA, 0, 0, null); // Should throw exception
+	}
+
+	/**
+	 * Removes a child from the page and adds a new child with the same resource ID.
+	 *
+	 * @param child
+	 * 		the child to replace, not null
+	 * @return the new child
+	 */
+	private RecordingView replaceChild(final RecordingView child) {
+		final RecordingView replacement = new RecordingView(page.getContext());
+		replacement.setId(child.getId());
+
+		page.removeView(child);
+		page.addView(replacement);
+
+		return replacement;
+	}
+
+	/**
+	 * A View which counts the number of times its X translation is set.
+	 */
+	private static class RecordingView extends View {
+		private int translationCount = 0;
+
+		public RecordingView(final Context context) {
+			super(context);
+		}
+
+		@Override
+		public void setTranslationX(final float translationX) {
+			super.setTranslationX(translationX);
+			translationCount++;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2016 Matthew Tamlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.matthewtamlin.sliding_intro_screen_library.transformers;
+
+import android.content.Context;
+import android.support.v4.view.ViewPager;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.matthewtamlin.sliding_intro_screen_library.BuildConfig;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit tests for the {@link MultiViewParallaxTransformer} class.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(sdk = 18, constants = BuildConfig.class)
+public class TestMultiViewParallaxTransformer {
+	/**
+	 * The width of the page to use during testing, measured in pixels.
+	 */
+	private static final int PAGE_WIDTH_PX = 1000;
+
+	/**
+	 * Resource ID of the first parallax View.
+	 */
+	private static final int FIRST_ID = 1;
+
+	/**
+	 * Resource ID of the second parallax View.
+	 */
+	private static final int SECOND_ID = 2;
+
+	/**
+	 * The number of transformations to perform when checking that the cached Views are reused.
+	 */
+	private static final int TRANSFORM_COUNT = 1000;
+
+	/**
+	 * The root View of the page to transform.
+	 */
+	private FrameLayout page;
+
+	/**
+	 * A child of the page with resource ID {@code FIRST_ID}.
+	 */
+	private RecordingView firstView;
+
+	/**
+	 * A child of the page with resource ID {@code SECOND_ID}.
+	 */
+	private RecordingView secondView;
+
+	/**
+	 * The transformer under test.
+	 */
+	private MultiViewParallaxTransformer transformer;
+
+	@Before
+	public void init() {
+		final Context context = RuntimeEnvironment.application;
+
+		page = new FrameLayout(context);
+		firstView = new RecordingView(context);
+		firstView.setId(FIRST_ID);
+		secondView = new RecordingView(context);
+		secondView.setId(SECOND_ID);
+		page.addView(firstView);
+		page.addView(secondView);
+		page.layout(0, 0, PAGE_WIDTH_PX, PAGE_WIDTH_PX);
+
+		transformer = new MultiViewParallaxTransformer()
+				.withParallaxView(FIRST_ID, 1.5f)
+				.withParallaxView(SECOND_ID, 0.5f);
+	}
+
+	@Test
+	public void transformPage_scrolling_shouldApplyParallaxDisplacement() {
+		transformer.transformPage(page, 0.5f);
+
+		// Nominal displacement is half the page width multiplied by the position
+		assertThat(firstView.getTranslationX(), is(125f));
+		assertThat(secondView.getTranslationX(), is(-125f));
+	}
+
+	@Test
+	public void transformPage_samePosition_shouldNotReapplyTranslation() {
+		transformer.transformPage(page, 0.5f);
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.translationCount, is(1));
+	}
+
+	@Test
+	public void transformPage_parallaxViewRemoved_shouldNotTransformView() {
+		transformer.transformPage(page, 0.5f);
+		transformer.withoutParallaxView(FIRST_ID);
+		transformer.transformPage(page, 0.25f);
+
+		assertThat(firstView.translationCount, is(1));
+		assertThat(secondView.translationCount, is(2));
+	}
+
+	@Test
+	public void transformPage_scrollingWithViewPromotion_shouldPromoteTransformedViews() {
+		transformer.withLayerPromotion(LayerPromotion.TRANSFORMED_VIEWS);
+		transformer.onPageScrollStateChanged(ViewPager.SCROLL_STATE_DRAGGING);
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getLayerType(), is(View.LAYER_TYPE_HARDWARE));
+		assertThat(secondView.getLayerType(), is(View.LAYER_TYPE_HARDWARE));
+		assertThat(page.getLayerType(), is(View.LAYER_TYPE_NONE));
+
+		transformer.onPageScrollStateChanged(ViewPager.SCROLL_STATE_IDLE);
+
+		assertThat(firstView.getLayerType(), is(View.LAYER_TYPE_NONE));
+		assertThat(secondView.getLayerType(), is(View.LAYER_TYPE_NONE));
+	}
+
+	@Test
+	public void transformPage_scrollingWithViewPromotion_shouldRestoreOriginalLayerType() {
+		firstView.setLayerType(View.LAYER_TYPE_SOFTWARE, null);
+		transformer.withLayerPromotion(LayerPromotion.TRANSFORMED_VIEWS);
+		transformer.onPageScrollStateChanged(ViewPager.SCROLL_STATE_SETTLING);
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getLayerType(), is(View.LAYER_TYPE_HARDWARE));
+
+		transformer.onPageScrollStateChanged(ViewPager.SCROLL_STATE_IDLE);
+
+		assertThat(firstView.getLayerType(), is(View.LAYER_TYPE_SOFTWARE));
+	}
+
+	@Test
+	public void transformPage_idleWithViewPromotion_shouldNotPromote() {
+		transformer.withLayerPromotion(LayerPromotion.TRANSFORMED_VIEWS);
+		transformer.transformPage(page, 0.5f);
+
+		assertThat(firstView.getLayerType(), is(View.LAYER_TYPE_NONE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withLayerPromotion_null_shouldThrowException() {
+		transformer.withLayerPromotion(null); // Should throw exception
+	}
+
+	@Test
+	public void transformPage_parallaxViewsUnchanged_shouldReuseCachedViews() {
+		transformer.transformPage(page, 0.5f);
+
+		// If the cache were rebuilt, the replacement would be found instead of the original View
+		final RecordingView replacementView = replaceChild(firstView);
+
+		for (int i = 0; i < TRANSFORM_COUNT; i++) {
+			// Vary the position so that the translations are actually applied
+			final float position = ((i % 200) - 100) / 100.5f;
+			transformer.transformPage(page, position == 0 ? 0.5f : position);
+		}
+
+		assertThat(firstView.translationCount, is(TRANSFORM_COUNT + 1));
+		assertThat(replacementView.translationCount, is(0));
+	}
+
+	@Test
+	public void transformPage_parallaxViewsChanged_shouldLookUpViewsAgain() {
+		transformer.transformPage(page, 0.5f);
+
+		final RecordingView replacementView = replaceChild(firstView);
+
+		transformer.withoutParallaxView(SECOND_ID);
+		transformer.transformPage(page, 0.25f);
+
+		assertThat(firstView.translationCount, is(1));
+		assertThat(replacementView.translationCount, is(1));
+	}
+
+	/**
+	 * Removes a child from the page and adds a new child with the same resource ID.
+	 *
+	 * @param child
+	 * 		the child to replace, not null
+	 * @return the new child
+	 */
+	private RecordingView replaceChild(final RecordingView child) {
+		final RecordingView replacement = new RecordingView(page.getContext());
+		replacement.setId(child.getId());
+
+		page.removeView(child);
+		page.addView(replacement);
+
+		return replacement;
+	}
+
+	/**
+	 * A View which counts the number of times its X translation is set.
+	 */
+	private static class RecordingView extends View {
+		private int translationCount = 0;
+
+		public RecordingView(final Context context) {
+			super(context);
+		}
+
+		@Override
+		public void setTranslationX(final float translationX) {
+			super.setTranslationX(translationX);
+			translationCount++;
+		}
+	}
+}